@@ -110,6 +110,17 @@ public class Configuration {
     private String driverName;
     private Credentials credentials;
     private Integer connectionLivenessCheckTimeout;
+    /**
+     * The number of records fetched from the database at a time, {@literal null} to use the default of the driver.
+     */
+    private Integer fetchSize;
+    /**
+     * Thresholds above which statements, their results and saves are logged as warnings, {@literal null} if disabled.
+     */
+    private Integer slowStatementThreshold;
+    private Integer largeResultThreshold;
+    private Integer largeParametersThreshold;
+    private Integer statementsPerSaveThreshold;
     private Boolean verifyConnection;
     private Boolean useNativeTypes;
     private Map<String, Object> customProperties;
@@ -141,6 +152,11 @@ public class Configuration {
         this.trustStrategy = builder.trustStrategy;
         this.trustCertFile = builder.trustCertFile;
         this.connectionLivenessCheckTimeout = builder.connectionLivenessCheckTimeout;
+        this.fetchSize = builder.fetchSize;
+        this.slowStatementThreshold = builder.slowStatementThreshold;
+        this.largeResultThreshold = builder.largeResultThreshold;
+        this.largeParametersThreshold = builder.largeParametersThreshold;
+        this.statementsPerSaveThreshold = builder.statementsPerSaveThreshold;
         this.verifyConnection = builder.verifyConnection != null ? builder.verifyConnection : false;
         this.autoIndex = builder.autoIndex != null ? AutoIndexMode.fromString(builder.autoIndex) : AutoIndexMode.NONE;
         this.generatedIndexesOutputDir =
@@ -242,6 +258,26 @@ public class Configuration {
         return connectionLivenessCheckTimeout;
     }
 
+    public Integer getFetchSize() {
+        return fetchSize;
+    }
+
+    public Integer getSlowStatementThreshold() {
+        return slowStatementThreshold;
+    }
+
+    public Integer getLargeResultThreshold() {
+        return largeResultThreshold;
+    }
+
+    public Integer getLargeParametersThreshold() {
+        return largeParametersThreshold;
+    }
+
+    public Integer getStatementsPerSaveThreshold() {
+        return statementsPerSaveThreshold;
+    }
+
     public Boolean getVerifyConnection() {
         return verifyConnection;
     }
@@ -333,6 +369,11 @@ public class Configuration {
             Objects.equals(driverName, that.driverName) &&
             Objects.equals(credentials, that.credentials) &&
             Objects.equals(connectionLivenessCheckTimeout, that.connectionLivenessCheckTimeout) &&
+            Objects.equals(fetchSize, that.fetchSize) &&
+            Objects.equals(slowStatementThreshold, that.slowStatementThreshold) &&
+            Objects.equals(largeResultThreshold, that.largeResultThreshold) &&
+            Objects.equals(largeParametersThreshold, that.largeParametersThreshold) &&
+            Objects.equals(statementsPerSaveThreshold, that.statementsPerSaveThreshold) &&
             Objects.equals(verifyConnection, that.verifyConnection) &&
             Objects.equals(useNativeTypes, that.useNativeTypes) &&
             Arrays.equals(basePackages, that.basePackages) &&
@@ -343,7 +384,8 @@ public class Configuration {
     public int hashCode() {
         int result = Objects.hash(uri, connectionPoolSize, encryptionLevel, trustStrategy, trustCertFile, autoIndex,
             generatedIndexesOutputDir, generatedIndexesOutputFilename, neo4jConfLocation, driverName, credentials,
-            connectionLivenessCheckTimeout, verifyConnection, useNativeTypes);
+            connectionLivenessCheckTimeout, fetchSize, slowStatementThreshold, largeResultThreshold,
+            largeParametersThreshold, statementsPerSaveThreshold, verifyConnection, useNativeTypes);
         result = 31 * result + Arrays.hashCode(uris);
         result = 31 * result + Arrays.hashCode(basePackages);
         return result;
@@ -365,6 +407,11 @@ public class Configuration {
         private static final String TRUST_STRATEGY = "trust.strategy";
         private static final String TRUST_CERT_FILE = "trust.certificate.file";
         private static final String CONNECTION_LIVENESS_CHECK_TIMEOUT = "connection.liveness.check.timeout";
+        private static final String FETCH_SIZE = "fetch.size";
+        private static final String SLOW_STATEMENT_THRESHOLD = "diagnostics.slow.statement.threshold";
+        private static final String LARGE_RESULT_THRESHOLD = "diagnostics.large.result.threshold";
+        private static final String LARGE_PARAMETERS_THRESHOLD = "diagnostics.large.parameters.threshold";
+        private static final String STATEMENTS_PER_SAVE_THRESHOLD = "diagnostics.statements.per.save.threshold";
         private static final String VERIFY_CONNECTION = "verify.connection";
         private static final String AUTO_INDEX = "indexes.auto";
         private static final String GENERATED_INDEXES_OUTPUT_DIR = "indexes.auto.dump.dir";
@@ -381,6 +428,11 @@ public class Configuration {
         private String trustStrategy;
         private String trustCertFile;
         private Integer connectionLivenessCheckTimeout;
+        private Integer fetchSize;
+        private Integer slowStatementThreshold;
+        private Integer largeResultThreshold;
+        private Integer largeParametersThreshold;
+        private Integer statementsPerSaveThreshold;
         private Boolean verifyConnection;
         private String autoIndex;
         private String generatedIndexesOutputDir;
@@ -437,6 +489,21 @@ public class Configuration {
                     case CONNECTION_LIVENESS_CHECK_TIMEOUT:
                         this.connectionLivenessCheckTimeout = Integer.valueOf(value);
                         break;
+                    case FETCH_SIZE:
+                        this.fetchSize = Integer.valueOf(value);
+                        break;
+                    case SLOW_STATEMENT_THRESHOLD:
+                        this.slowStatementThreshold = Integer.valueOf(value);
+                        break;
+                    case LARGE_RESULT_THRESHOLD:
+                        this.largeResultThreshold = Integer.valueOf(value);
+                        break;
+                    case LARGE_PARAMETERS_THRESHOLD:
+                        this.largeParametersThreshold = Integer.valueOf(value);
+                        break;
+                    case STATEMENTS_PER_SAVE_THRESHOLD:
+                        this.statementsPerSaveThreshold = Integer.valueOf(value);
+                        break;
                     case VERIFY_CONNECTION:
                         this.verifyConnection = Boolean.valueOf(value);
                         break;
@@ -482,6 +549,11 @@ public class Configuration {
                 .trustStrategy(builder.trustStrategy)
                 .trustCertFile(builder.trustCertFile)
                 .connectionLivenessCheckTimeout(builder.connectionLivenessCheckTimeout)
+                .fetchSize(builder.fetchSize)
+                .slowStatementThreshold(builder.slowStatementThreshold)
+                .largeResultThreshold(builder.largeResultThreshold)
+                .largeParametersThreshold(builder.largeParametersThreshold)
+                .statementsPerSaveThreshold(builder.statementsPerSaveThreshold)
                 .verifyConnection(builder.verifyConnection)
                 .autoIndex(builder.autoIndex)
                 .generatedIndexesOutputDir(builder.generatedIndexesOutputDir)
@@ -580,6 +652,64 @@ public class Configuration {
             return this;
         }
 
+        /**
+         * Number of records fetched from the database at a time, {@literal -1} fetches all records at once.
+         * Valid only for the bolt driver, which uses its own default when this is not set. The HTTP and embedded
+         * drivers ignore it.
+         *
+         * @param fetchSize number of records fetched at a time
+         * @return the changed builder
+         */
+        public Builder fetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Statements taking longer than this, including reading their results, are logged as warnings.
+         *
+         * @param slowStatementThreshold duration in milliseconds, {@literal null} to disable the warning
+         * @return the changed builder
+         */
+        public Builder slowStatementThreshold(Integer slowStatementThreshold) {
+            this.slowStatementThreshold = slowStatementThreshold;
+            return this;
+        }
+
+        /**
+         * Statements returning more rows than this are logged as warnings.
+         *
+         * @param largeResultThreshold number of rows, {@literal null} to disable the warning
+         * @return the changed builder
+         */
+        public Builder largeResultThreshold(Integer largeResultThreshold) {
+            this.largeResultThreshold = largeResultThreshold;
+            return this;
+        }
+
+        /**
+         * Statements with more parameter values than this are logged as warnings. Each element of a list, array or
+         * map parameter counts as a value, nested ones as well.
+         *
+         * @param largeParametersThreshold number of parameter values, {@literal null} to disable the warning
+         * @return the changed builder
+         */
+        public Builder largeParametersThreshold(Integer largeParametersThreshold) {
+            this.largeParametersThreshold = largeParametersThreshold;
+            return this;
+        }
+
+        /**
+         * Saves sending more statements than this to the database are logged as warnings.
+         *
+         * @param statementsPerSaveThreshold number of statements, {@literal null} to disable the warning
+         * @return the changed builder
+         */
+        public Builder statementsPerSaveThreshold(Integer statementsPerSaveThreshold) {
+            this.statementsPerSaveThreshold = statementsPerSaveThreshold;
+            return this;
+        }
+
         /**
          * Whether OGM should verify connection to the database at creation of the Driver
          * Useful for "fail-fast" type of configuration where the database is expected to be running during application
@@ -142,6 +142,26 @@ public abstract class AbstractConfigurableDriver implements Driver {
         return loadedCypherModification;
     }
 
+    /**
+     * @return The number of statements whose modified Cypher has been reused, {@literal 0} if there are no Cypher
+     * modifications or one of them is not deterministic
+     */
+    public final long getCypherModificationCacheHits() {
+        Function<String, String> loadedCypherModification = this.cypherModification;
+        return loadedCypherModification instanceof MemoizedCypherModification ?
+            ((MemoizedCypherModification) loadedCypherModification).getHits() : 0L;
+    }
+
+    /**
+     * @return The number of statements that have been modified because no modified Cypher was remembered for them,
+     * {@literal 0} if there are no Cypher modifications or one of them is not deterministic
+     */
+    public final long getCypherModificationCacheMisses() {
+        Function<String, String> loadedCypherModification = this.cypherModification;
+        return loadedCypherModification instanceof MemoizedCypherModification ?
+            ((MemoizedCypherModification) loadedCypherModification).getMisses() : 0L;
+    }
+
     /**
      * Utility method to load the dedicated driver version of native types.
      *
@@ -213,9 +233,20 @@ public abstract class AbstractConfigurableDriver implements Driver {
         ServiceLoader<CypherModificationProvider> currentProviderLoader = this.cypherModificationProviderLoader.get();
         currentProviderLoader.reload();
 
-        return StreamSupport.stream(currentProviderLoader.spliterator(), false)
+        List<CypherModificationProvider> providers = StreamSupport
+            .stream(currentProviderLoader.spliterator(), false)
             .sorted(Comparator.comparing(CypherModificationProvider::getOrder))
+            .collect(toList());
+        if (providers.isEmpty()) {
+            return Function.identity();
+        }
+
+        Function<String, String> loadedCypherModification = providers.stream()
             .map(provider -> provider.getCypherModification(configurationProperties))
             .reduce(Function.identity(), Function::andThen, Function::andThen);
+        if (providers.stream().allMatch(CypherModificationProvider::isDeterministic)) {
+            return new MemoizedCypherModification(loadedCypherModification);
+        }
+        return loadedCypherModification;
     }
 }
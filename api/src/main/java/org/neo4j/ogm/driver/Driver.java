@@ -49,6 +49,17 @@ public interface Driver extends AutoCloseable {
      */
     Request request(Transaction transaction);
 
+    /**
+     * Creates a request handler for the current transaction of the given transaction manager. Drivers running
+     * statements outside of transactions may use the transaction manager to report bookmarks.
+     *
+     * @param transactionManager The transaction manager of the session issuing the request
+     * @return A new request handler
+     */
+    default Request request(TransactionManager transactionManager) {
+        return request(transactionManager.getCurrentTransaction());
+    }
+
     Configuration getConfiguration();
 
     default Function<String, String> getCypherModification() {
@@ -65,6 +76,17 @@ public interface Driver extends AutoCloseable {
         return true;
     }
 
+    /**
+     * Indicates if the driver requires an explicit transaction to run a unit of work of the given type, that is not
+     * part of a transaction started by client code. Read-only units of work issued by OGM run a single statement.
+     *
+     * @param type The type of the unit of work
+     * @return true if client code has to setup a transaction, false if the driver can auto-commit.
+     */
+    default boolean requiresTransaction(Transaction.Type type) {
+        return requiresTransaction();
+    }
+
     /**
      * This returns the type system of the specific drivers. A type system for a driver is set of types that
      * are special to Neo4j and can be represented in either Java built-ins or dedicated types. The driver interface
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Remembers the modified Cypher of deterministic {@link org.neo4j.ogm.spi.CypherModificationProvider Cypher modifications}.
+ * The statements generated by OGM are built from a small set of templates, so most of them are modified only once.
+ */
+final class MemoizedCypherModification implements Function<String, String> {
+
+    /**
+     * Queries passed to the session may contain literals, which makes the number of statements unbounded, so no more
+     * statements are remembered once this size is reached.
+     */
+    static final int MAXIMUM_MODIFIED_STATEMENTS = 1024;
+
+    private final Function<String, String> cypherModification;
+    private final Map<String, String> modifiedStatements = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    MemoizedCypherModification(Function<String, String> cypherModification) {
+        this.cypherModification = cypherModification;
+    }
+
+    @Override
+    public String apply(String cypher) {
+
+        String modifiedCypher = modifiedStatements.get(cypher);
+        if (modifiedCypher != null) {
+            hits.increment();
+            return modifiedCypher;
+        }
+
+        misses.increment();
+        modifiedCypher = cypherModification.apply(cypher);
+        if (modifiedCypher != null && modifiedStatements.size() < MAXIMUM_MODIFIED_STATEMENTS) {
+            modifiedStatements.putIfAbsent(cypher, modifiedCypher);
+        }
+        return modifiedCypher;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+}
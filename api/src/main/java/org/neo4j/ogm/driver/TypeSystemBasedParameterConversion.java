@@ -18,28 +18,36 @@
  */
 package org.neo4j.ogm.driver;
 
-import static java.util.stream.Collectors.*;
-
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
- * This conversion mode first tries to map all parameters to a FOOBAR  and uses them directly. For all non supported
- * object types, it falls back to the default object mapper based conversion.
+ * This conversion mode first tries to map all parameters to a native type of the configured type system and uses them
+ * directly. For all non supported object types, it falls back to the default object mapper based conversion.
+ * <p>
+ * How a value is converted only depends on its class, so the decision is computed once per class and cached. Lists
+ * and maps whose content is already native are passed on as is and are only copied when at least one of their
+ * elements has actually been converted.
  *
  * @author Michael J. Simons
  * @author Gerrit Meier
  */
 class TypeSystemBasedParameterConversion implements ParameterConversion {
 
+    private static final String FALLBACK_KEY = "u";
+
     private final ParameterConversion fallback = DefaultParameterConversion.INSTANCE;
 
     private final TypeSystem typeSystem;
 
+    private final Map<Class<?>, Conversion> conversions = new ConcurrentHashMap<>();
+
     TypeSystemBasedParameterConversion(TypeSystem typeSystem) {
         this.typeSystem = typeSystem;
     }
@@ -47,35 +55,93 @@ class TypeSystemBasedParameterConversion implements ParameterConversion {
     @Override
     public Map<String, Object> convertParameters(Map<String, Object> originalParameter) {
 
-        final Map<String, Object> convertedParameter = new HashMap<>(originalParameter.size());
-        final Map<String, Object> unconvertedParameter = new HashMap<>(originalParameter.size());
-
-        originalParameter.forEach((parameterKey, unconvertedValue) -> {
+        final Map<String, Object> convertedParameter = new HashMap<>(originalParameter);
+        convertEntries(originalParameter, convertedParameter);
+        return convertedParameter;
+    }
 
+    /**
+     * Converts all entries of {@code source} that need conversion and stores them in {@code target}. If {@code target}
+     * is {@literal null}, it will be created as a copy of source as soon as the first entry changes.
+     *
+     * @param source The map to convert
+     * @param target The map that receives converted entries, may be null
+     * @return The map containing the converted entries, {@code source} itself if nothing had to be converted
+     */
+    private Map<String, Object> convertEntries(Map<String, Object> source, Map<String, Object> target) {
+
+        Map<String, Object> result = target;
+        Map<String, Object> unconvertedParameter = null;
+
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object unconvertedValue = entry.getValue();
             if (unconvertedValue == null) {
-                convertedParameter.put(parameterKey, null);
-            } else if (unconvertedValue instanceof List) {
-                convertedParameter.put(parameterKey, convertListItems((List) unconvertedValue));
-            } else if (unconvertedValue.getClass().isArray()) {
-                convertedParameter.put(parameterKey, convertArrayItems(unconvertedValue));
-            } else if (unconvertedValue instanceof Map) {
-                convertedParameter.put(parameterKey, convertParameters((Map<String, Object>) unconvertedValue));
-            } else if (typeSystem.supportsAsNativeType(unconvertedValue.getClass())) {
-                Object convertedValue = typeSystem.getMappedToNativeTypeAdapter(unconvertedValue.getClass())
-                    .apply(unconvertedValue);
-                convertedParameter.put(parameterKey, convertedValue);
-            } else {
-                unconvertedParameter.put(parameterKey, unconvertedValue);
+                continue;
             }
-        });
 
-        convertedParameter.putAll(fallback.convertParameters(unconvertedParameter));
-        return convertedParameter;
+            Conversion conversion = conversionFor(unconvertedValue.getClass());
+            if (conversion.kind == Kind.FALLBACK) {
+                if (unconvertedParameter == null) {
+                    unconvertedParameter = new HashMap<>();
+                }
+                unconvertedParameter.put(entry.getKey(), unconvertedValue);
+                continue;
+            }
+
+            Object convertedValue = convert(conversion, unconvertedValue);
+            if (convertedValue != unconvertedValue) {
+                if (result == null) {
+                    result = new HashMap<>(source);
+                }
+                result.put(entry.getKey(), convertedValue);
+            }
+        }
+
+        if (unconvertedParameter != null) {
+            if (result == null) {
+                result = new HashMap<>(source);
+            }
+            result.putAll(fallback.convertParameters(unconvertedParameter));
+        }
+        return result == null ? source : result;
+    }
+
+    private Object convertSingle(Object value) {
+
+        return value == null ? null : convert(conversionFor(value.getClass()), value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(Conversion conversion, Object value) {
+
+        switch (conversion.kind) {
+            case NATIVE:
+                return conversion.adapter.apply(value);
+            case LIST:
+                return convertListItems((List<Object>) value);
+            case MAP:
+                return convertEntries((Map<String, Object>) value, null);
+            case ARRAY:
+                return convertArrayItems(value);
+            default:
+                return fallback.convertParameters(Collections.singletonMap(FALLBACK_KEY, value)).get(FALLBACK_KEY);
+        }
     }
 
-    private List<?> convertListItems(List<?> unconvertedValues) {
+    private List<?> convertListItems(List<Object> unconvertedValues) {
 
-        return unconvertedValues.stream().map(this::convertSingle).collect(toList());
+        List<Object> convertedValues = null;
+        for (int i = 0, size = unconvertedValues.size(); i < size; ++i) {
+            Object unconvertedValue = unconvertedValues.get(i);
+            Object convertedValue = convertSingle(unconvertedValue);
+            if (convertedValues == null && convertedValue != unconvertedValue) {
+                convertedValues = new ArrayList<>(unconvertedValues.subList(0, i));
+            }
+            if (convertedValues != null) {
+                convertedValues.add(convertedValue);
+            }
+        }
+        return convertedValues == null ? unconvertedValues : convertedValues;
     }
 
     private Object[] convertArrayItems(Object unconvertedValues) {
@@ -90,14 +156,51 @@ class TypeSystemBasedParameterConversion implements ParameterConversion {
         return convertedValues;
     }
 
-    private Object convertSingle(Object value) {
-        Predicate<Class> isSupportedNativeCollection = c -> List.class.isAssignableFrom(c) || Map.class.isAssignableFrom(c);
+    private Conversion conversionFor(Class<?> type) {
+
+        Conversion conversion = conversions.get(type);
+        if (conversion == null) {
+            conversion = conversions.computeIfAbsent(type, this::classify);
+        }
+        return conversion;
+    }
+
+    private Conversion classify(Class<?> type) {
 
-        if (isSupportedNativeCollection.negate().and(typeSystem::supportsAsNativeType).test(value.getClass())) {
-            return typeSystem.getMappedToNativeTypeAdapter(value.getClass()).apply(value);
+        if (List.class.isAssignableFrom(type)) {
+            return Conversion.LIST;
+        } else if (type.isArray()) {
+            return Conversion.ARRAY;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return Conversion.MAP;
+        } else if (typeSystem.supportsAsNativeType(type)) {
+            return new Conversion(Kind.NATIVE, typeSystem.getMappedToNativeTypeAdapter(type));
         } else {
-            String fixedKey = "u";
-            return convertParameters(Collections.singletonMap(fixedKey, value)).get(fixedKey);
+            return Conversion.FALLBACK;
+        }
+    }
+
+    private enum Kind {
+        NATIVE, LIST, MAP, ARRAY, FALLBACK
+    }
+
+    /**
+     * The cached decision how to convert values of a given class.
+     */
+    private static final class Conversion {
+
+        static final Conversion LIST = new Conversion(Kind.LIST, null);
+        static final Conversion MAP = new Conversion(Kind.MAP, null);
+        static final Conversion ARRAY = new Conversion(Kind.ARRAY, null);
+        static final Conversion FALLBACK = new Conversion(Kind.FALLBACK, null);
+
+        final Kind kind;
+
+        final Function<Object, Object> adapter;
+
+        Conversion(Kind kind, Function<Object, Object> adapter) {
+            this.kind = kind;
+            this.adapter = adapter;
         }
     }
 }
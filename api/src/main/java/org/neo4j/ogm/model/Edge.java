@@ -18,8 +18,6 @@
  */
 package org.neo4j.ogm.model;
 
-import java.util.List;
-
 /**
  * @author vince
  */
@@ -31,8 +29,6 @@ public interface Edge extends PropertyContainer {
 
     Long getEndNode();
 
-    List<Property<String, Object>> getPropertyList();
-
     /**
      * Returns name of the primary id property (property annotated with @Id)
      */
@@ -19,8 +19,8 @@
 package org.neo4j.ogm.model;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -32,8 +32,6 @@ public interface Node extends PropertyContainer {
 
     String[] getLabels();
 
-    List<Property<String, Object>> getPropertyList();
-
     String getPrimaryIndex();
 
     /**
@@ -65,18 +63,17 @@ public interface Node extends PropertyContainer {
     default Map<String, Object> toRow(String nodeIdTarget) {
         Map<String, Object> rowMap = new HashMap<>();
         rowMap.put(nodeIdTarget, this.getId());
-        Map<String, Object> props = new HashMap<>();
-        for (Property property : this.getPropertyList()) {
+        Map<String, Object> props = this.getProperties();
+        if (this.hasVersionProperty()) {
+            Property<String, Long> version = this.getVersion();
             // Don't include version property into props, it will be incremented by the query
-            if (!property.equals(this.getVersion())) {
-                props.put((String) property.getKey(), property.getValue());
+            if (Objects.equals(props.get(version.getKey()), version.getValue())) {
+                props = new HashMap<>(props);
+                props.remove(version.getKey());
             }
+            rowMap.put(version.getKey(), version.getValue());
         }
         rowMap.put("props", props);
-        if (this.hasVersionProperty()) {
-            Property version = this.getVersion();
-            rowMap.put((String) version.getKey(), version.getValue());
-        }
         return rowMap;
     }
 }
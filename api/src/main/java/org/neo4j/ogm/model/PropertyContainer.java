@@ -18,6 +18,9 @@
  */
 package org.neo4j.ogm.model;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -37,6 +40,22 @@ public interface PropertyContainer {
      */
     Property<String, Long> getVersion();
 
+    List<Property<String, Object>> getPropertyList();
+
+    /**
+     * Returns the properties of this container keyed by their name. Implementations are encouraged to return their
+     * underlying storage as an unmodifiable view instead of creating a copy.
+     *
+     * @return The properties of this container
+     */
+    default Map<String, Object> getProperties() {
+        Map<String, Object> properties = new HashMap<>();
+        for (Property<String, Object> property : getPropertyList()) {
+            properties.put(property.getKey(), property.getValue());
+        }
+        return properties;
+    }
+
     void setPreviousDynamicCompositeProperties(Set<String> previousDynamicCompositeProperties);
 
     void addCurrentDynamicCompositeProperties(Set<String> additionalDynamicCompositeProperties);
@@ -18,12 +18,17 @@
  */
 package org.neo4j.ogm.response.model;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.model.PropertyContainer;
 
 /**
@@ -31,6 +36,18 @@ import org.neo4j.ogm.model.PropertyContainer;
  * @soundtrack Die Toten Hosen - Willkommen in Deutschland
  */
 abstract class AbstractPropertyContainer implements PropertyContainer {
+
+    /**
+     * The properties of this container, keyed by name. A map handed in through {@link #setProperties(Map)} is used
+     * as is and only copied when properties are added afterwards.
+     */
+    private Map<String, Object> properties = Collections.emptyMap();
+
+    /**
+     * Flag, whether {@link #properties} has been created by this container and can be modified.
+     */
+    private boolean propertiesOwned = false;
+
     /**
      * This stores the current set of dynamic properties as they have been stored into this node model from the entity
      * to graph mapping.
@@ -42,6 +59,52 @@ abstract class AbstractPropertyContainer implements PropertyContainer {
      */
     private Set<String> previousDynamicCompositeProperties = Collections.emptySet();
 
+    /**
+     * Uses the given map as properties of this container. The map is not copied.
+     *
+     * @param properties The properties of this container, usually as returned by the driver
+     */
+    public void setProperties(Map<String, Object> properties) {
+        this.properties = properties;
+        this.propertiesOwned = false;
+    }
+
+    /**
+     * Adds or replaces a single property.
+     *
+     * @param key   The name of the property
+     * @param value The value of the property
+     */
+    public void addProperty(String key, Object value) {
+        if (!propertiesOwned) {
+            this.properties = new LinkedHashMap<>(this.properties);
+            this.propertiesOwned = true;
+        }
+        this.properties.put(key, value);
+    }
+
+    public boolean hasProperty(String key) {
+        return properties.containsKey(key);
+    }
+
+    public Object property(String key) {
+        return properties.get(key);
+    }
+
+    public Map<String, Object> getProperties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * @return A new list of all properties. Prefer {@link #getProperties()} or {@link #property(String)}, which don't
+     * copy anything.
+     */
+    public List<Property<String, Object>> getPropertyList() {
+        List<Property<String, Object>> propertyList = new ArrayList<>(properties.size());
+        properties.forEach((key, value) -> propertyList.add(new PropertyModel<>(key, value)));
+        return Collections.unmodifiableList(propertyList);
+    }
+
     @Override
     public void addCurrentDynamicCompositeProperties(Set<String> additionalDynamicCompositeProperties) {
         this.currentDynamicCompositeProperties.addAll(additionalDynamicCompositeProperties);
@@ -20,12 +20,9 @@ package org.neo4j.ogm.response.model;
 
 import static java.util.stream.Collectors.*;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -44,7 +41,6 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
     private final Long id;
     private Property<String, Long> version;
     private String[] labels;
-    private List<Property<String, Object>> properties = new ArrayList<>();
     private String primaryIndex;
     /** Flag, if this node has been generated through pattern comprehension. */
     private boolean generatedNode = false;
@@ -66,11 +62,6 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
         this.generatedNode = generatedNode;
     }
 
-    @Override
-    public List<Property<String, Object>> getPropertyList() {
-        return properties;
-    }
-
     @Override
     public String getPrimaryIndex() {
         return primaryIndex;
@@ -80,13 +71,6 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
         this.primaryIndex = primaryIndex;
     }
 
-    public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
-    }
-
     @Override
     public Long getId() {
         return id;
@@ -124,15 +108,6 @@ public class NodeModel extends AbstractPropertyContainer implements Node {
         this.labels = labels;
     }
 
-    public Object property(String key) {
-        for (Property property : properties) {
-            if (property.getKey().equals(key)) {
-                return property.getValue();
-            }
-        }
-        return null;
-    }
-
     @Override
     public String labelSignature() {
         return Stream.concat(
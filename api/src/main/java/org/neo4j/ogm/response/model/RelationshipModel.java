@@ -18,10 +18,6 @@
  */
 package org.neo4j.ogm.response.model;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 
@@ -36,7 +32,6 @@ public class RelationshipModel extends AbstractPropertyContainer implements Edge
     private String type;
     private Long startNode;
     private Long endNode;
-    private List<Property<String, Object>> properties = new ArrayList<>();
     private String primaryIdName;
 
     public Long getId() {
@@ -84,22 +79,11 @@ public class RelationshipModel extends AbstractPropertyContainer implements Edge
         this.endNode = endNode;
     }
 
-    public List<Property<String, Object>> getPropertyList() {
-        return properties;
-    }
-
     @Override
     public String getPrimaryIdName() {
         return primaryIdName;
     }
 
-    public void setProperties(Map<String, Object> properties) {
-        this.properties = new ArrayList<>();
-        for (Map.Entry<String, Object> entry : properties.entrySet()) {
-            this.properties.add(new PropertyModel<>(entry.getKey(), entry.getValue()));
-        }
-    }
-
     public void setPrimaryIdName(String primaryIdPropertyName) {
         this.primaryIdName = primaryIdPropertyName;
     }
@@ -29,16 +29,24 @@ import org.neo4j.ogm.support.CollectionUtils;
  */
 public class BaseAdapter {
 
+    /**
+     * Replaces array values with iterables. The given map is returned as is if it doesn't contain any arrays,
+     * otherwise a copy is returned.
+     *
+     * @param properties The properties to convert
+     * @return A map without array values
+     */
     public Map<String, Object> convertArrayPropertiesToIterable(Map<String, Object> properties) {
-        Map<String, Object> props = new HashMap<>();
-        for (String k : properties.keySet()) {
-            Object v = properties.get(k);
-            if (v.getClass().isArray()) {
-                props.put(k, CollectionUtils.iterableOf(v));
-            } else {
-                props.put(k, v);
+        Map<String, Object> props = null;
+        for (Map.Entry<String, Object> entry : properties.entrySet()) {
+            Object v = entry.getValue();
+            if (v != null && v.getClass().isArray()) {
+                if (props == null) {
+                    props = new HashMap<>(properties);
+                }
+                props.put(entry.getKey(), CollectionUtils.iterableOf(v));
             }
         }
-        return props;
+        return props == null ? properties : props;
     }
 }
@@ -70,4 +70,17 @@ public interface CypherModificationProvider {
      * @return The actual cypher modification
      */
     Function<String, String> getCypherModification(Map<String, Object> configuration);
+
+    /**
+     * Indicates whether the modification always returns the same Cypher for the same statement. OGM remembers the
+     * modified statements as long as all providers are deterministic. Only return {@literal true} if the modification
+     * depends on nothing but the statement, and not for example on a tenant bound to the current thread. Providers are
+     * not deterministic by default, so that existing modifications keep being applied to every statement.
+     *
+     * @return true, if the modified statements may be reused
+     * @since 4.0
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
 }
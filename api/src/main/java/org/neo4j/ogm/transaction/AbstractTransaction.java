@@ -102,6 +102,16 @@ public abstract class AbstractTransaction implements Transaction {
         }
     }
 
+    /**
+     * Has to be called by drivers before they commit the native transaction, so that pending changes can still be
+     * written in this transaction. Does nothing for extensions of a transaction.
+     */
+    protected void beforeCommit() {
+        if (transactionManager != null && extendsCount.get() == 0 && canCommit()) {
+            transactionManager.beforeCommit(this);
+        }
+    }
+
     @Override
     public boolean canCommit() {
         return status == Status.OPEN || status == Status.PENDING || status == Status.COMMIT_PENDING;
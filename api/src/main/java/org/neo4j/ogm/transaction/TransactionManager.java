@@ -66,6 +66,17 @@ public interface TransactionManager {
      */
     void commit(Transaction transaction);
 
+    /**
+     * Gives the transaction manager the chance to write pending changes, like saves buffered by the session, as part
+     * of the specified transaction before it is committed.
+     *
+     * <strong>Warning</strong>: This method is meant to be called from actual transactions only!!!
+     *
+     * @param transaction the transaction about to be committed
+     */
+    default void beforeCommit(Transaction transaction) {
+    }
+
     /**
      * Returns the current transaction for this thread, or null if none exists
      *
@@ -78,4 +89,14 @@ public interface TransactionManager {
     boolean canRollback();
 
     void bookmark(String bookmark);
+
+    /**
+     * Returns the last bookmark reported by {@link #bookmark(String)}. Drivers pass it to the transactions they open
+     * on their own, so that these see the writes made before.
+     *
+     * @return the last bookmark, or null if there is none
+     */
+    default String getLastBookmark() {
+        return null;
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class TypeSystemBasedParameterConversionTest {
+
+    private static final TypeSystem LOCAL_DATE_AS_STRING = new TypeSystem() {
+        @Override
+        public boolean supportsAsNativeType(Class<?> clazz) {
+            return TypeSystem.super.supportsAsNativeType(clazz) || LocalDate.class == clazz;
+        }
+
+        @Override
+        public Function<Object, Object> getMappedToNativeTypeAdapter(Class<?> clazz) {
+            return LocalDate.class == clazz ? Object::toString : Function.identity();
+        }
+    };
+
+    private final ParameterConversion conversion = new TypeSystemBasedParameterConversion(LOCAL_DATE_AS_STRING);
+
+    @Test
+    public void shouldPassNativeRowsThroughWithoutCopying() {
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long i = 0; i < 3; ++i) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("name", "n" + i);
+            props.put("flag", true);
+            props.put("missing", null);
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", -i);
+            row.put("props", props);
+            rows.add(row);
+        }
+
+        Map<String, Object> converted = conversion.convertParameters(Collections.singletonMap("rows", rows));
+
+        assertThat(converted.get("rows")).isSameAs(rows);
+    }
+
+    @Test
+    public void shouldOnlyCopyContainersWithConvertedValues() {
+
+        Map<String, Object> unchanged = Collections.singletonMap("name", "unchanged");
+        Map<String, Object> changed = new HashMap<>();
+        changed.put("name", "changed");
+        changed.put("date", LocalDate.of(2020, 1, 1));
+        List<Object> rows = Arrays.asList(unchanged, changed);
+
+        Map<String, Object> converted = conversion.convertParameters(Collections.singletonMap("rows", rows));
+
+        List<Object> convertedRows = (List<Object>) converted.get("rows");
+        assertThat(convertedRows).isNotSameAs(rows).hasSize(2);
+        assertThat(convertedRows.get(0)).isSameAs(unchanged);
+        assertThat((Map<String, Object>) convertedRows.get(1))
+            .containsEntry("name", "changed")
+            .containsEntry("date", "2020-01-01");
+        assertThat(changed).containsEntry("date", LocalDate.of(2020, 1, 1));
+    }
+
+    @Test
+    public void shouldConvertArraysAndUseFallbackForUnsupportedTypes() {
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("array", new Object[] { LocalDate.of(2020, 1, 1), new Unsupported("inArray") });
+        parameters.put("int", 42);
+        parameters.put("list", Arrays.asList(1, 2L, null, new Unsupported("inList")));
+        parameters.put("map", Collections.singletonMap("nested", new Unsupported("inMap")));
+        parameters.put("null", null);
+        parameters.put("unsupported", new Unsupported("topLevel"));
+
+        Map<String, Object> converted = conversion.convertParameters(parameters);
+
+        assertThat((Object[]) converted.get("array"))
+            .containsExactly("2020-01-01", Collections.singletonMap("name", "inArray"));
+        // Integers aren't native either, the object mapper turns them into longs
+        assertThat(converted).containsEntry("int", 42L).containsEntry("null", null);
+        assertThat((List<Object>) converted.get("list"))
+            .containsExactly(1L, 2L, null, Collections.singletonMap("name", "inList"));
+        assertThat((Map<String, Object>) converted.get("map"))
+            .containsEntry("nested", Collections.singletonMap("name", "inMap"));
+        assertThat(converted).containsEntry("unsupported", Collections.singletonMap("name", "topLevel"));
+    }
+
+    /**
+     * Neither native nor a container, only the object mapper can convert it.
+     */
+    public static class Unsupported {
+
+        private final String name;
+
+        Unsupported(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.response.model;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class NodeModelTest {
+
+    @Test
+    public void shouldUsePropertiesWithoutCopying() {
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Alice");
+
+        NodeModel nodeModel = new NodeModel(1L);
+        nodeModel.setProperties(properties);
+        properties.put("age", 42L);
+
+        assertThat(nodeModel.property("name")).isEqualTo("Alice");
+        assertThat(nodeModel.property("age")).isEqualTo(42L);
+        assertThat(nodeModel.getProperties()).containsOnlyKeys("name", "age");
+        assertThat(nodeModel.getPropertyList()).extracting("key").containsOnly("name", "age");
+    }
+
+    @Test
+    public void shouldNotModifyUnderlyingPropertiesWhenAddingProperties() {
+
+        Map<String, Object> properties = Collections.singletonMap("name", "Alice");
+
+        NodeModel nodeModel = new NodeModel(1L);
+        nodeModel.setProperties(properties);
+        nodeModel.addProperty("age", 42L);
+
+        assertThat(properties).containsOnlyKeys("name");
+        assertThat(nodeModel.hasProperty("age")).isTrue();
+        assertThat(nodeModel.getProperties()).containsOnlyKeys("name", "age");
+    }
+
+    @Test
+    public void toRowShouldExcludeUnchangedVersion() {
+
+        NodeModel nodeModel = new NodeModel(1L);
+        nodeModel.addProperty("name", "Alice");
+        nodeModel.addProperty("version", 1L);
+        nodeModel.setVersion(new PropertyModel<>("version", 1L));
+
+        Map<String, Object> row = nodeModel.toRow("nodeRef");
+
+        assertThat(row).containsEntry("nodeRef", 1L).containsEntry("version", 1L);
+        assertThat((Map<String, Object>) row.get("props")).containsOnlyKeys("name");
+    }
+}
@@ -32,6 +32,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -77,6 +78,13 @@ public class BoltDriver extends AbstractConfigurableDriver {
      */
     private String database = null;
 
+    /**
+     * Number of sessions opened with {@link AccessMode#READ} respectively {@link AccessMode#WRITE}. With a routing
+     * driver, read sessions go to followers and read replicas, write sessions to the leader.
+     */
+    private final LongAdder readSessions = new LongAdder();
+    private final LongAdder writeSessions = new LongAdder();
+
     // required for service loader mechanism
     public BoltDriver() {
     }
@@ -266,6 +274,45 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return new BoltRequest(transaction, this.parameterConversion, new BoltEntityAdapter(typeSystem), getCypherModification());
     }
 
+    /**
+     * Statements outside of transactions run in auto-commit transactions. They start from the last bookmark of the
+     * transaction manager, so that they see the writes made before, and their bookmarks are reported to the
+     * transaction manager like the ones of committed transactions.
+     *
+     * @param transactionManager The transaction manager of the session issuing the request
+     * @return A new request handler
+     */
+    @Override
+    public Request request(TransactionManager transactionManager) {
+
+        Transaction transaction = transactionManager.getCurrentTransaction();
+        if (transaction != null) {
+            return request(transaction);
+        }
+
+        Supplier<Session> autoCommitSessionSupplier = () -> {
+            checkDriverInitialized();
+            String lastBookmark = transactionManager.getLastBookmark();
+            return newSession(Transaction.Type.READ_ONLY,
+                lastBookmark == null ? Collections.emptySet() : Collections.singleton(lastBookmark));
+        };
+        return new BoltRequest(autoCommitSessionSupplier,
+            bookmark -> transactionManager.bookmark(bookmarkAsString(bookmark)),
+            this.parameterConversion, new BoltEntityAdapter(typeSystem), getCypherModification());
+    }
+
+    /**
+     * Read-only units of work outside of transactions consist of a single statement, which is run in an auto-commit
+     * transaction. This saves the round trips for beginning and committing an explicit transaction.
+     *
+     * @param type The type of the unit of work
+     * @return true for anything but read-only units of work
+     */
+    @Override
+    public boolean requiresTransaction(Transaction.Type type) {
+        return type != Transaction.Type.READ_ONLY;
+    }
+
     public <T> T unwrap(Class<T> clazz) {
 
         if (clazz == Driver.class) {
@@ -285,6 +332,7 @@ public class BoltDriver extends AbstractConfigurableDriver {
                 sessionConfigBuilder = sessionConfigBuilder.withDatabase(database);
             }
             boltSession = boltDriver.session(sessionConfigBuilder.build());
+            (accessMode == AccessMode.READ ? readSessions : writeSessions).increment();
         } catch (ClientException ce) {
             throw new ConnectionException(
                 "Error connecting to graph database using Bolt: " + ce.code() + ", " + ce.getMessage(), ce);
@@ -294,6 +342,21 @@ public class BoltDriver extends AbstractConfigurableDriver {
         return boltSession;
     }
 
+    /**
+     * @return The number of sessions this driver opened in read mode, which a routing driver sends to followers
+     * and read replicas
+     */
+    public long getReadSessionCount() {
+        return readSessions.sum();
+    }
+
+    /**
+     * @return The number of sessions this driver opened in write mode, which a routing driver sends to the leader
+     */
+    public long getWriteSessionCount() {
+        return writeSessions.sum();
+    }
+
     private Optional<Logging> getBoltLogging() {
 
         Object possibleLogging = customPropertiesSupplier.get().get(CONFIG_PARAMETER_BOLT_LOGGING);
@@ -340,6 +403,10 @@ public class BoltDriver extends AbstractConfigurableDriver {
                     TimeUnit.MILLISECONDS);
             }
 
+            if (configuration.getFetchSize() != null) {
+                configBuilder.withFetchSize(configuration.getFetchSize());
+            }
+
             getBoltLogging().ifPresent(configBuilder::withLogging);
 
             return configBuilder.build();
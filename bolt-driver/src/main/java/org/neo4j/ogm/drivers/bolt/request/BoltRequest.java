@@ -21,9 +21,15 @@ package org.neo4j.ogm.drivers.bolt.request;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.QueryRunner;
 import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.DatabaseException;
 import org.neo4j.driver.exceptions.TransientException;
@@ -37,6 +43,7 @@ import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.model.RestModel;
 import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.DefaultRequest;
@@ -63,6 +70,13 @@ public class BoltRequest implements Request {
 
     private final Transaction transaction;
 
+    /**
+     * Opens sessions for statements running in auto-commit transactions, {@literal null} if statements run in the transaction.
+     */
+    private final Supplier<Session> autoCommitSessionSupplier;
+
+    private final Consumer<Bookmark> bookmarkConsumer;
+
     private final ParameterConversion parameterConversion;
 
     private final BoltEntityAdapter entityAdapter;
@@ -72,6 +86,29 @@ public class BoltRequest implements Request {
     public BoltRequest(Transaction transaction, ParameterConversion parameterConversion, BoltEntityAdapter entityAdapter,
         Function<String, String> cypherModification) {
         this.transaction = transaction;
+        this.autoCommitSessionSupplier = null;
+        this.bookmarkConsumer = null;
+        this.parameterConversion = parameterConversion;
+        this.entityAdapter = entityAdapter;
+        this.cypherModification = cypherModification;
+    }
+
+    /**
+     * Creates a request that runs its statements in auto-commit transactions instead of an explicit transaction. The
+     * session of a statement is closed together with its response.
+     *
+     * @param autoCommitSessionSupplier Opens the sessions to run the statements in
+     * @param bookmarkConsumer          Receives the bookmark of each session after it has been closed
+     * @param parameterConversion       The parameter conversion to use
+     * @param entityAdapter             The entity adapter to use
+     * @param cypherModification        The Cypher modification to apply to the statements
+     */
+    public BoltRequest(Supplier<Session> autoCommitSessionSupplier, Consumer<Bookmark> bookmarkConsumer,
+        ParameterConversion parameterConversion, BoltEntityAdapter entityAdapter,
+        Function<String, String> cypherModification) {
+        this.transaction = null;
+        this.autoCommitSessionSupplier = autoCommitSessionSupplier;
+        this.bookmarkConsumer = bookmarkConsumer;
         this.parameterConversion = parameterConversion;
         this.entityAdapter = entityAdapter;
         this.cypherModification = cypherModification;
@@ -82,7 +119,7 @@ public class BoltRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         }
-        return new GraphModelResponse(executeRequest(request), entityAdapter);
+        return execute(request, result -> new GraphModelResponse(result, entityAdapter));
     }
 
     @Override
@@ -91,16 +128,32 @@ public class BoltRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         }
-        return new RowModelResponse(executeRequest(request), entityAdapter);
+        return execute(request, result -> new RowModelResponse(result, entityAdapter));
     }
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
+        if (autoCommitSessionSupplier == null) {
+            return execute(query, () -> ((BoltTransaction) transaction).nativeBoltTransaction());
+        }
+
+        Session session = autoCommitSessionSupplier.get();
+        Response<RowModel> response;
+        try {
+            response = execute(query, () -> session);
+        } finally {
+            session.close();
+        }
+        reportBookmark(session);
+        return response;
+    }
+
+    private Response<RowModel> execute(DefaultRequest query, Supplier<QueryRunner> queryRunner) {
         final List<RowModel> rowModels = new ArrayList<>();
         String[] columns = null;
         for (Statement statement : query.getStatements()) {
 
-            Result result = executeRequest(statement);
+            Result result = executeRequest(queryRunner.get(), statement);
 
             if (columns == null) {
                 try {
@@ -159,7 +212,7 @@ public class BoltRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         }
-        return new GraphRowModelResponse(executeRequest(request), entityAdapter);
+        return execute(request, result -> new GraphRowModelResponse(result, entityAdapter));
     }
 
     @Override
@@ -167,10 +220,25 @@ public class BoltRequest implements Request {
         if (request.getStatement().length() == 0) {
             return new EmptyResponse();
         }
-        return new RestModelResponse(executeRequest(request), entityAdapter);
+        return execute(request, result -> new RestModelResponse(result, entityAdapter));
+    }
+
+    private <T> Response<T> execute(Statement request, Function<Result, Response<T>> responseFactory) {
+        if (autoCommitSessionSupplier == null) {
+            BoltTransaction tx = (BoltTransaction) transaction;
+            return responseFactory.apply(executeRequest(tx.nativeBoltTransaction(), request));
+        }
+
+        Session session = autoCommitSessionSupplier.get();
+        try {
+            return new AutoCommitResponse<>(responseFactory.apply(executeRequest(session, request)), session);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
     }
 
-    private Result executeRequest(Statement request) {
+    private Result executeRequest(QueryRunner queryRunner, Statement request) {
         try {
             Map<String, Object> parameterMap = this.parameterConversion.convertParameters(request.getParameters());
             String cypher = cypherModification.apply(request.getStatement());
@@ -178,10 +246,63 @@ public class BoltRequest implements Request {
                 LOGGER.debug("Request: {} with params {}", cypher, parameterMap);
             }
 
-            BoltTransaction tx = (BoltTransaction) transaction;
-            return tx.nativeBoltTransaction().run(cypher, parameterMap);
+            return queryRunner.run(cypher, parameterMap);
         } catch (ClientException | DatabaseException | TransientException ce) {
             throw new CypherException(ce.code(), ce.getMessage(), ce);
         }
     }
+
+    private void reportBookmark(Session session) {
+        Bookmark bookmark = session.lastBookmark();
+        if (bookmark != null) {
+            bookmarkConsumer.accept(bookmark);
+        }
+    }
+
+    /**
+     * A response closing the session of its auto-commit transaction when closed.
+     */
+    private class AutoCommitResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+
+        private final Session session;
+
+        private boolean closed;
+
+        AutoCommitResponse(Response<T> delegate, Session session) {
+            this.delegate = delegate;
+            this.session = session;
+        }
+
+        @Override
+        public T next() {
+            return delegate.next();
+        }
+
+        @Override
+        public void close() {
+            // Responses may be closed more than once
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                delegate.close();
+            } finally {
+                session.close();
+            }
+            reportBookmark(session);
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
 }
@@ -56,7 +56,8 @@ public abstract class BoltResponse<T> implements Response {
 
     @Override
     public void close() {
-        // Consume the rest of the result and thus closing underlying resources.
+        // Consume the rest of the result and thus closing underlying resources. With a fetch size configured, records
+        // not pulled yet are discarded on the server instead of being streamed to the client.
         result.consume();
     }
 
@@ -88,6 +88,7 @@ public class BoltTransaction extends AbstractTransaction {
 
     @Override
     public void commit() {
+        beforeCommit();
         final boolean canCommit = transactionManager.canCommit();
         try {
             if (canCommit) {
@@ -115,14 +116,21 @@ public class BoltTransaction extends AbstractTransaction {
                 Bookmark bookmark = nativeSession.lastBookmark();
 
                 if (bookmark != null) {
-                    String bookmarkAsString = String.join(BOOKMARK_SEPARATOR, ((InternalBookmark) bookmark).values());
-                    transactionManager.bookmark(bookmarkAsString);
+                    transactionManager.bookmark(bookmarkAsString(bookmark));
                 }
 
             }
         }
     }
 
+    /**
+     * @param bookmark A bookmark of the native driver, possibly consisting of several values
+     * @return The values of the bookmark joined into a single string
+     */
+    public static String bookmarkAsString(Bookmark bookmark) {
+        return String.join(BOOKMARK_SEPARATOR, ((InternalBookmark) bookmark).values());
+    }
+
     public Transaction nativeBoltTransaction() {
         return nativeTransaction;
     }
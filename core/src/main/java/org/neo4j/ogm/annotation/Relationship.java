@@ -61,6 +61,7 @@ public @interface Relationship {
 
     String TYPE = "type";
     String DIRECTION = "direction";
+    String LAZY = "lazy";
 
     // Alias for the enum constants. These allow for some compatibility between 3.2 and 4.0
     Direction INCOMING = Direction.INCOMING;
@@ -81,4 +82,12 @@ public @interface Relationship {
      */
     Direction direction() default Direction.OUTGOING;
 
+    /**
+     * Whether the related entities are loaded on first access instead of together with the entity. Only supported
+     * for fields declared as {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set}.
+     * The path load strategy still fetches the related entities, but doesn't add them to the field before its first
+     * access. Defaults to false.
+     */
+    boolean lazy() default false;
+
 }
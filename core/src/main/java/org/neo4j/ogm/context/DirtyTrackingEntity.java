@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Set;
+
+/**
+ * Implemented by entity classes that have been enhanced with the {@code neo4j-ogm-entity-enhancer}. Enhanced classes
+ * record the names of the fields written by their own code, so that the {@link MappingContext} doesn't need to hash
+ * the properties of an entity to find out whether it has changed.
+ * <p>
+ * The enhancer adds a private static field named {@value #ENHANCED_MARKER} to each class it instruments. A class
+ * is only treated as tracking its changes, if all of its superclasses declaring fields carry that marker, too.
+ * This interface is not meant to be implemented manually.
+ */
+public interface DirtyTrackingEntity {
+
+    /**
+     * Name of the marker field added to each enhanced class.
+     */
+    String ENHANCED_MARKER = "$ogm_enhanced";
+
+    /**
+     * @return The names of the fields that have been written since the changes have been cleared the last time
+     */
+    Set<String> $ogm_dirtyFields();
+
+    /**
+     * Forgets about all written fields. Called when the state of the entity is remembered by the mapping context.
+     */
+    void $ogm_clearDirtyFields();
+}
@@ -18,29 +18,32 @@
  */
 package org.neo4j.ogm.context;
 
-import org.neo4j.ogm.annotation.Relationship.Direction;
-
 import static java.util.Objects.*;
-import static java.util.stream.Collectors.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+
+import org.neo4j.ogm.annotation.Relationship.Direction;
 
 /**
  * Utility to help group elements of a common type into a single collection (by relationship type and direction) to be set on an owning object.
  * The ability to set a collection of instances on an owning entity based on the type of instance is insufficient as described in DATAGRAPH-637, DATAGRAPH-636 and Issue 161.
  * The relationship type and direction as well as the type of entity to be mapped are required to be able to correctly determine which instances are to be set for which property of the node entity.
+ * <p>
+ * The collector is called once per edge of a result, so it avoids boxed keys and nested maps: Source nodes are kept in a
+ * primitive long keyed open addressing table, each source owns a small list of target groups (relationship type, direction
+ * and target type) and each group stores the ids of its targets in parallel primitive arrays next to the list of targets
+ * that is eventually handed out.
  *
  * @author Adam George
  * @author Luanne Misquitta
  */
 class EntityCollector {
 
-    // node id -> relationship -> target type -> (relationshipId, targetGraphId, target)
-    private final Map<Long, Map<DirectedRelationship, Map<Class, Collection<TargetTriple>>>> collected = new HashMap<>();
+    // node id -> (relationship type, direction, target type) -> (relationshipId, targetGraphId, target)
+    private final SourceTable collected = new SourceTable();
 
     /**
      * Adds the given collectible target into a collection based on relationship type and direction ready to be set on
@@ -56,7 +59,7 @@ class EntityCollector {
     public void collectRelationship(Long sourceId, Class startPropertyType, String relationshipType,
         Direction relationshipDirection, long relationshipId, long targetId, Object target) {
         record(sourceId, startPropertyType, relationshipType, relationshipDirection,
-            new TargetTriple(relationshipId, targetId, target));
+            relationshipId, targetId, requireNonNull(target));
     }
 
     /**
@@ -71,101 +74,216 @@ class EntityCollector {
      */
     public void collectRelationship(Long sourceId, Class startPropertyType, String relationshipType,
         Direction relationshipDirection, long targetId, Object target) {
-        record(sourceId, startPropertyType, relationshipType, relationshipDirection,
-            new TargetTriple(targetId, target));
+        record(sourceId, startPropertyType, relationshipType, relationshipDirection, -1, targetId, target);
     }
 
-    private void record(Long owningEntityId, Class startPropertyType, String relationshipType,
-        Direction relationshipDirection, TargetTriple triple) {
-        this.collected.computeIfAbsent(owningEntityId, k -> new HashMap<>());
-        DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
-        this.collected.get(owningEntityId).computeIfAbsent(directedRelationship, k -> new HashMap<>());
-        this.collected.get(owningEntityId).get(directedRelationship)
-            .computeIfAbsent(startPropertyType, k -> new HashSet<>());
-        this.collected.get(owningEntityId).get(directedRelationship).get(startPropertyType).add(triple);
+    private void record(long owningEntityId, Class startPropertyType, String relationshipType,
+        Direction relationshipDirection, long relationshipId, long targetId, Object target) {
+        collected.bucketFor(owningEntityId)
+            .groupFor(relationshipType, relationshipDirection, startPropertyType)
+            .add(relationshipId, targetId, target);
     }
 
     public void forCollectedEntities(CollectedHandler handler) {
 
-        collected.forEach((sourceId, relationshipMap) -> {
+        for (int i = 0; i < collected.size; ++i) {
+            SourceBucket bucket = collected.buckets[i];
+            for (int j = 0; j < bucket.size; ++j) {
+                TargetGroup group = bucket.groups[j];
+                handler.handle(bucket.sourceId, group.relationshipType, group.direction, group.targetType,
+                    group.targets);
+            }
+        }
+    }
+
+    interface CollectedHandler {
+
+        void handle(Long sourceId, String type, Direction direction, Class targetType, Collection<Object> entities);
+    }
+
+    /**
+     * Open addressing table from a source node id to its bucket. Buckets are additionally kept in insertion order,
+     * which makes iteration cheap and the order of collected entities deterministic.
+     */
+    private static class SourceTable {
 
-            relationshipMap.forEach((relationship, targetTypeMap) -> {
-                String type = relationship.type();
-                Direction direction = relationship.direction();
+        private static final int INITIAL_CAPACITY = 16;
 
-                targetTypeMap.forEach((targetType, entityTriples) -> {
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] slots = new int[INITIAL_CAPACITY]; // index into buckets plus one, zero marks an empty slot
 
-                    List<Object> entities = entityTriples.stream().map(TargetTriple::getTarget).collect(toList());
+        private SourceBucket[] buckets = new SourceBucket[INITIAL_CAPACITY / 2];
+        private int size;
 
-                    handler.handle(sourceId, type, direction, targetType, entities);
-                });
+        SourceBucket bucketFor(long sourceId) {
 
-            });
+            int mask = keys.length - 1;
+            int slot = mix(sourceId) & mask;
+            while (slots[slot] != 0) {
+                if (keys[slot] == sourceId) {
+                    return buckets[slots[slot] - 1];
+                }
+                slot = (slot + 1) & mask;
+            }
 
-        });
+            if (size == buckets.length) {
+                grow();
+                return bucketFor(sourceId);
+            }
 
+            SourceBucket bucket = new SourceBucket(sourceId);
+            buckets[size++] = bucket;
+            keys[slot] = sourceId;
+            slots[slot] = size;
+            return bucket;
+        }
+
+        private void grow() {
+
+            int newCapacity = keys.length * 2;
+            keys = new long[newCapacity];
+            slots = new int[newCapacity];
+            buckets = Arrays.copyOf(buckets, newCapacity / 2);
+
+            int mask = newCapacity - 1;
+            for (int i = 0; i < size; ++i) {
+                long sourceId = buckets[i].sourceId;
+                int slot = mix(sourceId) & mask;
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = sourceId;
+                slots[slot] = i + 1;
+            }
+        }
     }
 
-    interface CollectedHandler {
+    /**
+     * All target groups of one source node. There are usually only a handful of relationship types per node, so the
+     * groups are found by a linear scan.
+     */
+    private static class SourceBucket {
 
-        void handle(Long sourceId, String type, Direction direction, Class targetType, Collection<Object> entities);
+        private final long sourceId;
+
+        private TargetGroup[] groups = new TargetGroup[2];
+        private int size;
+
+        SourceBucket(long sourceId) {
+            this.sourceId = sourceId;
+        }
+
+        TargetGroup groupFor(String relationshipType, Direction direction, Class targetType) {
+
+            for (int i = 0; i < size; ++i) {
+                TargetGroup group = groups[i];
+                if (group.direction == direction && group.targetType == targetType
+                    && group.relationshipType.equals(relationshipType)) {
+                    return group;
+                }
+            }
+
+            if (size == groups.length) {
+                groups = Arrays.copyOf(groups, size * 2);
+            }
+            TargetGroup group = new TargetGroup(relationshipType, direction, targetType);
+            groups[size++] = group;
+            return group;
+        }
     }
 
     /**
-     * This is (relationshipId, targetGraphId, target) triple that keeps track of relationships.
+     * Keeps track of (relationshipId, targetGraphId, target) triples of one relationship type, direction and target type.
      * Relationship id and object id are used for equality - target equality is intentionally ignored.
      * Relationship id is used when relationship has a corresponding RelationshipEntity.
      * For simple relationships only target object id is used because we don't distinguish between simple relationships
      * to same node.
+     * <p>
+     * Small groups are checked for duplicates by scanning the id arrays, larger ones get an open addressing index into
+     * those arrays.
      */
-    private static class TargetTriple {
+    private static class TargetGroup {
 
-        private final long relationshipId;
-        private final long targetGraphId;
-        private final Object target;
+        private static final int LINEAR_SCAN_THRESHOLD = 8;
 
-        TargetTriple(long targetGraphId, Object target) {
-            this.relationshipId = -1;
-            this.targetGraphId = targetGraphId;
-            this.target = target;
-        }
+        private final String relationshipType;
+        private final Direction direction;
+        private final Class targetType;
 
-        TargetTriple(long relationshipId, long targetGraphId, Object target) {
-            this.relationshipId = relationshipId;
-            this.targetGraphId = targetGraphId;
-            this.target = requireNonNull(target);
-        }
+        private long[] relationshipIds = new long[4];
+        private long[] targetGraphIds = new long[4];
+        private final List<Object> targets = new ArrayList<>(4);
 
-        public long getRelationshipId() {
-            return relationshipId;
-        }
+        private int[] index; // position in the id arrays plus one, zero marks an empty slot
 
-        public Object getTarget() {
-            return target;
+        TargetGroup(String relationshipType, Direction direction, Class targetType) {
+            this.relationshipType = relationshipType;
+            this.direction = direction;
+            this.targetType = targetType;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
+        void add(long relationshipId, long targetGraphId, Object target) {
+
+            int size = targets.size();
+            if (index == null) {
+                for (int i = 0; i < size; ++i) {
+                    if (relationshipIds[i] == relationshipId && targetGraphIds[i] == targetGraphId) {
+                        return;
+                    }
+                }
+            } else {
+                int mask = index.length - 1;
+                int slot = mix(relationshipId, targetGraphId) & mask;
+                while (index[slot] != 0) {
+                    int i = index[slot] - 1;
+                    if (relationshipIds[i] == relationshipId && targetGraphIds[i] == targetGraphId) {
+                        return;
+                    }
+                    slot = (slot + 1) & mask;
+                }
             }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+
+            if (size == relationshipIds.length) {
+                relationshipIds = Arrays.copyOf(relationshipIds, size * 2);
+                targetGraphIds = Arrays.copyOf(targetGraphIds, size * 2);
             }
+            relationshipIds[size] = relationshipId;
+            targetGraphIds[size] = targetGraphId;
+            targets.add(target);
+
+            if (index != null && (size + 1) * 2 <= index.length) {
+                insert(index, size);
+            } else if (size + 1 > LINEAR_SCAN_THRESHOLD) {
+                rebuildIndex(size + 1);
+            }
+        }
 
-            TargetTriple that = (TargetTriple) o;
+        private void rebuildIndex(int size) {
 
-            if (relationshipId != that.relationshipId) {
-                return false;
+            int capacity = Integer.highestOneBit(size) << 2;
+            index = new int[capacity];
+            for (int i = 0; i < size; ++i) {
+                insert(index, i);
             }
-            return targetGraphId == that.targetGraphId;
         }
 
-        @Override
-        public int hashCode() {
-            int result = (int) (relationshipId ^ (relationshipId >>> 32));
-            result = 31 * result + (int) (targetGraphId ^ (targetGraphId >>> 32));
-            return result;
+        private void insert(int[] index, int position) {
+
+            int mask = index.length - 1;
+            int slot = mix(relationshipIds[position], targetGraphIds[position]) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = position + 1;
         }
     }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int mix(long first, long second) {
+        return mix(first * 31 + second);
+    }
 }
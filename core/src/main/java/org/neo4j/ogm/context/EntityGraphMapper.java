@@ -20,10 +20,17 @@ package org.neo4j.ogm.context;
 
 import static org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements.*;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -68,12 +75,19 @@ public class EntityGraphMapper implements EntityMapper {
     /**
      * This tracks the current depth of mapping. While the session uses "depth" as external language, the
      * compiler context uses horizon. This here is the current depth of the mapping: 0 being the entrance at {@link #map(Object, int)},
-     * incremented by 1 one each time entering {@link #mapEntityReferences(Object, NodeBuilder, int)} and decremented
-     * accordingly. This is ugly and is yet one more state, but is needed to decide whether a root object is allowed to
-     * overwrite relationships again.
+     * incremented by 1 one each time the references of an entity are put on the {@link #pendingReferences} and
+     * decremented once all of them have been mapped. This is ugly and is yet one more state, but is needed to decide
+     * whether a root object is allowed to overwrite relationships again.
      */
     private final AtomicInteger currentDepth = new AtomicInteger(0);
 
+    /**
+     * Entities whose references still have to be mapped. This is used as an explicit work stack instead of
+     * recursing into related entities, so that the size of the object graph is not limited by the size of the call
+     * stack. The entity on top of the stack is always the one that has been reached last.
+     */
+    private final Deque<PendingReferences> pendingReferences = new ArrayDeque<>();
+
     /**
      * Default supplier for write protection: Always write all the stuff.
      */
@@ -89,7 +103,7 @@ public class EntityGraphMapper implements EntityMapper {
     public EntityGraphMapper(MetaData metaData, MappingContext mappingContext) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
-        this.compiler = new MultiStatementCypherCompiler(mappingContext::nativeId);
+        this.compiler = new MultiStatementCypherCompiler(mappingContext::nativeId, mappingContext::getRelationshipsOf);
     }
 
     public void addWriteProtection(
@@ -112,15 +126,8 @@ public class EntityGraphMapper implements EntityMapper {
             throw new NullPointerException("Cannot map null object");
         }
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            LOGGER.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
-        }
-
-        LOGGER.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
+        // The relationships we know about are registered with the compile context lazily, as soon as one of their
+        // nodes is visited, so that relationships outside the saved subgraph don't add to the costs of the save.
 
         // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
         // and then ensure the relationship between the two is created or updated as necessary
@@ -138,12 +145,14 @@ public class EntityGraphMapper implements EntityMapper {
                 throw new RuntimeException("@EndNode of relationship entity may not be null");
             }
 
+            Long reIdentity = mappingContext.nativeId(entity);
+
             // map both sides as far as the specified horizon
-            NodeBuilder startNodeBuilder = mapEntity(startNode, horizon);
-            NodeBuilder endNodeBuilder = mapEntity(endNode, horizon);
+            NodeBuilder startNodeBuilder = mapEntityGraph(startNode, horizon);
+            NodeBuilder endNodeBuilder = mapEntityGraph(endNode, horizon);
 
             // create or update the relationship if its not already been visited in the current compile context
-            if (!compiler.context().visitedRelationshipEntity(mappingContext.nativeId(entity))) {
+            if (!compiler.context().visitedRelationshipEntity(reIdentity)) {
 
                 AnnotationInfo annotationInfo = reInfo.annotationsInfo().get(RelationshipEntity.class);
                 String relationshipType = annotationInfo.get(RelationshipEntity.TYPE, null);
@@ -166,7 +175,7 @@ public class EntityGraphMapper implements EntityMapper {
                 updateRelationship(compiler.context(), startNodeBuilder, endNodeBuilder, relationshipBuilder, relNodes);
             }
         } else { // not an RE, simply map the entity
-            mapEntity(entity, horizon);
+            mapEntityGraph(entity, horizon);
         }
 
         deleteObsoleteRelationships();
@@ -188,9 +197,22 @@ public class EntityGraphMapper implements EntityMapper {
 
         Map<Long, Object> snapshotOfKnownRelationshipEntities
             = mappingContext.getSnapshotOfRelationshipEntityRegister();
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
+
+        // Only relationships that have been deregistered while mapping are candidates for deletion, all others are
+        // still registered and therefore unchanged.
+        List<MappedRelationship> candidatesForDeletion = new ArrayList<>();
+        for (Mappable deletedRelationship : context.getDeletedRelationships()) {
+            if (deletedRelationship instanceof MappedRelationship
+                && mappingContext.containsRelationship((MappedRelationship) deletedRelationship)) {
+                candidatesForDeletion.add((MappedRelationship) deletedRelationship);
+            }
+        }
+
+        // Nodes whose neighbourhood has already been collected and the node ids to be evicted afterwards.
+        Set<Long> visitedNodeIds = new HashSet<>();
+        Set<Long> staleNodeIds = new LinkedHashSet<>();
+
+        for (MappedRelationship mappedRelationship : candidatesForDeletion) {
 
             // if we cannot remove this relationship from the compile context, it
             // means the user has deleted the relationship
@@ -214,37 +236,36 @@ public class EntityGraphMapper implements EntityMapper {
                     }
                 }
 
-                // remove all nodes that are referenced by this relationship in the mapping context
+                // all nodes that are referenced by this relationship in the mapping context are evicted
                 // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+                collectRelatedNodeIds(mappedRelationship.getStartNodeId(), visitedNodeIds, staleNodeIds);
+                collectRelatedNodeIds(mappedRelationship.getEndNodeId(), visitedNodeIds, staleNodeIds);
 
                 // finally remove the relationship from the mapping context
-                //mappingContext.removeRelationship(mappedRelationship);
-                mappedRelationshipIterator.remove();
+                mappingContext.removeRelationship(mappedRelationship);
             }
         }
-    }
 
-    private void clearRelatedObjects(Long node) {
+        if (!staleNodeIds.isEmpty()) {
+            LOGGER.debug("flushing {} nodes related to deleted relationships", staleNodeIds.size());
+            mappingContext.removeNodeEntities(staleNodeIds);
+        }
+    }
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+    /**
+     * Adds the given node and all nodes connected to it in the mapping context to {@code staleNodeIds}. Every node is
+     * only expanded once: relationships are only ever removed while deleting obsolete relationships, so the
+     * neighbourhood collected the first time is a superset of any later one.
+     */
+    private void collectRelatedNodeIds(Long node, Set<Long> visitedNodeIds, Set<Long> staleNodeIds) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
+        if (!visitedNodeIds.add(node)) {
+            return;
+        }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    LOGGER.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(),
-                        mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, true);
-                }
-            }
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOf(node)) {
+            staleNodeIds.add(mappedRelationship.getStartNodeId());
+            staleNodeIds.add(mappedRelationship.getEndNodeId());
         }
     }
 
@@ -254,6 +275,20 @@ public class EntityGraphMapper implements EntityMapper {
      * @param entity The object to persist into the graph database as a node
      * @return The "root" node of the object graph that matches
      */
+    private NodeBuilder mapEntityGraph(Object entity, int horizon) {
+
+        NodeBuilder nodeBuilder = mapEntity(entity, horizon);
+        mapPendingReferences();
+        return nodeBuilder;
+    }
+
+    /**
+     * Builds Cypher to save the specified object. Its references are not mapped right away but put on top of the
+     * {@link #pendingReferences}.
+     *
+     * @param entity The object to persist into the graph database as a node
+     * @return The node builder of the entity
+     */
     private NodeBuilder mapEntity(Object entity, int horizon) {
 
         // if this object is transient it won't have a classinfo, and isn't persistable
@@ -278,7 +313,10 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         if (horizon != 0) {
-            mapEntityReferences(entity, nodeBuilder, horizon - 1);
+            int depth = currentDepth.incrementAndGet();
+            LOGGER.debug("mapping references declared by: {}, currently at depth {}", entity, depth);
+            pendingReferences.push(new PendingReferences(entity, classInfo, mappingContext.nativeId(entity),
+                nodeBuilder, horizon - 1));
         } else {
             LOGGER.debug("at horizon 0: {} ", entity);
         }
@@ -299,7 +337,6 @@ public class EntityGraphMapper implements EntityMapper {
      * @param nodeBuilder a {@link NodeBuilder} that knows how to compile node create/update cypher phrases
      */
     private void updateNode(Object entity, CompileContext context, NodeBuilder nodeBuilder) {
-        // fire pre-save event here
         if (mappingContext.isDirty(entity)) {
             LOGGER.debug("{} has changed", entity);
             context.register(entity);
@@ -309,7 +346,6 @@ public class EntityGraphMapper implements EntityMapper {
             context.deregister(nodeBuilder);
             LOGGER.debug("{}, has not changed", entity);
         }
-
     }
 
     /**
@@ -361,23 +397,44 @@ public class EntityGraphMapper implements EntityMapper {
     }
 
     /**
-     * Finds all the objects that can be mapped via relationships from the object 'entity' and
-     * links them in the graph.
-     * This includes objects that are directly linked, as well as objects linked via a relationship entity
+     * Maps the references of the entities on the {@link #pendingReferences} stack until it is empty.
+     */
+    private void mapPendingReferences() {
+
+        while (!pendingReferences.isEmpty()) {
+            PendingReferences references = pendingReferences.peek();
+            if (!mapNextReference(references)) {
+                pendingReferences.pop();
+                currentDepth.decrementAndGet();
+                if (references.onCompletion != null) {
+                    references.onCompletion.run();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the next object that can be mapped via a relationship from the object 'entity' of the given pending
+     * references and links it in the graph.
+     * This includes objects that are directly linked, as well as objects linked via a relationship entity. All objects
+     * are eventually reached by calling this method until it returns false.
      *
-     * @param entity      the node whose relationships will be updated
-     * @param nodeBuilder a {@link NodeBuilder} that knows how to create node create/update cypher phrases
-     * @param horizon     the depth in the tree. If this reaches 0, we stop mapping any deeper
+     * @param references the entity whose relationships will be updated and the state of its traversal
+     * @return true if a reference has been mapped, false if there are no more references
      */
-    private void mapEntityReferences(final Object entity, NodeBuilder nodeBuilder, int horizon) {
+    private boolean mapNextReference(PendingReferences references) {
 
-        int depth = currentDepth.incrementAndGet();
-        LOGGER.debug("mapping references declared by: {}, currently at depth {}", entity, depth);
+        final Object entity = references.entity;
+        ClassInfo srcInfo = references.classInfo;
+        Long srcIdentity = references.identity;
 
-        ClassInfo srcInfo = metaData.classInfo(entity);
-        Long srcIdentity = mappingContext.nativeId(entity);
+        while (references.targets == null || !references.targets.hasNext()) {
 
-        for (FieldInfo reader : srcInfo.relationshipFields()) {
+            if (!references.readers.hasNext()) {
+                return false;
+            }
+            FieldInfo reader = references.readers.next();
+            references.targets = null;
 
             String relationshipType = reader.relationshipType();
             Direction relationshipDirection = reader.relationshipDirection();
@@ -389,6 +446,12 @@ public class EntityGraphMapper implements EntityMapper {
             DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType,
                 relationshipDirection);
 
+            Object relatedObject = reader.read(entity);
+            if (!LazyCollection.isInitialized(relatedObject)) {
+                // the related entities haven't been loaded, so neither they nor their relationships can have changed
+                continue;
+            }
+
             CompileContext context = compiler.context();
 
             if (srcIdentity >= 0) {
@@ -400,7 +463,6 @@ public class EntityGraphMapper implements EntityMapper {
                 }
             }
 
-            Object relatedObject = reader.read(entity);
             if (relatedObject != null) {
 
                 // if the type of a relationship backed by a relationship entity is not the same as its declared type
@@ -414,32 +476,38 @@ public class EntityGraphMapper implements EntityMapper {
                         if (!relatedObjectClassInfo.neo4jName().equals(directedRelationship.type())) {
                             directedRelationship = new DirectedRelationship(relatedObjectClassInfo.neo4jName(),
                                 directedRelationship.direction());
-                            relationshipType = directedRelationship.type();
                         }
                     }
                 }
 
                 RelationshipNodes relNodes = new RelationshipNodes(entity, null, startNodeType, endNodeType);
                 relNodes.sourceId = srcIdentity;
-                Boolean mapBothWays = null;
-                for (Object tgtObject : CollectionUtils.iterableOf(relatedObject)) {
-
-                    if (tgtObject == null) {
-                        throw new InvalidRelationshipTargetException(startNodeType, relationshipType, reader.getName(),
-                            endNodeType);
-                    }
 
-                    if (mapBothWays == null) {
-                        mapBothWays = bothWayMappingRequired(entity, relationshipType, tgtObject,
-                            relationshipDirection);
-                    }
-                    relNodes.target = tgtObject;
-                    link(directedRelationship, nodeBuilder, horizon, mapBothWays, relNodes);
-                }
+                references.reader = reader;
+                references.directedRelationship = directedRelationship;
+                references.relNodes = relNodes;
+                references.mapBothWays = null;
+                references.targets = CollectionUtils.iterableOf(relatedObject).iterator();
             }
         }
 
-        currentDepth.decrementAndGet();
+        Object tgtObject = references.targets.next();
+        DirectedRelationship directedRelationship = references.directedRelationship;
+        RelationshipNodes relNodes = references.relNodes;
+
+        if (tgtObject == null) {
+            throw new InvalidRelationshipTargetException(relNodes.sourceType, directedRelationship.type(),
+                references.reader.getName(), relNodes.targetType);
+        }
+
+        if (references.mapBothWays == null) {
+            references.mapBothWays = bothWayMappingRequired(entity, directedRelationship.type(), tgtObject,
+                references.reader.relationshipDirection());
+        }
+        relNodes.target = tgtObject;
+        link(directedRelationship, references.nodeBuilder, references.horizon, references.mapBothWays, relNodes);
+
+        return true;
     }
 
     /**
@@ -499,10 +567,12 @@ public class EntityGraphMapper implements EntityMapper {
         if (relNodes.target != null) {
             CompileContext context = compiler.context();
 
+            boolean relationshipEntity = isRelationshipEntity(relNodes.target);
+
             RelationshipBuilder relationshipBuilder = getRelationshipBuilder(compiler, relNodes.target,
                 directedRelationship, mapBothDirections);
 
-            if (isRelationshipEntity(relNodes.target)) {
+            if (relationshipEntity) {
                 LOGGER.debug("mapping relationship entity");
                 Long reIdentity = mappingContext.nativeId(relNodes.target);
                 if (!context.visitedRelationshipEntity(reIdentity)) {
@@ -797,8 +867,9 @@ public class EntityGraphMapper implements EntityMapper {
 
     /**
      * Attempts to build a simple directed relationship in the graph between
-     * two objects represented as srcEntity and tgtEntity. This function recursively calls mapEntity on the
-     * target entity first before attempting to create the relationship. In this way, the object graph
+     * two objects represented as srcEntity and tgtEntity. This function calls mapEntity on the
+     * target entity first and creates the relationship only after the references of the target entity
+     * have been taken from the {@link #pendingReferences}. In this way, the object graph
      * is traversed in depth-first order, and the relationships between the leaf nodes are created
      * first.
      *
@@ -824,15 +895,25 @@ public class EntityGraphMapper implements EntityMapper {
         boolean relationshipFromExplicitlyMappedObject = level == 1;
 
         // Map this entity (mapEntity checks whether the entity has been visited before)
+        int numberOfPendingReferences = pendingReferences.size();
         NodeBuilder tgtNodeBuilder = mapEntity(relNodes.target, horizon);
         // Map the relationship only
         // - if the entity hasn't been visited before
         // - or the relationship has a defined direction
         // - or the relationships is defined on an object being explicitly mapped
         if (!alreadyVisitedNode || !selfReferentialUndirectedRelationship || relationshipFromExplicitlyMappedObject) {
-            LOGGER.debug("trying to map relationship between {} and {}", relNodes.source, relNodes.target);
-            relNodes.targetId = mappingContext.nativeId(relNodes.target);
-            updateRelationship(context, srcNodeBuilder, tgtNodeBuilder, relationshipBuilder, relNodes);
+            Object target = relNodes.target;
+            Runnable relationshipUpdate = () -> {
+                LOGGER.debug("trying to map relationship between {} and {}", relNodes.source, target);
+                relNodes.targetId = mappingContext.nativeId(target);
+                updateRelationship(context, srcNodeBuilder, tgtNodeBuilder, relationshipBuilder, relNodes);
+            };
+            // The relationship is updated after everything reachable from the target has been mapped
+            if (pendingReferences.size() > numberOfPendingReferences) {
+                pendingReferences.peek().onCompletion = relationshipUpdate;
+            } else {
+                relationshipUpdate.run();
+            }
         }
     }
 
@@ -1028,7 +1109,7 @@ public class EntityGraphMapper implements EntityMapper {
      */
     private static boolean targetEqualsSource(Object target, Object srcObject) {
 
-        if (target == null) {
+        if (target == null || !LazyCollection.isInitialized(target)) {
             return false;
         }
 
@@ -1051,6 +1132,40 @@ public class EntityGraphMapper implements EntityMapper {
         return target.equals(srcObject);
     }
 
+    /**
+     * The references of an entity that are yet to be mapped, together with the state of their traversal.
+     */
+    private static final class PendingReferences {
+
+        final Object entity;
+        final ClassInfo classInfo;
+        final Long identity;
+        final NodeBuilder nodeBuilder;
+        final int horizon;
+        final Iterator<FieldInfo> readers;
+
+        FieldInfo reader;
+        DirectedRelationship directedRelationship;
+        RelationshipNodes relNodes;
+        Boolean mapBothWays;
+        Iterator<?> targets;
+
+        /**
+         * Something to do after all references have been mapped, for example updating the relationship through which
+         * the entity has been reached.
+         */
+        Runnable onCompletion;
+
+        PendingReferences(Object entity, ClassInfo classInfo, Long identity, NodeBuilder nodeBuilder, int horizon) {
+            this.entity = entity;
+            this.classInfo = classInfo;
+            this.identity = identity;
+            this.nodeBuilder = nodeBuilder;
+            this.horizon = horizon;
+            this.readers = classInfo.relationshipFields().iterator();
+        }
+    }
+
     static class RelationshipNodes {
 
         Long sourceId;
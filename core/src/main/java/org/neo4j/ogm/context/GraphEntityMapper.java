@@ -41,9 +41,9 @@ import org.neo4j.ogm.metadata.reflect.EntityFactory;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
-import org.neo4j.ogm.response.model.PropertyModel;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Phase;
 import org.neo4j.ogm.typeconversion.CompositeAttributeConverter;
 import org.neo4j.ogm.utils.EntityUtils;
 import org.slf4j.Logger;
@@ -58,25 +58,21 @@ public class GraphEntityMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(GraphEntityMapper.class);
 
-    private static Map<String, ?> toMap(List<Property<String, Object>> propertyList) {
-
-        Map<String, Object> map = new HashMap<>();
-
-        for (Property<String, Object> property : propertyList) {
-            map.put(property.getKey(), property.getValue());
-        }
-
-        return map;
-    }
-
     private final MappingContext mappingContext;
     private final EntityFactory entityFactory;
     private final MetaData metadata;
+    private final OgmMetrics metrics;
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, OgmMetrics.NOOP);
+    }
+
+    public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, EntityInstantiator entityInstantiator,
+        OgmMetrics metrics) {
         this.metadata = metaData;
         this.entityFactory = new EntityFactory(metadata, entityInstantiator);
         this.mappingContext = mappingContext;
+        this.metrics = metrics;
     }
 
     <T> List<T> map(Class<T> type, List<GraphModel> listOfGraphModels) {
@@ -95,6 +91,21 @@ public class GraphEntityMapper {
     <T> List<T> map(Class<T> type, List<GraphModel> listOfGraphModels,
         BiFunction<GraphModel, Long, Boolean> additionalNodeFilter, Map<Long, Long> order) {
 
+        if (!metrics.isEnabled()) {
+            return hydrate(type, listOfGraphModels, additionalNodeFilter, order);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return hydrate(type, listOfGraphModels, additionalNodeFilter, order);
+        } finally {
+            metrics.recordPhase(Phase.HYDRATION, System.nanoTime() - start);
+        }
+    }
+
+    private <T> List<T> hydrate(Class<T> type, List<GraphModel> listOfGraphModels,
+        BiFunction<GraphModel, Long, Boolean> additionalNodeFilter, Map<Long, Long> order) {
+
         // Those are the ids of all mapped nodes.
         Set<Long> mappedNodeIds = new LinkedHashSet<>();
 
@@ -218,15 +229,21 @@ public class GraphEntityMapper {
                     logger.debug("Could not find a class to map for labels " + Arrays.toString(node.getLabels()));
                     continue;
                 }
-                Map<String, Object> allProps = new HashMap<>(toMap(node.getPropertyList()));
-                getCompositeProperties(node.getPropertyList(), clsi).forEach((k, v) -> {
-                    allProps.put(k.getName(), v);
-                });
+                Map<String, Object> properties = node.getProperties();
+                Map<FieldInfo, Object> compositeProperties = getCompositeProperties(properties, clsi);
+                Map<String, Object> allProps = properties;
+                if (!compositeProperties.isEmpty()) {
+                    allProps = new HashMap<>(properties);
+                    for (Map.Entry<FieldInfo, Object> entry : compositeProperties.entrySet()) {
+                        allProps.put(entry.getKey().getName(), entry.getValue());
+                    }
+                }
 
                 entity = entityFactory.newObject(clsi.getUnderlyingClass(), allProps);
                 EntityUtils.setIdentity(entity, node.getId(), metadata);
-                setProperties(node.getPropertyList(), entity);
+                setProperties(properties, compositeProperties, entity);
                 setLabels(node, entity);
+                setLazyRelationships(clsi, entity);
                 mappingContext.addNodeEntity(entity, node.getId());
             }
             mappedNodeIds.add(node.getId());
@@ -235,37 +252,47 @@ public class GraphEntityMapper {
         return mappedNodeIds;
     }
 
+    private void setLazyRelationships(ClassInfo classInfo, Object entity) {
+
+        LazyRelationshipLoader loader = mappingContext.getLazyRelationshipLoader();
+        if (loader == null) {
+            return;
+        }
+        for (FieldInfo field : classInfo.lazyRelationshipFields()) {
+            field.write(entity, LazyCollection.of(entity, field, loader));
+        }
+    }
+
     /**
-     * Finds the composite properties of an entity type and build their values using a property list.
+     * Finds the composite properties of an entity type and build their values using a property map.
      *
-     * @param propertyList The properties to convert from.
-     * @param classInfo    The class to inspect for composite attributes.
+     * @param properties The properties to convert from.
+     * @param classInfo  The class to inspect for composite attributes.
      * @return a map containing the values of the converted attributes, indexed by field object. Never null.
      */
-    private Map<FieldInfo, Object> getCompositeProperties(List<Property<String, Object>> propertyList,
-        ClassInfo classInfo) {
-
-        Map<FieldInfo, Object> compositeValues = new HashMap<>();
+    private Map<FieldInfo, Object> getCompositeProperties(Map<String, Object> properties, ClassInfo classInfo) {
 
         Collection<FieldInfo> compositeFields = classInfo.fieldsInfo().compositeFields();
-        if (compositeFields.size() > 0) {
-            Map<String, ?> propertyMap = toMap(propertyList);
-            for (FieldInfo field : compositeFields) {
-                CompositeAttributeConverter<?> converter = field.getCompositeConverter();
-                compositeValues.put(field, converter.toEntityAttribute(propertyMap));
-            }
+        if (compositeFields.isEmpty()) {
+            return Collections.emptyMap();
         }
 
+        Map<FieldInfo, Object> compositeValues = new HashMap<>();
+        for (FieldInfo field : compositeFields) {
+            CompositeAttributeConverter<?> converter = field.getCompositeConverter();
+            compositeValues.put(field, converter.toEntityAttribute(properties));
+        }
         return compositeValues;
     }
 
-    private void setProperties(List<Property<String, Object>> propertyList, Object instance) {
+    private void setProperties(Map<String, Object> properties, Map<FieldInfo, Object> compositeProperties,
+        Object instance) {
         ClassInfo classInfo = metadata.classInfo(instance);
 
-        getCompositeProperties(propertyList, classInfo).forEach((field, v) -> field.write(instance, v));
+        compositeProperties.forEach((field, v) -> field.write(instance, v));
 
-        for (Property<?, ?> property : propertyList) {
-            writeProperty(classInfo, instance, property);
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            writeProperty(classInfo, instance, property.getKey(), property.getValue());
         }
     }
 
@@ -280,22 +307,21 @@ public class GraphEntityMapper {
                     dynamicLabels.add(label);
                 }
             }
-            writeProperty(classInfo, instance, PropertyModel.with(labelFieldInfo.getName(), dynamicLabels));
+            writeProperty(classInfo, instance, labelFieldInfo.getName(), dynamicLabels);
         }
     }
 
-    private void writeProperty(ClassInfo classInfo, Object instance, Property<?, ?> property) {
+    private void writeProperty(ClassInfo classInfo, Object instance, String key, Object value) {
 
-        FieldInfo writer = classInfo.getFieldInfo(property.getKey().toString());
+        FieldInfo writer = classInfo.getFieldInfo(key);
 
         if (writer == null) {
-            logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
+            logger.debug("Unable to find property: {} on class: {} for writing", key, classInfo.name());
         } else {
-            Object value = property.getValue();
             // merge iterable / arrays and co-erce to the correct attribute type
-            if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
+            if (!writer.forScalar()) {
                 Class<?> paramType = writer.type();
-                Class elementType = underlyingElementType(classInfo, property.getKey().toString());
+                Class elementType = underlyingElementType(classInfo, key);
                 if (paramType.isArray()) {
                     value = EntityAccessManager.merge(paramType, value, new Object[] {}, elementType);
                 } else {
@@ -392,10 +418,10 @@ public class GraphEntityMapper {
             throw new MappingException("Could not find a class to map for relation " + edge);
         }
 
-        Map<String, Object> allProps = new HashMap<>(toMap(edge.getPropertyList()));
-        getCompositeProperties(edge.getPropertyList(), relationClassInfo).forEach((k, v) -> {
-            allProps.put(k.getName(), v);
-        });
+        Map<String, Object> properties = edge.getProperties();
+        Map<FieldInfo, Object> compositeProperties = getCompositeProperties(properties, relationClassInfo);
+        Map<String, Object> allProps = new HashMap<>(properties);
+        compositeProperties.forEach((k, v) -> allProps.put(k.getName(), v));
         // also add start and end node as valid constructor values
         allProps.put(relationClassInfo.getStartNodeReader().getName(), startEntity);
         allProps.put(relationClassInfo.getEndNodeReader().getName(), endEntity);
@@ -406,7 +432,7 @@ public class GraphEntityMapper {
         EntityUtils.setIdentity(relationshipEntity, edge.getId(), metadata);
 
         // REs also have properties
-        setProperties(edge.getPropertyList(), relationshipEntity);
+        setProperties(properties, compositeProperties, relationshipEntity);
 
         // register it in the mapping context
         mappingContext.addRelationshipEntity(relationshipEntity, edge.getId());
@@ -555,6 +581,16 @@ public class GraphEntityMapper {
                 Object currentValues;
                 if (reader != null) {
                     currentValues = reader.read(instance);
+                    if (currentValues instanceof LazyCollection) {
+                        LazyCollection<?> lazyCollection = (LazyCollection<?>) currentValues;
+                        if (lazyCollection.isUninitialized()) {
+                            // all related entities are loaded on first access, the relationships are registered anyway
+                            return;
+                        }
+                        if (lazyCollection.isInitializing()) {
+                            currentValues = null;
+                        }
+                    }
                     if (writer.type().isArray()) {
                         values = EntityAccessManager.merge(writer.type(), values, (Object[]) currentValues, valueType);
                     } else {
@@ -37,6 +37,7 @@ import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.model.GraphRowModel;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
 
 /**
  * @author Vince Bickers
@@ -49,7 +50,13 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
     public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this(metaData, mappingContext, entityInstantiator, OgmMetrics.NOOP);
+    }
+
+    public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, OgmMetrics metrics) {
+
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metrics);
     }
 
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
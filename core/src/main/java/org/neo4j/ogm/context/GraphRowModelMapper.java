@@ -30,6 +30,7 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
 
 /**
  * @author Michael J. Simons
@@ -41,7 +42,13 @@ public class GraphRowModelMapper implements ResponseMapper<GraphModel> {
     public GraphRowModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this(metaData, mappingContext, entityInstantiator, OgmMetrics.NOOP);
+    }
+
+    public GraphRowModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, OgmMetrics metrics) {
+
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metrics);
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -46,6 +47,13 @@ class IdentityMap {
 
     private final Map<Long, Long> relEntityHashes;
 
+    /**
+     * Entities that track their changes themselves are not hashed, instead the instance is remembered.
+     */
+    private final Map<Long, Object> trackedNodes;
+
+    private final Map<Long, Object> trackedRelEntities;
+
     private final Map<Long, EntitySnapshot> snapshotsOfNodeEntities;
 
     private final Map<Long, EntitySnapshot> snapshotsOfRelationshipEntities;
@@ -55,6 +63,8 @@ class IdentityMap {
     IdentityMap(MetaData metaData) {
         this.nodeHashes = new HashMap<>();
         this.relEntityHashes = new HashMap<>();
+        this.trackedNodes = new HashMap<>();
+        this.trackedRelEntities = new HashMap<>();
         this.snapshotsOfNodeEntities = new HashMap<>();
         this.snapshotsOfRelationshipEntities = new HashMap<>();
         this.metaData = metaData;
@@ -62,18 +72,30 @@ class IdentityMap {
 
     /**
      * constructs a 64-bit hash of this object's node properties
-     * and maps the object to that hash. The object must not be null
+     * and maps the object to that hash. The object must not be null.
+     * Objects tracking their changes themselves are not hashed, their changes are cleared instead.
      *
      * @param object   the object whose persistable properties we want to hash
      * @param entityId the native id of the entity
      */
     void remember(Object object, Long entityId) {
         ClassInfo classInfo = metaData.classInfo(object);
-        if (metaData.isRelationshipEntity(classInfo.name())) {
-            this.relEntityHashes.put(entityId, hash(object, classInfo));
+        boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
+        Map<Long, Long> hashes = isRelEntity ? relEntityHashes : nodeHashes;
+        Map<Long, Object> trackedEntities = isRelEntity ? trackedRelEntities : trackedNodes;
+
+        if (isDirtyTracking(object, classInfo)) {
+            ((DirtyTrackingEntity) object).$ogm_clearDirtyFields();
+            trackedEntities.put(entityId, object);
+            hashes.remove(entityId);
+        } else {
+            hashes.put(entityId, hash(object, classInfo));
+            trackedEntities.remove(entityId);
+        }
+
+        if (isRelEntity) {
             this.snapshotsOfRelationshipEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         } else {
-            this.nodeHashes.put(entityId, hash(object, classInfo));
             this.snapshotsOfNodeEntities.put(entityId, EntitySnapshot.basedOn(metaData).take(object));
         }
     }
@@ -99,6 +121,12 @@ class IdentityMap {
         boolean isRelEntity = metaData.isRelationshipEntity(classInfo.name());
         Map<Long, Long> hashes = isRelEntity ? relEntityHashes : nodeHashes;
 
+        // Only the very instance that has been remembered knows about its changes
+        Object trackedEntity = (isRelEntity ? trackedRelEntities : trackedNodes).get(entityId);
+        if (trackedEntity != null) {
+            return trackedEntity == object && !hasChangedProperties((DirtyTrackingEntity) object, classInfo);
+        }
+
         // ... or a little later when the hashes in question doesnt contain the entities id
         if (!hashes.containsKey(entityId)) {
             return false;
@@ -135,10 +163,32 @@ class IdentityMap {
 
         this.nodeHashes.clear();
         this.relEntityHashes.clear();
+        this.trackedNodes.clear();
+        this.trackedRelEntities.clear();
         this.snapshotsOfNodeEntities.clear();
         this.snapshotsOfRelationshipEntities.clear();
     }
 
+    private static boolean isDirtyTracking(Object object, ClassInfo classInfo) {
+        return object instanceof DirtyTrackingEntity && classInfo.dirtyTrackedFields().isPresent();
+    }
+
+    private static boolean hasChangedProperties(DirtyTrackingEntity entity, ClassInfo classInfo) {
+
+        Set<String> dirtyFields = entity.$ogm_dirtyFields();
+        if (dirtyFields.isEmpty()) {
+            return false;
+        }
+
+        Set<String> propertyFields = classInfo.dirtyTrackedFields().get();
+        for (String dirtyField : dirtyFields) {
+            if (propertyFields.contains(dirtyField)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static long hash(Object object, ClassInfo classInfo) {
 
         List<FieldInfo> hashFields = new ArrayList<>(classInfo.propertyFields());
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * The value of a {@link org.neo4j.ogm.annotation.Relationship#lazy() lazy} relationship field of a loaded entity. The
+ * related entities are loaded through the {@link LazyRelationshipLoader} of the session on first access, which maps
+ * them onto the owning entity like any other load. Afterwards the field contains a regular collection and this
+ * collection delegates to it.
+ * <br>
+ * Relationships of the field that are part of other results are registered in the mapping context but not added to
+ * an uninitialized collection, so the field is either not loaded or loaded completely. Saving the owning entity leaves
+ * the relationships of an uninitialized field untouched.
+ * <br>
+ * Like the entities themselves, lazy collections are not thread safe.
+ *
+ * @param <E> The type of the related entities
+ */
+public class LazyCollection<E> implements Collection<E> {
+
+    private final Object owner;
+    private final FieldInfo field;
+    private final LazyRelationshipLoader loader;
+
+    private Collection<E> delegate;
+    private boolean initializing;
+
+    LazyCollection(Object owner, FieldInfo field, LazyRelationshipLoader loader) {
+        this.owner = owner;
+        this.field = field;
+        this.loader = loader;
+    }
+
+    static LazyCollection<?> of(Object owner, FieldInfo field, LazyRelationshipLoader loader) {
+        if (Set.class.isAssignableFrom(field.type())) {
+            return new LazySet<>(owner, field, loader);
+        }
+        if (List.class.isAssignableFrom(field.type())) {
+            return new LazyList<>(owner, field, loader);
+        }
+        return new LazyCollection<>(owner, field, loader);
+    }
+
+    /**
+     * @param value The value of a relationship field
+     * @return false, if the value is a lazy collection whose related entities haven't been loaded yet
+     */
+    public static boolean isInitialized(Object value) {
+        return !(value instanceof LazyCollection) || ((LazyCollection<?>) value).delegate != null;
+    }
+
+    boolean isUninitialized() {
+        return delegate == null && !initializing;
+    }
+
+    boolean isInitializing() {
+        return initializing;
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection<E> delegate() {
+
+        if (delegate == null) {
+            // the mapper may look at the collection while it replaces it with the loaded entities
+            if (initializing) {
+                return Collections.emptyList();
+            }
+
+            initializing = true;
+            try {
+                loader.load(owner, field);
+            } finally {
+                initializing = false;
+            }
+
+            Object loaded = field.read(owner);
+            if (loaded == this || loaded == null) {
+                // no related entities, so the mapper didn't write the field
+                loaded = Set.class.isAssignableFrom(field.type()) ? new HashSet<>() : new ArrayList<>();
+                field.write(owner, loaded);
+            }
+            delegate = (Collection<E>) loaded;
+        }
+        return delegate;
+    }
+
+    @Override
+    public int size() {
+        return delegate().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate().contains(o);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return delegate().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return delegate().toArray(a);
+    }
+
+    @Override
+    public boolean add(E e) {
+        return delegate().add(e);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return delegate().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return delegate().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return delegate().addAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return delegate().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return delegate().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        delegate().clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || delegate().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        // printing the owner must not load its relationships
+        return delegate == null ? "LazyCollection{" + field.getName() + ", not loaded}" : delegate.toString();
+    }
+
+    static class LazyList<E> extends LazyCollection<E> implements List<E> {
+
+        LazyList(Object owner, FieldInfo field, LazyRelationshipLoader loader) {
+            super(owner, field, loader);
+        }
+
+        private List<E> list() {
+            return (List<E>) delegate();
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            return list().addAll(index, c);
+        }
+
+        @Override
+        public E get(int index) {
+            return list().get(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return list().set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            list().add(index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            return list().remove(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return list().indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return list().lastIndexOf(o);
+        }
+
+        @Override
+        public ListIterator<E> listIterator() {
+            return list().listIterator();
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            return list().listIterator(index);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            return list().subList(fromIndex, toIndex);
+        }
+    }
+
+    static class LazySet<E> extends LazyCollection<E> implements Set<E> {
+
+        LazySet(Object owner, FieldInfo field, LazyRelationshipLoader loader) {
+            super(owner, field, loader);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import org.neo4j.ogm.metadata.FieldInfo;
+
+/**
+ * Loads the related entities of a {@link org.neo4j.ogm.annotation.Relationship#lazy() lazy} relationship field on
+ * first access, see {@link LazyCollection}.
+ */
+@FunctionalInterface
+public interface LazyRelationshipLoader {
+
+    /**
+     * Loads the related entities and maps them onto the owning entity, registering the relationships in the mapping
+     * context of the owner.
+     *
+     * @param owner The entity owning the lazy field
+     * @param field The lazy field
+     */
+    void load(Object owner, FieldInfo field);
+}
@@ -57,10 +57,15 @@ public class MappingContext {
 
     private final Set<MappedRelationship> relationshipRegister;
 
+    // map node id -> all registered relationships starting or ending at that node
+    private final Map<Long, Set<MappedRelationship>> relationshipsByNodeId;
+
     private final IdentityMap identityMap;
 
     private final MetaData metaData;
 
+    private LazyRelationshipLoader lazyRelationshipLoader;
+
     public MappingContext(MetaData metaData) {
         this.metaData = metaData;
         this.identityMap = new IdentityMap(metaData);
@@ -70,6 +75,22 @@ public class MappingContext {
         this.relationshipEntityRegister = new LinkedHashMap<>();
         this.primaryIdToRelationship = new LinkedHashMap<>();
         this.relationshipRegister = new LinkedHashSet<>();
+        this.relationshipsByNodeId = new HashMap<>();
+    }
+
+    /**
+     * @return the loader of lazy relationship fields, {@literal null} if lazy fields are loaded like any other field
+     */
+    public LazyRelationshipLoader getLazyRelationshipLoader() {
+        return lazyRelationshipLoader;
+    }
+
+    /**
+     * @param lazyRelationshipLoader The loader the collections of lazy relationship fields of newly mapped entities
+     *                               use on first access
+     */
+    public void setLazyRelationshipLoader(LazyRelationshipLoader lazyRelationshipLoader) {
+        this.lazyRelationshipLoader = lazyRelationshipLoader;
     }
 
     /**
@@ -183,6 +204,38 @@ public class MappingContext {
         }
     }
 
+    /**
+     * De-registers all node entities with the given native ids like {@link #removeNodeEntity(Object, boolean)} does,
+     * but looks for dependent relationship entities only once for all of them.
+     *
+     * @param nativeIds the native ids of the node entities to deregister, ids not known to this context are ignored
+     */
+    void removeNodeEntities(Collection<Long> nativeIds) {
+
+        Set<Object> removedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Long nativeId : nativeIds) {
+            Object entity = nodeEntityRegister.get(nativeId);
+            if (entity != null) {
+                removeNodeEntity(entity, false);
+                removedEntities.add(entity);
+            }
+        }
+
+        if (removedEntities.isEmpty() || relationshipEntityRegister.isEmpty()) {
+            return;
+        }
+
+        Iterator<Object> relationshipEntityIterator = relationshipEntityRegister.values().iterator();
+        while (relationshipEntityIterator.hasNext()) {
+            Object relationshipEntity = relationshipEntityIterator.next();
+            final ClassInfo classInfo = metaData.classInfo(relationshipEntity);
+            if (removedEntities.contains(classInfo.getStartNodeReader().read(relationshipEntity))
+                || removedEntities.contains(classInfo.getEndNodeReader().read(relationshipEntity))) {
+                relationshipEntityIterator.remove();
+            }
+        }
+    }
+
     public void replaceNodeEntity(Object entity, Long identity) {
         removeNodeEntity(entity, false);
 
@@ -256,23 +309,64 @@ public class MappingContext {
         return relationshipRegister.contains(relationship);
     }
 
+    /**
+     * @return An unmodifiable view on all relationships registered in this context
+     */
     public Set<MappedRelationship> getRelationships() {
-        return relationshipRegister;
+        return Collections.unmodifiableSet(relationshipRegister);
+    }
+
+    /**
+     * Retrieves the relationships starting or ending at the given node without looking at all registered relationships.
+     *
+     * @param nodeId The native id of the node
+     * @return An unmodifiable view on all relationships starting or ending at the given node
+     */
+    public Set<MappedRelationship> getRelationshipsOf(Long nodeId) {
+        Set<MappedRelationship> relationships = relationshipsByNodeId.get(nodeId);
+        return relationships == null ? Collections.emptySet() : Collections.unmodifiableSet(relationships);
     }
 
     public void addRelationship(MappedRelationship relationship) {
-        relationshipRegister.add(relationship);
+        if (relationshipRegister.add(relationship)) {
+            relationshipsByNodeId.computeIfAbsent(relationship.getStartNodeId(), k -> new HashSet<>()).add(relationship);
+            relationshipsByNodeId.computeIfAbsent(relationship.getEndNodeId(), k -> new HashSet<>()).add(relationship);
+        }
+    }
+
+    public boolean removeRelationship(MappedRelationship relationship) {
+        if (!relationshipRegister.remove(relationship)) {
+            return false;
+        }
+        removeFromNodeIndex(relationship.getStartNodeId(), relationship);
+        removeFromNodeIndex(relationship.getEndNodeId(), relationship);
+        return true;
+    }
+
+    private void removeFromNodeIndex(long nodeId, MappedRelationship relationship) {
+        Set<MappedRelationship> relationships = relationshipsByNodeId.get(nodeId);
+        if (relationships != null && relationships.remove(relationship) && relationships.isEmpty()) {
+            relationshipsByNodeId.remove(nodeId);
+        }
     }
 
     public void clear() {
         identityMap.clear();
         relationshipRegister.clear();
+        relationshipsByNodeId.clear();
         primaryIdToRelationship.clear();
         nodeEntityRegister.clear();
         primaryIndexNodeRegister.clear();
         relationshipEntityRegister.clear();
     }
 
+    /**
+     * @return The number of node and relationship entities in this context
+     */
+    public int size() {
+        return nodeEntityRegister.size() + relationshipEntityRegister.size();
+    }
+
     public Map<Long, Object> getSnapshotOfRelationshipEntityRegister() {
         return new HashMap<>(this.relationshipEntityRegister);
     }
@@ -400,16 +494,12 @@ public class MappingContext {
         Class<?> type = entity.getClass();
         if (!metaData.isRelationshipEntity(type.getName())) {
             if (getNodeEntity(id) != null) {
-                // todo: this will be very slow for many objects
-                // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                for (MappedRelationship mappedRelationship : relationshipRegister) {
-                    if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                        Object affectedObject = mappedRelationship.getEndNodeId() == id ?
-                            getNodeEntity(mappedRelationship.getStartNodeId()) :
-                            getNodeEntity(mappedRelationship.getEndNodeId());
-                        if (affectedObject != null) {
-                            neighbours.add(affectedObject);
-                        }
+                for (MappedRelationship mappedRelationship : getRelationshipsOf(id)) {
+                    Object affectedObject = mappedRelationship.getEndNodeId() == id ?
+                        getNodeEntity(mappedRelationship.getStartNodeId()) :
+                        getNodeEntity(mappedRelationship.getEndNodeId());
+                    if (affectedObject != null) {
+                        neighbours.add(affectedObject);
                     }
                 }
             }
@@ -476,22 +566,18 @@ public class MappingContext {
     private void removeAllInAndOutcomingRelationshipsOf(Long id) {
 
         Set<Object> relEntitiesToPurge = new HashSet<>();
-        Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-        while (mappedRelationshipIterator.hasNext()) {
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-            if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                // first purge any RE mappings (if its a RE)
-                if (mappedRelationship.getRelationshipId() != null) {
-                    Object relEntity = relationshipEntityRegister
-                        .get(mappedRelationship.getRelationshipId());
-                    if (relEntity != null) {
-                        relEntitiesToPurge.add(relEntity);
-                    }
+        for (MappedRelationship mappedRelationship : new ArrayList<>(getRelationshipsOf(id))) {
+
+            // first purge any RE mappings (if its a RE)
+            if (mappedRelationship.getRelationshipId() != null) {
+                Object relEntity = relationshipEntityRegister
+                    .get(mappedRelationship.getRelationshipId());
+                if (relEntity != null) {
+                    relEntitiesToPurge.add(relEntity);
                 }
-                // finally remove the mapped relationship
-                mappedRelationshipIterator.remove();
             }
+            // finally remove the mapped relationship
+            removeRelationship(mappedRelationship);
         }
 
         // Purge the relationship entities.
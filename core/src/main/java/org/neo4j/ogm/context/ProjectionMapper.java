@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.beans.Introspector;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.neo4j.ogm.exception.core.MappingException;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * Maps properties of a node entity, returned as map projection, onto a projection of that entity. A projection is
+ * either an interface, whose getters name properties of the entity, or a class discovered by the domain entity package
+ * scanning, whose fields name properties of the entity. Values are converted once, by the converters of the entity
+ * fields they are read from, and written to class projections as they are. Projections are not registered in the
+ * mapping context.
+ *
+ * @param <P> type of the projection
+ */
+public class ProjectionMapper<P> {
+
+    private final Class<P> projection;
+
+    private final FieldInfo identityField;
+
+    // Properties of the projection and the fields of the entity they are read from, sorted for stable queries
+    private final Map<String, FieldInfo> properties = new TreeMap<>();
+
+    // Properties of interface projections and the getters returning them
+    private final Map<Method, String> getters = new HashMap<>();
+
+    // Properties of class projections and the fields of the projection they are written to
+    private final Map<String, FieldInfo> projectionFields = new HashMap<>();
+
+    private final EntityInstantiator entityInstantiator;
+
+    /**
+     * @param metaData           the {@link MetaData} containing the entity and class projections
+     * @param entityInstantiator instantiates class projections
+     * @param entityType         the type of the node entity to project
+     * @param projection         the projection, an interface or a class
+     * @throws MappingException if the projection refers to properties the entity doesn't have
+     */
+    public ProjectionMapper(MetaData metaData, EntityInstantiator entityInstantiator, Class<?> entityType,
+        Class<P> projection) {
+
+        ClassInfo entityInfo = metaData.classInfo(entityType);
+        this.projection = projection;
+        this.identityField = entityInfo.identityFieldOrNull();
+        this.entityInstantiator = entityInstantiator;
+
+        if (projection.isInterface()) {
+            for (Method method : projection.getMethods()) {
+                if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+                    || method.getParameterCount() > 0 || method.getReturnType() == void.class
+                    || method.getName().equals("hashCode") || method.getName().equals("toString")) {
+                    continue;
+                }
+                String property = propertyName(method);
+                properties.put(property, entityField(entityInfo, property));
+                getters.put(method, property);
+            }
+        } else {
+            ClassInfo projectionInfo = metaData.classInfo(projection.getName());
+            if (projectionInfo == null) {
+                throw new MappingException("Error mapping to projection " + projection
+                    + ". Projection classes must be discovered by the domain entity package scanning.");
+            }
+            for (FieldInfo field : projectionInfo.fieldsInfo().fields()) {
+                properties.put(field.getName(), entityField(entityInfo, field.getName()));
+                projectionFields.put(field.getName(), field);
+            }
+        }
+    }
+
+    /**
+     * @return The properties of the projection and the fields of the entity they are read from, sorted by name
+     */
+    public Map<String, FieldInfo> properties() {
+        return Collections.unmodifiableMap(properties);
+    }
+
+    /**
+     * @param field a field of the entity
+     * @return True if the field is the internal id of the entity, which is not stored as property
+     */
+    public boolean isIdentityField(FieldInfo field) {
+        return field == identityField;
+    }
+
+    /**
+     * Creates the projection of one node.
+     *
+     * @param row the projected properties of the node, keyed by the properties of the projection
+     * @return A new projection
+     */
+    public P map(Map<String, Object> row) {
+
+        Map<String, Object> values = new HashMap<>();
+        properties.forEach((property, field) -> values.put(property, field.toEntityAttribute(row.get(property))));
+
+        if (getters.isEmpty()) {
+            // The values are already converted, running them through the converters of the projection would convert
+            // them a second time
+            P instance = entityInstantiator.createInstance(projection, values);
+            projectionFields.forEach((property, field) -> field.writeDirect(instance,
+                Utils.coerceTypes(field.getField().getType(), values.get(property))));
+            return instance;
+        }
+        return projection.cast(Proxy.newProxyInstance(projection.getClassLoader(), new Class<?>[] { projection },
+            new InterfaceProjection(projection, getters, values)));
+    }
+
+    private static String propertyName(Method getter) {
+        String name = getter.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Introspector.decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+            && (getter.getReturnType() == boolean.class || getter.getReturnType() == Boolean.class)) {
+            return Introspector.decapitalize(name.substring(2));
+        }
+        return name;
+    }
+
+    private static FieldInfo entityField(ClassInfo entityInfo, String property) {
+        FieldInfo field = entityInfo.propertyFieldByName(property);
+        if (field == null && entityInfo.identityFieldOrNull() != null
+            && entityInfo.identityFieldOrNull().getName().equals(property)) {
+            field = entityInfo.identityFieldOrNull();
+        }
+        if (field == null) {
+            throw new MappingException("Error mapping to projection: " + entityInfo.name()
+                + " has no property named " + property);
+        }
+        return field;
+    }
+
+    /**
+     * Backs a projection interface by the values of its properties.
+     */
+    private static class InterfaceProjection implements InvocationHandler {
+
+        private final Class<?> projection;
+        private final Map<Method, String> getters;
+        private final Map<String, Object> values;
+
+        InterfaceProjection(Class<?> projection, Map<Method, String> getters, Map<String, Object> values) {
+            this.projection = projection;
+            this.getters = getters;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+
+            String property = getters.get(method);
+            if (property != null) {
+                return Utils.coerceTypes(method.getReturnType(), values.get(property));
+            }
+
+            switch (method.getName()) {
+                case "equals":
+                    return args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                        && isEqualTo(Proxy.getInvocationHandler(args[0]));
+                case "hashCode":
+                    return values.hashCode();
+                case "toString":
+                    return projection.getSimpleName() + values;
+                default:
+                    throw new UnsupportedOperationException("Projection " + projection.getName()
+                        + " doesn't support " + method.getName());
+            }
+        }
+
+        private boolean isEqualTo(InvocationHandler other) {
+            return other instanceof InterfaceProjection
+                && projection == ((InterfaceProjection) other).projection
+                && values.equals(((InterfaceProjection) other).values);
+        }
+    }
+}
@@ -42,6 +42,7 @@ import org.neo4j.ogm.response.model.DefaultGraphModel;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.RelationshipModel;
 import org.neo4j.ogm.session.EntityInstantiator;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
 import org.neo4j.ogm.session.Utils;
 
 /**
@@ -57,9 +58,14 @@ public class RestModelMapper {
 
     public RestModelMapper(MetaData metaData, MappingContext mappingContext,
         EntityInstantiator entityInstantiator) {
+        this(metaData, mappingContext, entityInstantiator, OgmMetrics.NOOP);
+    }
+
+    public RestModelMapper(MetaData metaData, MappingContext mappingContext,
+        EntityInstantiator entityInstantiator, OgmMetrics metrics) {
         this.mappingContext = mappingContext;
 
-        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator);
+        this.delegate = new GraphEntityMapper(metaData, mappingContext, entityInstantiator, metrics);
     }
 
     public RestStatisticsModel map(Response<RestModel> response) {
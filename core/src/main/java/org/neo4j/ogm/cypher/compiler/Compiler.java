@@ -19,6 +19,7 @@
 package org.neo4j.ogm.cypher.compiler;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
@@ -94,6 +95,16 @@ public interface Compiler {
      */
     List<Statement> createNodesStatements();
 
+    /**
+     * Retrieves a single Cypher statement that creates the new nodes together with the new relationships, including
+     * those depending on the new nodes. Only available if enabled via {@link #combineNewRelationshipStatements(boolean)}
+     * and if none of the new nodes needs a statement of its own because of a primary index or a version property.
+     * If present, it replaces the statements of {@link #createNodesStatements()} and {@link #createRelationshipsStatements()}.
+     *
+     * @return The Cypher query to be executed or an empty optional if the nodes and relationships cannot be created together
+     */
+    Optional<Statement> createNodesAndRelationshipsStatement();
+
     /**
      * Retrieves the Cypher statements that create relationships built up through this {@link Compiler}.
      *
@@ -161,4 +172,30 @@ public interface Compiler {
      * @param statementFactory The {@link StatementFactory}
      */
     void useStatementFactory(StatementFactory statementFactory);
+
+    /**
+     * Specify whether new nodes with different labels should be created by a single statement instead of one
+     * statement per combination of labels. Nodes with a primary index or a version property always get their own
+     * statements.
+     *
+     * @param combine true to create all new nodes that allow it in one statement
+     */
+    void combineNewNodeStatements(boolean combine);
+
+    /**
+     * Specify whether new nodes and all new relationships should be created by a single statement, so that
+     * relationships between new nodes don't require a separate request after the nodes have been created.
+     *
+     * @param combine true to create new nodes and relationships together where possible
+     * @see #createNodesAndRelationshipsStatement()
+     */
+    void combineNewRelationshipStatements(boolean combine);
+
+    /**
+     * Specify the cache for the Cypher text of the statements, so that statements of the same shape are only built
+     * once. Defaults to {@link StatementTemplateCache#NO_CACHE}.
+     *
+     * @param templates The {@link StatementTemplateCache}
+     */
+    void useStatementTemplateCache(StatementTemplateCache templates);
 }
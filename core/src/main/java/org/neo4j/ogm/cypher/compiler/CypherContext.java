@@ -47,8 +47,16 @@ public class CypherContext implements CompileContext {
     private final Map<Long, Object> createdObjectsWithId = new HashMap<>();
     private final Map<Long, Long> newNodeIds = new HashMap<>();
 
+    /**
+     * Relationships known before compiling are not registered upfront, but only when one of their nodes is touched.
+     * That keeps the cost of a save proportional to the saved subgraph and not to the size of the mapping context.
+     */
+    private final Function<Long, Collection<? extends Mappable>> knownRelationshipsLookup;
+    private final Set<Long> nodesWithKnownRelationshipsRegistered = new HashSet<>();
+
     private final Set<Mappable> registeredRelationships = new HashSet<>();
-    private final Set<Mappable> deletedRelationships = new HashSet<>();
+    private final Map<Long, Set<Mappable>> registeredRelationshipsByNodeId = new HashMap<>();
+    private final Set<Mappable> deletedRelationships = new LinkedHashSet<>();
 
     private final Set<Object> registry = new HashSet<>();
     private final Map<SrcTargetKey, Set<Object>> transientRelsIndex = new HashMap<>();
@@ -58,8 +66,21 @@ public class CypherContext implements CompileContext {
     private final Function<Object, Long> nativeIdProvider;
 
     public CypherContext(Compiler compiler, Function<Object, Long> nativeIdProvider) {
+        this(compiler, nativeIdProvider, nodeId -> emptySet());
+    }
+
+    /**
+     * Creates a new context that treats all relationships returned by {@code knownRelationshipsLookup} as registered.
+     *
+     * @param compiler                 The compiler owning this context
+     * @param nativeIdProvider         Provides native ids of entities
+     * @param knownRelationshipsLookup Retrieves the already known relationships starting or ending at a given node
+     */
+    public CypherContext(Compiler compiler, Function<Object, Long> nativeIdProvider,
+        Function<Long, Collection<? extends Mappable>> knownRelationshipsLookup) {
         this.compiler = compiler;
         this.nativeIdProvider = nativeIdProvider;
+        this.knownRelationshipsLookup = knownRelationshipsLookup;
     }
 
     private Object getIdentity(Object entity) {
@@ -78,11 +99,55 @@ public class CypherContext implements CompileContext {
     }
 
     public void registerRelationship(Mappable mappedRelationship) {
-        this.registeredRelationships.add(mappedRelationship);
+        registerKnownRelationshipsOf(mappedRelationship.getStartNodeId());
+        registerKnownRelationshipsOf(mappedRelationship.getEndNodeId());
+        addRegisteredRelationship(mappedRelationship);
     }
 
     public boolean removeRegisteredRelationship(Mappable mappedRelationship) {
-        return this.registeredRelationships.remove(mappedRelationship);
+        registerKnownRelationshipsOf(mappedRelationship.getStartNodeId());
+        registerKnownRelationshipsOf(mappedRelationship.getEndNodeId());
+        return removeRegisteredRelationshipImpl(mappedRelationship);
+    }
+
+    /**
+     * Registers the known relationships of the given node, unless that already happened. A relationship that has
+     * already been registered through its other node is skipped, as it may have been deregistered since.
+     *
+     * @param nodeId The native id of the node
+     */
+    private void registerKnownRelationshipsOf(Long nodeId) {
+
+        if (!nodesWithKnownRelationshipsRegistered.add(nodeId)) {
+            return;
+        }
+
+        for (Mappable knownRelationship : knownRelationshipsLookup.apply(nodeId)) {
+            long otherNodeId = knownRelationship.getStartNodeId() == nodeId ?
+                knownRelationship.getEndNodeId() :
+                knownRelationship.getStartNodeId();
+            if (otherNodeId == nodeId || !nodesWithKnownRelationshipsRegistered.contains(otherNodeId)) {
+                addRegisteredRelationship(knownRelationship);
+            }
+        }
+    }
+
+    private void addRegisteredRelationship(Mappable mappedRelationship) {
+        if (this.registeredRelationships.add(mappedRelationship)) {
+            registeredRelationshipsByNodeId
+                .computeIfAbsent(mappedRelationship.getStartNodeId(), k -> new HashSet<>()).add(mappedRelationship);
+            registeredRelationshipsByNodeId
+                .computeIfAbsent(mappedRelationship.getEndNodeId(), k -> new HashSet<>()).add(mappedRelationship);
+        }
+    }
+
+    private boolean removeRegisteredRelationshipImpl(Mappable mappedRelationship) {
+        if (!this.registeredRelationships.remove(mappedRelationship)) {
+            return false;
+        }
+        registeredRelationshipsByNodeId.get(mappedRelationship.getStartNodeId()).remove(mappedRelationship);
+        registeredRelationshipsByNodeId.get(mappedRelationship.getEndNodeId()).remove(mappedRelationship);
+        return true;
     }
 
     @Override
@@ -175,7 +240,7 @@ public class CypherContext implements CompileContext {
      * {@link #deregisterIncomingRelationships(Long, String, Class, boolean)} and
      * {@link #deregisterOutgoingRelationships(Long, String, Class)} methods. The extractors passed to this method here
      * are used to extract the relevant information of all candidates that might need to be deregistered. Candidates are
-     * all registered relationships.
+     * all registered relationships starting or ending at the given node.
      *
      * @param nodeId                     the native id of the relationship to deregister
      * @param relationshipType           the type of the relationship to deregister
@@ -188,13 +253,15 @@ public class CypherContext implements CompileContext {
         Function<Mappable, Long> candidateNodeIdExtractor,
         Function<Mappable, Class> candidateNodeTypeExtractor) {
 
-        List<Mappable> boundForDeletion = new ArrayList<>();
-        Iterator<Mappable> candidatesForDeletion = this.registeredRelationships.iterator();
+        registerKnownRelationshipsOf(nodeId);
+        Set<Mappable> candidatesForDeletion = this.registeredRelationshipsByNodeId.get(nodeId);
+        if (candidatesForDeletion == null) {
+            return true;
+        }
 
+        List<Mappable> boundForDeletion = new ArrayList<>();
         boolean existsInGraph = false;
-        while (candidatesForDeletion.hasNext()) {
-
-            Mappable candidate = candidatesForDeletion.next();
+        for (Mappable candidate : candidatesForDeletion) {
 
             long candidateNodeId = candidateNodeIdExtractor.apply(candidate);
             String candidateRelationshipType = candidate.getRelationshipType();
@@ -207,11 +274,11 @@ public class CypherContext implements CompileContext {
                 existsInGraph = true;
                 if (!isAlreadyDeleted(candidate)) {
                     boundForDeletion.add(candidate);
-                    candidatesForDeletion.remove();
                 }
             }
         }
 
+        boundForDeletion.forEach(this::removeRegisteredRelationshipImpl);
         this.deletedRelationships.addAll(boundForDeletion);
         boolean aCandidateMarkedForDeletion = !boundForDeletion.isEmpty();
 
@@ -21,15 +21,23 @@ package org.neo4j.ogm.cypher.compiler;
 import static java.util.stream.Collectors.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.cypher.compiler.builders.statement.CombinedNewNodeStatementBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.node.DefaultNodeBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.node.DefaultRelationshipBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.statement.DeletedRelationshipEntityStatementBuilder;
@@ -38,6 +46,7 @@ import org.neo4j.ogm.cypher.compiler.builders.statement.ExistingNodeStatementBui
 import org.neo4j.ogm.cypher.compiler.builders.statement.ExistingRelationshipStatementBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.statement.NewNodeStatementBuilder;
 import org.neo4j.ogm.cypher.compiler.builders.statement.NewRelationshipStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.builders.statement.NewSubgraphStatementBuilder;
 import org.neo4j.ogm.exception.core.UnknownStatementTypeException;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Node;
@@ -57,17 +66,30 @@ public class MultiStatementCypherCompiler implements Compiler {
     private final CompileContext context;
     private final List<NodeBuilder> newNodeBuilders;
     private final List<RelationshipBuilder> newRelationshipBuilders;
-    private final List<NodeBuilder> existingNodeBuilders;
+    private final Set<NodeBuilder> existingNodeBuilders;
     private final List<RelationshipBuilder> existingRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipBuilders;
     private final List<RelationshipBuilder> deletedRelationshipEntityBuilders;
     private StatementFactory statementFactory;
+    private boolean combineNewNodeStatements;
+    private boolean combineNewRelationshipStatements;
+    private StatementTemplateCache templates = StatementTemplateCache.NO_CACHE;
 
     public MultiStatementCypherCompiler(Function<Object, Long> nativeIdProvider) {
-        this.context = new CypherContext(this, nativeIdProvider);
+        this(nativeIdProvider, nodeId -> Collections.emptySet());
+    }
+
+    /**
+     * @param nativeIdProvider         Provides native ids of entities
+     * @param knownRelationshipsLookup Retrieves the already known relationships starting or ending at a given node
+     * @see CypherContext#CypherContext(Compiler, Function, Function)
+     */
+    public MultiStatementCypherCompiler(Function<Object, Long> nativeIdProvider,
+        Function<Long, Collection<? extends Mappable>> knownRelationshipsLookup) {
+        this.context = new CypherContext(this, nativeIdProvider, knownRelationshipsLookup);
         this.newNodeBuilders = new ArrayList<>();
         this.newRelationshipBuilders = new ArrayList<>();
-        this.existingNodeBuilders = new ArrayList<>();
+        this.existingNodeBuilders = new LinkedHashSet<>();
         this.existingRelationshipBuilders = new ArrayList<>();
         this.deletedRelationshipBuilders = new ArrayList<>();
         this.deletedRelationshipEntityBuilders = new ArrayList<>();
@@ -129,9 +151,24 @@ public class MultiStatementCypherCompiler implements Compiler {
         assertStatementFactoryExists();
         Map<String, Set<Node>> newNodesByLabels = groupNodesByLabel(newNodeBuilders);
         List<Statement> statements = new ArrayList<>(newNodesByLabels.size());
+        List<Set<Node>> combinableNodes = new ArrayList<>();
         for (Set<Node> nodeModels : newNodesByLabels.values()) {
-            NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(nodeModels, statementFactory);
-            statements.add(newNodeBuilder.build());
+            Node firstNode = nodeModels.iterator().next();
+            if (combineNewNodeStatements && firstNode.getPrimaryIndex() == null && !firstNode.hasVersionProperty()) {
+                combinableNodes.add(nodeModels);
+            } else {
+                NewNodeStatementBuilder newNodeBuilder = new NewNodeStatementBuilder(nodeModels, statementFactory,
+                    templates);
+                statements.add(newNodeBuilder.build());
+            }
+        }
+
+        if (combinableNodes.size() == 1) {
+            statements.add(new NewNodeStatementBuilder(combinableNodes.get(0), statementFactory, templates).build());
+        } else if (combinableNodes.size() > 1) {
+            // Keep the order of the label sets stable so that the same combination always results in the same statement
+            combinableNodes.sort(Comparator.comparing(nodes -> nodes.iterator().next().labelSignature()));
+            statements.add(new CombinedNewNodeStatementBuilder(combinableNodes, statementFactory).build());
         }
 
         return statements;
@@ -166,7 +203,7 @@ public class MultiStatementCypherCompiler implements Compiler {
             //For each set of unique property keys
             for (Set<Edge> edges : edgesByProperties.values()) {
                 NewRelationshipStatementBuilder newRelationshipBuilder = new NewRelationshipStatementBuilder(edges,
-                    statementFactory);
+                    statementFactory, templates);
                 statements.add(newRelationshipBuilder.build());
             }
         }
@@ -174,6 +211,48 @@ public class MultiStatementCypherCompiler implements Compiler {
         return statements;
     }
 
+    @Override
+    public Optional<Statement> createNodesAndRelationshipsStatement() {
+        assertStatementFactoryExists();
+        if (!combineNewRelationshipStatements || newNodeBuilders.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Long> newNodeReferences = new HashSet<>();
+        List<Set<Node>> newNodesByLabels = new ArrayList<>();
+        for (Set<Node> nodeModels : groupNodesByLabel(newNodeBuilders).values()) {
+            Node firstNode = nodeModels.iterator().next();
+            if (firstNode.getPrimaryIndex() != null || firstNode.hasVersionProperty()) {
+                return Optional.empty();
+            }
+            nodeModels.forEach(node -> newNodeReferences.add(node.getId()));
+            newNodesByLabels.add(nodeModels);
+        }
+        newNodesByLabels.sort(Comparator.comparing(nodes -> nodes.iterator().next().labelSignature()));
+
+        // Same grouping as for the separate statements: by type and primary id
+        Map<String, Map<String, Set<Edge>>> relsByTypeAndProps = new LinkedHashMap<>();
+        for (RelationshipBuilder relationshipBuilder : newRelationshipBuilders) {
+            Edge edge = relationshipBuilder.edge();
+            if (edge.getStartNode() == null || edge.getEndNode() == null) {
+                continue;
+            }
+            if ((edge.getStartNode() < 0 && !newNodeReferences.contains(edge.getStartNode()))
+                || (edge.getEndNode() < 0 && !newNodeReferences.contains(edge.getEndNode()))) {
+                return Optional.empty();
+            }
+            relsByTypeAndProps
+                .computeIfAbsent(relationshipBuilder.type(), key -> new LinkedHashMap<>())
+                .computeIfAbsent(edge.getPrimaryIdName(), key -> new LinkedHashSet<>())
+                .add(edge);
+        }
+
+        List<Set<Edge>> newEdges = new ArrayList<>();
+        relsByTypeAndProps.values().forEach(edgesByProperties -> newEdges.addAll(edgesByProperties.values()));
+
+        return Optional.of(new NewSubgraphStatementBuilder(newNodesByLabels, newEdges, statementFactory).build());
+    }
+
     @Override
     public List<Statement> updateNodesStatements() {
         assertStatementFactoryExists();
@@ -182,7 +261,7 @@ public class MultiStatementCypherCompiler implements Compiler {
         List<Statement> statements = new ArrayList<>(existingNodesByLabels.size());
         for (Set<Node> nodeModels : existingNodesByLabels.values()) {
             ExistingNodeStatementBuilder existingNodeBuilder = new ExistingNodeStatementBuilder(nodeModels,
-                statementFactory);
+                statementFactory, templates);
             statements.add(existingNodeBuilder.build());
         }
 
@@ -199,7 +278,7 @@ public class MultiStatementCypherCompiler implements Compiler {
                 relationships.add(relBuilder.edge());
             }
             ExistingRelationshipStatementBuilder existingRelationshipBuilder = new ExistingRelationshipStatementBuilder(
-                relationships, statementFactory);
+                relationships, statementFactory, templates);
             statements.add(existingRelationshipBuilder.build());
         }
         return statements;
@@ -214,7 +293,7 @@ public class MultiStatementCypherCompiler implements Compiler {
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
             DeletedRelationshipStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipStatementBuilder(
-                edges, statementFactory);
+                edges, statementFactory, templates);
             statements.add(deletedRelationshipBuilder.build());
         }
         return statements;
@@ -230,7 +309,7 @@ public class MultiStatementCypherCompiler implements Compiler {
 
         for (Set<Edge> edges : deletedRelsByType.values()) {
             DeletedRelationshipEntityStatementBuilder deletedRelationshipBuilder = new DeletedRelationshipEntityStatementBuilder(
-                edges, statementFactory);
+                edges, statementFactory, templates);
             statements.add(deletedRelationshipBuilder.build());
         }
         return statements;
@@ -296,13 +375,28 @@ public class MultiStatementCypherCompiler implements Compiler {
         return unmapped;
     }
 
+    @Override
+    public void combineNewNodeStatements(boolean combine) {
+        this.combineNewNodeStatements = combine;
+    }
+
+    @Override
+    public void combineNewRelationshipStatements(boolean combine) {
+        this.combineNewRelationshipStatements = combine;
+    }
+
+    @Override
+    public void useStatementTemplateCache(StatementTemplateCache templates) {
+        this.templates = templates;
+    }
+
     private void assertStatementFactoryExists() {
         if (statementFactory == null) {
             throw new UnknownStatementTypeException("Unknown statement type- statementFactory must be specified!");
         }
     }
 
-    private Map<String, Set<Node>> groupNodesByLabel(List<NodeBuilder> nodeBuilders) {
+    private Map<String, Set<Node>> groupNodesByLabel(Collection<NodeBuilder> nodeBuilders) {
         return nodeBuilders.stream()
             .map(NodeBuilder::node)
             .collect(groupingBy(Node::labelSignature, Collectors.mapping(Function.identity(), Collectors.toSet())));
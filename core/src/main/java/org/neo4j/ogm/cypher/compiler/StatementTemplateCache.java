@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the Cypher text of save statements by their shape, that is the kind of statement together with everything
+ * the text depends on, like labels, relationship type, primary index and version property. Only the rows of a
+ * statement have to be built for each save then.
+ * <p>
+ * The cache is meant to be shared by all sessions of a {@link org.neo4j.ogm.session.SessionFactory}. Shapes depending
+ * on dynamic labels or properties are not bounded, so templates are not cached anymore once the maximum size is reached.
+ */
+public class StatementTemplateCache {
+
+    /**
+     * A cache that doesn't cache anything.
+     */
+    public static final StatementTemplateCache NO_CACHE = new StatementTemplateCache(0);
+
+    private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Map<List<Object>, String> templates = new ConcurrentHashMap<>();
+
+    private final int maximumSize;
+
+    public StatementTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public StatementTemplateCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the template for the given shape, building and caching it if necessary.
+     *
+     * @param template builds the Cypher text for the shape
+     * @param shape    the kind of the statement and all values the Cypher text depends on, may contain {@literal null}
+     * @return The Cypher text of the statement
+     */
+    public String get(Supplier<String> template, Object... shape) {
+
+        if (maximumSize == 0) {
+            return template.get();
+        }
+
+        List<Object> key = Arrays.asList(shape);
+        String cypher = templates.get(key);
+        if (cypher == null) {
+            cypher = template.get();
+            if (templates.size() < maximumSize) {
+                templates.putIfAbsent(key, cypher);
+            }
+        }
+        return cypher;
+    }
+
+    /**
+     * @return The number of cached templates
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+}
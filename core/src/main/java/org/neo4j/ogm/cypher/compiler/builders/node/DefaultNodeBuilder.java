@@ -19,13 +19,11 @@
 package org.neo4j.ogm.cypher.compiler.builders.node;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.NodeBuilder;
 import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.model.Node;
-import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.response.model.NodeModel;
 import org.neo4j.ogm.response.model.PropertyModel;
 
@@ -42,15 +40,11 @@ public class DefaultNodeBuilder extends AbstractPropertyContainerBuilder<NodeBui
 
     @Override
     public NodeBuilder addProperty(String key, Object value) {
-        List<Property<String, Object>> propertyList = super.targetContainer.getPropertyList();
-
-        for (Property<String, Object> property : propertyList) {
-            if (property.getKey().equals(key)) {
-                throw new MappingException("Node model already contains property: " + key);
-            }
+        if (super.targetContainer.hasProperty(key)) {
+            throw new MappingException("Node model already contains property: " + key);
         }
 
-        propertyList.add(new PropertyModel<>(key, value));
+        super.targetContainer.addProperty(key, value);
         return this;
     }
 
@@ -62,7 +62,7 @@ public class DefaultRelationshipBuilder extends AbstractPropertyContainerBuilder
 
     @Override
     public RelationshipBuilder addProperty(String key, Object value) {
-        super.targetContainer.getPropertyList().add(new PropertyModel<>(key, value));
+        super.targetContainer.addProperty(key, value);
         return this;
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementFactory;
+
+/**
+ * Creates new nodes with different label sets in one statement. Cypher doesn't allow labels to be passed as parameters,
+ * so every row carries the index of its label set and each label set is applied by a conditional {@code FOREACH}.
+ * <p>
+ * Only suitable for nodes that are created unconditionally, that is nodes without primary index and version property.
+ */
+public class CombinedNewNodeStatementBuilder implements CypherStatementBuilder {
+
+    private final StatementFactory statementFactory;
+
+    private final List<Set<Node>> newNodesByLabelSet;
+
+    /**
+     * @param newNodesByLabelSet groups of new nodes, all nodes of a group having the same labels
+     * @param statementFactory   the factory for the resulting statement
+     */
+    public CombinedNewNodeStatementBuilder(List<Set<Node>> newNodesByLabelSet, StatementFactory statementFactory) {
+        this.newNodesByLabelSet = newNodesByLabelSet;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final Map<String, Object> parameters = new HashMap<>();
+        final StringBuilder queryBuilder = new StringBuilder();
+        final List<Map> rows = new ArrayList<>();
+
+        queryBuilder.append("UNWIND $rows as row ");
+        appendCreateNodes(queryBuilder, newNodesByLabelSet, rows);
+
+        queryBuilder.append("SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type");
+        parameters.put("type", "node");
+        parameters.put("rows", rows);
+
+        return statementFactory.statement(queryBuilder.toString(), parameters);
+    }
+
+    /**
+     * Appends the creation of node {@code n} for a row of the given label sets and adds those rows.
+     *
+     * @param queryBuilder       the query to append to
+     * @param newNodesByLabelSet groups of new nodes, all nodes of a group having the same labels
+     * @param rows               the rows to be unwound
+     */
+    static void appendCreateNodes(StringBuilder queryBuilder, List<Set<Node>> newNodesByLabelSet, List<Map> rows) {
+
+        boolean singleLabelSet = newNodesByLabelSet.size() == 1;
+        queryBuilder.append(singleLabelSet ? "CREATE (n" : "CREATE (n) ");
+
+        for (int labelSet = 0; labelSet < newNodesByLabelSet.size(); labelSet++) {
+            Set<Node> nodes = newNodesByLabelSet.get(labelSet);
+
+            if (!singleLabelSet) {
+                queryBuilder.append("FOREACH (ignored IN CASE WHEN row.labelSet = ").append(labelSet)
+                    .append(" THEN [1] ELSE [] END | SET n");
+            }
+            for (String label : nodes.iterator().next().getLabels()) {
+                queryBuilder.append(":`").append(label).append("`");
+            }
+            queryBuilder.append(") ");
+
+            for (Node node : nodes) {
+                Map<String, Object> row = node.toRow("nodeRef");
+                row.put("labelSet", labelSet);
+                rows.add(row);
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.OptimisticLockingConfig;
@@ -42,26 +43,30 @@ public class DeletedRelationshipEntityStatementBuilder implements CypherStatemen
 
     private final Set<Edge> deletedEdges;
 
+    private final StatementTemplateCache templates;
+
     public DeletedRelationshipEntityStatementBuilder(Set<Edge> deletedEdges, StatementFactory statementFactory) {
+        this(deletedEdges, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public DeletedRelationshipEntityStatementBuilder(Set<Edge> deletedEdges, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.deletedEdges = deletedEdges;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
         if (deletedEdges != null && deletedEdges.size() > 0) {
             Edge firstEdge = deletedEdges.iterator().next();
 
-            queryBuilder.append("UNWIND $rows AS row MATCH ()-[r]->() WHERE ID(r) = row.relId ");
-
-            if (firstEdge.hasVersionProperty()) {
-                queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstEdge, "r"));
-            }
-            queryBuilder.append("DELETE r RETURN ID(r) as ref, ID(r) as id, $type as type");
+            statement = templates.get(() -> template(firstEdge), "DeletedRelationshipEntity",
+                firstEdge.hasVersionProperty() ? firstEdge.getVersion().getKey() : null);
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : deletedEdges) {
@@ -79,10 +84,24 @@ public class DeletedRelationshipEntityStatementBuilder implements CypherStatemen
             if (firstEdge.hasVersionProperty()) {
                 OptimisticLockingConfig olConfig = new OptimisticLockingConfig(rows.size(),
                     new String[] { firstEdge.getType() }, firstEdge.getVersion().getKey());
-                return statementFactory.statement(queryBuilder.toString(), parameters, olConfig);
+                return statementFactory.statement(statement, parameters, olConfig);
             }
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
+    }
+
+    private static String template(Edge firstEdge) {
+
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder.append("UNWIND $rows AS row MATCH ()-[r]->() WHERE ID(r) = row.relId ");
+
+        if (firstEdge.hasVersionProperty()) {
+            queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstEdge, "r"));
+        }
+        queryBuilder.append("DELETE r RETURN ID(r) as ref, ID(r) as id, $type as type");
+
+        return queryBuilder.toString();
     }
 }
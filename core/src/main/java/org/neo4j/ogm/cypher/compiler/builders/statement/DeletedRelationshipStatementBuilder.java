@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
@@ -40,24 +41,34 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
 
     private final Set<Edge> deletedEdges;
 
+    private final StatementTemplateCache templates;
+
     public DeletedRelationshipStatementBuilder(Set<Edge> deletedEdges, StatementFactory statementFactory) {
+        this(deletedEdges, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public DeletedRelationshipStatementBuilder(Set<Edge> deletedEdges, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.deletedEdges = deletedEdges;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
         if (deletedEdges != null && deletedEdges.size() > 0) {
             Edge firstEdge = deletedEdges.iterator().next();
 
-            queryBuilder.append("UNWIND $rows as row ")
+            statement = templates.get(() -> new StringBuilder()
+                .append("UNWIND $rows as row ")
                 .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode ")
                 .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
                 .append("MATCH (startNode)-[rel:`").append(firstEdge.getType()).append("`]->(endNode) ")
-                .append("DELETE rel");
+                .append("DELETE rel")
+                .toString(), "DeletedRelationship", firstEdge.getType());
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : deletedEdges) {
@@ -69,6 +80,6 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
     }
 }
@@ -18,14 +18,18 @@
  */
 package org.neo4j.ogm.cypher.compiler.builders.statement;
 
+import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.OptimisticLockingConfig;
 import org.neo4j.ogm.request.Statement;
@@ -42,40 +46,35 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
 
     private final Set<Node> existingNodes;
 
+    private final StatementTemplateCache templates;
+
     public ExistingNodeStatementBuilder(Set<Node> existingNodes, StatementFactory statementFactory) {
+        this(existingNodes, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public ExistingNodeStatementBuilder(Set<Node> existingNodes, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.existingNodes = existingNodes;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
         if (existingNodes != null && existingNodes.size() > 0) {
             Node firstNode = existingNodes.iterator().next();
 
-            queryBuilder
-                .append("UNWIND $rows as row MATCH (n) WHERE ID(n)=row.nodeId ");
-
-            if (firstNode.hasVersionProperty()) {
-                queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstNode, "n"));
-            }
+            String propertyRemovalFragment = firstNode.createPropertyRemovalFragment("n");
+            Set<String> previousDynamicLabels = firstNode.getPreviousDynamicLabels().isEmpty()
+                ? emptySet() : new HashSet<>(firstNode.getPreviousDynamicLabels());
+            statement = templates.get(() -> template(firstNode, propertyRemovalFragment), "ExistingNode",
+                Arrays.asList(firstNode.getLabels()), previousDynamicLabels, propertyRemovalFragment,
+                firstNode.hasVersionProperty() ? firstNode.getVersion().getKey() : null);
 
-            Set<String> previousDynamicLabels = firstNode.getPreviousDynamicLabels();
-            for (String label : previousDynamicLabels) {
-                queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
-            }
-
-            queryBuilder.append(firstNode.createPropertyRemovalFragment("n"));
-
-            queryBuilder.append("SET n");
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":`").append(label).append("`");
-            }
-
-            queryBuilder.append(" SET n += row.props RETURN row.nodeId as ref, ID(n) as id, $type as type");
             List<Map> rows = existingNodes.stream().map(node -> node.toRow("nodeId")).collect(toList());
             parameters.put("type", "node");
             parameters.put("rows", rows);
@@ -83,10 +82,38 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
             if (firstNode.hasVersionProperty()) {
                 OptimisticLockingConfig olConfig = new OptimisticLockingConfig(rows.size(),
                     firstNode.getLabels(), firstNode.getVersion().getKey());
-                return statementFactory.statement(queryBuilder.toString(), parameters, olConfig);
+                return statementFactory.statement(statement, parameters, olConfig);
             }
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
+    }
+
+    private static String template(Node firstNode, String propertyRemovalFragment) {
+
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder
+            .append("UNWIND $rows as row MATCH (n) WHERE ID(n)=row.nodeId ");
+
+        if (firstNode.hasVersionProperty()) {
+            queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstNode, "n"));
+        }
+
+        Set<String> previousDynamicLabels = firstNode.getPreviousDynamicLabels();
+        for (String label : previousDynamicLabels) {
+            queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
+        }
+
+        queryBuilder.append(propertyRemovalFragment);
+
+        queryBuilder.append("SET n");
+        for (String label : firstNode.getLabels()) {
+            queryBuilder.append(":`").append(label).append("`");
+        }
+
+        queryBuilder.append(" SET n += row.props RETURN row.nodeId as ref, ID(n) as id, $type as type");
+
+        return queryBuilder.toString();
     }
 }
@@ -22,9 +22,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.OptimisticLockingConfig;
@@ -41,43 +43,44 @@ public class ExistingRelationshipStatementBuilder implements CypherStatementBuil
 
     private final Set<Edge> edges;
 
+    private final StatementTemplateCache templates;
+
     public ExistingRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory) {
+        this(edges, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public ExistingRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.edges = edges;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
         Edge firstEdge = edges.iterator().next();
         if (edges.size() > 0) {
-            queryBuilder.append("UNWIND $rows AS row MATCH ()-[r]->() WHERE ID(r) = row.relId ");
+            String propertyRemovalFragment = firstEdge.createPropertyRemovalFragment("r");
+            statement = templates.get(() -> template(firstEdge, propertyRemovalFragment), "ExistingRelationship",
+                propertyRemovalFragment, firstEdge.hasVersionProperty() ? firstEdge.getVersion().getKey() : null);
 
-            if (firstEdge.hasVersionProperty()) {
-                queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstEdge, "r"));
-            }
-
-            queryBuilder.append(firstEdge.createPropertyRemovalFragment("r"));
-
-            queryBuilder.append("SET r += row.props ");
-            queryBuilder.append("RETURN ID(r) as ref, ID(r) as id, $type as type");
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
                 Map<String, Object> rowMap = new HashMap<>();
                 rowMap.put("relId", edge.getId());
-                Map<String, Object> props = new HashMap<>();
-                for (Property property : edge.getPropertyList()) {
-                    if (!property.equals(edge.getVersion())) {
-                        props.put((String) property.getKey(), property.getValue());
+                Map<String, Object> props = edge.getProperties();
+                if (edge.hasVersionProperty()) {
+                    Property<String, Long> version = edge.getVersion();
+                    if (Objects.equals(props.get(version.getKey()), version.getValue())) {
+                        props = new HashMap<>(props);
+                        props.remove(version.getKey());
                     }
+                    rowMap.put(version.getKey(), version.getValue());
                 }
                 rowMap.put("props", props);
-                if (edge.hasVersionProperty()) {
-                    Property version = edge.getVersion();
-                    rowMap.put((String) version.getKey(), version.getValue());
-                }
                 rows.add(rowMap);
             }
             parameters.put("rows", rows);
@@ -85,11 +88,29 @@ public class ExistingRelationshipStatementBuilder implements CypherStatementBuil
             if (firstEdge.hasVersionProperty()) {
                 OptimisticLockingConfig olConfig = new OptimisticLockingConfig(rows.size(),
                     new String[] { firstEdge.getType() }, firstEdge.getVersion().getKey());
-                return statementFactory.statement(queryBuilder.toString(), parameters, olConfig);
+                return statementFactory.statement(statement, parameters, olConfig);
             }
 
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
+    }
+
+    private static String template(Edge firstEdge, String propertyRemovalFragment) {
+
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder.append("UNWIND $rows AS row MATCH ()-[r]->() WHERE ID(r) = row.relId ");
+
+        if (firstEdge.hasVersionProperty()) {
+            queryBuilder.append(OptimisticLockingUtils.getFragmentForExistingNodesAndRelationships(firstEdge, "r"));
+        }
+
+        queryBuilder.append(propertyRemovalFragment);
+
+        queryBuilder.append("SET r += row.props ");
+        queryBuilder.append("RETURN ID(r) as ref, ID(r) as id, $type as type");
+
+        return queryBuilder.toString();
     }
 }
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.request.OptimisticLockingConfig;
 import org.neo4j.ogm.request.Statement;
@@ -45,46 +46,31 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
     private final Set<Node> newNodes;
 
+    private final StatementTemplateCache templates;
+
     public NewNodeStatementBuilder(Set<Node> newNodes, StatementFactory statementFactory) {
+        this(newNodes, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public NewNodeStatementBuilder(Set<Node> newNodes, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.newNodes = newNodes;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
         if (newNodes != null && newNodes.size() > 0) {
             Node firstNode = newNodes.iterator().next();
 
-            queryBuilder.append("UNWIND $rows as row ");
-
-            boolean hasPrimaryIndex = firstNode.getPrimaryIndex() != null;
-            if (hasPrimaryIndex) {
-                queryBuilder.append("MERGE (n");
-            } else {
-                queryBuilder.append("CREATE (n");
-            }
-
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":`").append(label).append("`");
-            }
-
-            if (hasPrimaryIndex) {
-                String propertiesToMergeOn = Arrays.stream(firstNode.getPrimaryIndex().split(PROPERTY_SEPARATOR))
-                    .map(p -> p + ": row.props." + p)
-                    .collect(joining(",", "{", "}"));
-                queryBuilder.append(propertiesToMergeOn);
-            }
-            queryBuilder.append(") "); // Closing MERGE or CREATE
+            statement = templates.get(() -> template(firstNode), "NewNode", Arrays.asList(firstNode.getLabels()),
+                firstNode.getPrimaryIndex(), firstNode.hasVersionProperty() ? firstNode.getVersion().getKey() : null);
 
-            if (firstNode.hasVersionProperty() && hasPrimaryIndex) {
-                queryBuilder.append(getFragmentForNewOrExistingNodes(firstNode, "n"));
-            }
-
-            queryBuilder.append("SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type");
             List<Map> rows = newNodes.stream().map(node -> node.toRow("nodeRef")).collect(toList());
             parameters.put("type", "node");
             parameters.put("rows", rows);
@@ -92,10 +78,44 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
             if (firstNode.hasVersionProperty()) {
                 OptimisticLockingConfig olConfig = new OptimisticLockingConfig(rows.size(),
                     firstNode.getLabels(), firstNode.getVersion().getKey());
-                return statementFactory.statement(queryBuilder.toString(), parameters, olConfig);
+                return statementFactory.statement(statement, parameters, olConfig);
             }
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
+    }
+
+    private static String template(Node firstNode) {
+
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        queryBuilder.append("UNWIND $rows as row ");
+
+        boolean hasPrimaryIndex = firstNode.getPrimaryIndex() != null;
+        if (hasPrimaryIndex) {
+            queryBuilder.append("MERGE (n");
+        } else {
+            queryBuilder.append("CREATE (n");
+        }
+
+        for (String label : firstNode.getLabels()) {
+            queryBuilder.append(":`").append(label).append("`");
+        }
+
+        if (hasPrimaryIndex) {
+            String propertiesToMergeOn = Arrays.stream(firstNode.getPrimaryIndex().split(PROPERTY_SEPARATOR))
+                .map(p -> p + ": row.props." + p)
+                .collect(joining(",", "{", "}"));
+            queryBuilder.append(propertiesToMergeOn);
+        }
+        queryBuilder.append(") "); // Closing MERGE or CREATE
+
+        if (firstNode.hasVersionProperty() && hasPrimaryIndex) {
+            queryBuilder.append(getFragmentForNewOrExistingNodes(firstNode, "n"));
+        }
+
+        queryBuilder.append("SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type");
+
+        return queryBuilder.toString();
     }
 }
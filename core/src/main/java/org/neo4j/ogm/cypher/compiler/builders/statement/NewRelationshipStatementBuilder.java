@@ -27,8 +27,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.model.Edge;
-import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
 
@@ -43,52 +43,31 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
 
     private final Set<Edge> edges;
 
+    private final StatementTemplateCache templates;
+
     public NewRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory) {
+        this(edges, statementFactory, StatementTemplateCache.NO_CACHE);
+    }
+
+    public NewRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory,
+        StatementTemplateCache templates) {
         this.edges = edges;
         this.statementFactory = statementFactory;
+        this.templates = templates;
     }
 
     @Override
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String statement = "";
 
-        boolean hasProperties = false;
         if (edges != null && edges.size() > 0) {
             Edge firstEdge = edges.iterator().next();
-            String relType = firstEdge.getType();
-            hasProperties = firstEdge.getPropertyList().size() > 0;
-            boolean hasPrimaryId = firstEdge.getPrimaryIdName() != null;
-
-            queryBuilder.append("UNWIND $rows as row ")
-                .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode ")
-                .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ");
-
-            if (hasProperties && !hasPrimaryId) {
-                queryBuilder.append("CREATE ");
-            } else {
-                queryBuilder.append("MERGE ");
-            }
-
-            queryBuilder.append("(startNode)-[rel:`")
-                .append(relType)
-                .append("`");
+            boolean hasProperties = !firstEdge.getProperties().isEmpty();
 
-            if (hasPrimaryId) {
-                queryBuilder.append(" {`")
-                    .append(firstEdge.getPrimaryIdName())
-                    .append("`: row.props.`")
-                    .append(firstEdge.getPrimaryIdName())
-                    .append("`}");
-            }
-            queryBuilder.append("]->(endNode) ");
-
-            if (hasProperties) {
-                queryBuilder.append("SET rel += row.props ");
-
-            }
-            queryBuilder.append("RETURN row.relRef as ref, ID(rel) as id, $type as type");
+            statement = templates.get(() -> template(firstEdge, hasProperties), "NewRelationship",
+                firstEdge.getType(), hasProperties, firstEdge.getPrimaryIdName());
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
@@ -97,11 +76,7 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
                 rowMap.put("endNodeId", edge.getEndNode());
                 rowMap.put("relRef", edge.getId());
                 if (hasProperties) {
-                    Map<String, Object> props = new HashMap<>();
-                    for (Property property : edge.getPropertyList()) {
-                        props.put((String) property.getKey(), property.getValue());
-                    }
-                    rowMap.put("props", props);
+                    rowMap.put("props", edge.getProperties());
                 } else {
                     // need to put empty map here for simple relationships to avoid Cypher error because
                     // props is used in the query
@@ -113,6 +88,45 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(statement, parameters);
+    }
+
+    private static String template(Edge firstEdge, boolean hasProperties) {
+
+        final StringBuilder queryBuilder = new StringBuilder();
+
+        String relType = firstEdge.getType();
+        boolean hasPrimaryId = firstEdge.getPrimaryIdName() != null;
+
+        queryBuilder.append("UNWIND $rows as row ")
+            .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId WITH row,startNode ")
+            .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ");
+
+        if (hasProperties && !hasPrimaryId) {
+            queryBuilder.append("CREATE ");
+        } else {
+            queryBuilder.append("MERGE ");
+        }
+
+        queryBuilder.append("(startNode)-[rel:`")
+            .append(relType)
+            .append("`");
+
+        if (hasPrimaryId) {
+            queryBuilder.append(" {`")
+                .append(firstEdge.getPrimaryIdName())
+                .append("`: row.props.`")
+                .append(firstEdge.getPrimaryIdName())
+                .append("`}");
+        }
+        queryBuilder.append("]->(endNode) ");
+
+        if (hasProperties) {
+            queryBuilder.append("SET rel += row.props ");
+
+        }
+        queryBuilder.append("RETURN row.relRef as ref, ID(rel) as id, $type as type");
+
+        return queryBuilder.toString();
     }
 }
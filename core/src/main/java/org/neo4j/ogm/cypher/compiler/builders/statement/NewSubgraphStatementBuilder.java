@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler.builders.statement;
+
+import static java.util.Collections.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.neo4j.ogm.cypher.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.request.StatementFactory;
+
+/**
+ * Creates new nodes together with the relationships between them and to existing nodes in one statement, so that the
+ * relationships don't have to wait for the ids of the new nodes.
+ * <p>
+ * All new nodes and all existing start and end nodes are collected into one list on the server side, each together with
+ * its reference: the negative reference of a new node or the id of an existing one. Every relationship row carries the
+ * references of its start and end node and looks them up in that list, as the order in which the nodes are collected
+ * is not guaranteed. The statement returns the same {@code ref}, {@code id} and {@code type} columns as the separate
+ * statements for nodes and relationships.
+ * <p>
+ * Only suitable for nodes that are created unconditionally, that is nodes without primary index and version property.
+ */
+public class NewSubgraphStatementBuilder implements CypherStatementBuilder {
+
+    private final StatementFactory statementFactory;
+
+    private final List<Set<Node>> newNodesByLabelSet;
+
+    private final List<Set<Edge>> newEdgesByTypeAndProperties;
+
+    /**
+     * @param newNodesByLabelSet          groups of new nodes, all nodes of a group having the same labels
+     * @param newEdgesByTypeAndProperties groups of new relationships, all relationships of a group having the same type
+     *                                    and primary id, whose start and end nodes are either references to the new
+     *                                    nodes or ids of existing nodes
+     * @param statementFactory            the factory for the resulting statement
+     */
+    public NewSubgraphStatementBuilder(List<Set<Node>> newNodesByLabelSet, List<Set<Edge>> newEdgesByTypeAndProperties,
+        StatementFactory statementFactory) {
+        this.newNodesByLabelSet = newNodesByLabelSet;
+        this.newEdgesByTypeAndProperties = newEdgesByTypeAndProperties;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final Map<String, Object> parameters = new HashMap<>();
+        final StringBuilder queryBuilder = new StringBuilder();
+        final List<Map> nodeRows = new ArrayList<>();
+
+        queryBuilder.append("UNWIND $nodeRows as row ");
+        CombinedNewNodeStatementBuilder.appendCreateNodes(queryBuilder, newNodesByLabelSet, nodeRows);
+        queryBuilder.append("SET n=row.props ")
+            .append("WITH collect({ref: row.nodeRef, node: n}) as nodes, ")
+            .append("collect({ref: row.nodeRef, id: ID(n), type: 'node'}) as results ");
+        parameters.put("nodeRows", nodeRows);
+
+        Set<Object> newNodeRefs = new HashSet<>();
+        for (Map nodeRow : nodeRows) {
+            newNodeRefs.add(nodeRow.get("nodeRef"));
+        }
+
+        Set<Long> existingNodeIds = new LinkedHashSet<>();
+        List<List<Map>> relRowsByGroup = new ArrayList<>();
+        for (Set<Edge> edges : newEdgesByTypeAndProperties) {
+            boolean hasProperties = !edges.iterator().next().getProperties().isEmpty();
+            List<Map> relRows = new ArrayList<>();
+            for (Edge edge : edges) {
+                Map<String, Object> rowMap = new HashMap<>();
+                rowMap.put("startRef", ref(edge.getStartNode(), newNodeRefs, existingNodeIds));
+                rowMap.put("endRef", ref(edge.getEndNode(), newNodeRefs, existingNodeIds));
+                rowMap.put("relRef", edge.getId());
+                rowMap.put("props", hasProperties ? edge.getProperties() : emptyMap());
+                relRows.add(rowMap);
+            }
+            relRowsByGroup.add(relRows);
+        }
+
+        if (!existingNodeIds.isEmpty()) {
+            // OPTIONAL MATCH keeps the rows of the new nodes, even if an existing node doesn't exist anymore
+            queryBuilder.append("UNWIND $existingNodeIds as existingNodeId ")
+                .append("OPTIONAL MATCH (existingNode) WHERE ID(existingNode) = existingNodeId ")
+                .append("WITH head(collect(nodes)) + collect({ref: existingNodeId, node: existingNode}) as nodes, ")
+                .append("head(collect(results)) as results ");
+            parameters.put("existingNodeIds", new ArrayList<>(existingNodeIds));
+        }
+
+        for (int group = 0; group < newEdgesByTypeAndProperties.size(); group++) {
+            Edge firstEdge = newEdgesByTypeAndProperties.get(group).iterator().next();
+            boolean hasProperties = !firstEdge.getProperties().isEmpty();
+            boolean hasPrimaryId = firstEdge.getPrimaryIdName() != null;
+            String relRowsParameter = "relRows" + group;
+
+            queryBuilder.append("UNWIND $").append(relRowsParameter).append(" as row ")
+                .append("WITH nodes, results, row, ")
+                .append("head([x IN nodes WHERE x.ref = row.startRef | x.node]) as startNode, ")
+                .append("head([x IN nodes WHERE x.ref = row.endRef | x.node]) as endNode ");
+
+            if (hasProperties && !hasPrimaryId) {
+                queryBuilder.append("CREATE ");
+            } else {
+                queryBuilder.append("MERGE ");
+            }
+
+            queryBuilder.append("(startNode)-[rel:`").append(firstEdge.getType()).append("`");
+            if (hasPrimaryId) {
+                queryBuilder.append(" {`")
+                    .append(firstEdge.getPrimaryIdName())
+                    .append("`: row.props.`")
+                    .append(firstEdge.getPrimaryIdName())
+                    .append("`}");
+            }
+            queryBuilder.append("]->(endNode) ");
+
+            if (hasProperties) {
+                queryBuilder.append("SET rel += row.props ");
+            }
+            // Aggregating without grouping keys always yields a row and doesn't compare the lists row by row
+            queryBuilder.append("WITH head(collect(nodes)) as nodes, ")
+                .append("head(collect(results)) + collect({ref: row.relRef, id: ID(rel), type: 'rel'}) as results ");
+            parameters.put(relRowsParameter, relRowsByGroup.get(group));
+        }
+
+        queryBuilder.append("UNWIND results as result RETURN result.ref as ref, result.id as id, result.type as type");
+
+        return statementFactory.statement(queryBuilder.toString(), parameters);
+    }
+
+    private static Long ref(Long nodeId, Set<Object> newNodeRefs, Set<Long> existingNodeIds) {
+
+        if (!newNodeRefs.contains(nodeId)) {
+            existingNodeIds.add(nodeId);
+        }
+        return nodeId;
+    }
+}
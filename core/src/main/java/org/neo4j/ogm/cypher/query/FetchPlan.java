@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.query;
+
+import static java.util.Objects.*;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Names the relationships to load together with entities of a type, instead of loading all relationships up to a
+ * depth. Paths consist of relationship field names separated by dots, each field belonging to the entity reached by
+ * the path before it:
+ * <pre>
+ * FetchPlan.of(Movie.class).with("actors").with("actors.agent")
+ * </pre>
+ * Adding a path adds all paths leading to it, so {@code with("actors.agent")} alone is the same plan as above. Fields
+ * of relationship entities name the relationship between their start and end node, the next field belongs to the
+ * entity on the other end. An empty plan loads no relationships at all.
+ * <br>
+ * Fetch plans are immutable and can be reused in all sessions.
+ */
+public final class FetchPlan {
+
+    private final Class<?> type;
+    private final Set<String> paths;
+
+    private FetchPlan(Class<?> type, Set<String> paths) {
+        this.type = type;
+        this.paths = Collections.unmodifiableSet(paths);
+    }
+
+    /**
+     * @param type The type of the entities to load, a node entity
+     * @return a plan that loads no relationships
+     */
+    public static FetchPlan of(Class<?> type) {
+        return new FetchPlan(requireNonNull(type, "Type must not be null"), Collections.emptySet());
+    }
+
+    /**
+     * @param path Relationship field names separated by dots
+     * @return a new plan that also loads the relationships on the given path
+     */
+    public FetchPlan with(String path) {
+
+        requireNonNull(path, "Path must not be null");
+        Set<String> newPaths = new LinkedHashSet<>(paths);
+        int separatorIndex = -1;
+        do {
+            int start = separatorIndex + 1;
+            separatorIndex = path.indexOf('.', start);
+            int end = separatorIndex < 0 ? path.length() : separatorIndex;
+            if (start == end) {
+                throw new IllegalArgumentException("Path '" + path + "' contains an empty field name");
+            }
+            newPaths.add(path.substring(0, end));
+        } while (separatorIndex >= 0);
+        return new FetchPlan(type, newPaths);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * @return all paths of this plan, including the ones leading to the paths that were added
+     */
+    public Set<String> getPaths() {
+        return paths;
+    }
+
+    /**
+     * @return the number of fields of the longest path, 0 if the plan loads no relationships
+     */
+    public int getDepth() {
+        int depth = 0;
+        for (String path : paths) {
+            int fields = 1;
+            for (int i = 0; i < path.length(); i++) {
+                if (path.charAt(i) == '.') {
+                    fields++;
+                }
+            }
+            depth = Math.max(depth, fields);
+        }
+        return depth;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FetchPlan fetchPlan = (FetchPlan) o;
+        return type.equals(fetchPlan.type) && paths.equals(fetchPlan.paths);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * type.hashCode() + paths.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan{" + type.getSimpleName() + ", paths=" + paths + '}';
+    }
+}
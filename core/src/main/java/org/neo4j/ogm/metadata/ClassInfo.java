@@ -22,6 +22,8 @@ import static java.util.stream.Collectors.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
@@ -34,6 +36,7 @@ import java.util.stream.Collectors;
 import org.neo4j.ogm.annotation.*;
 import org.neo4j.ogm.annotation.Relationship.Direction;
 import org.neo4j.ogm.autoindex.AutoIndexManager;
+import org.neo4j.ogm.context.DirtyTrackingEntity;
 import org.neo4j.ogm.driver.TypeSystem;
 import org.neo4j.ogm.exception.core.InvalidPropertyFieldException;
 import org.neo4j.ogm.exception.core.MappingException;
@@ -41,6 +44,7 @@ import org.neo4j.ogm.exception.core.MetadataException;
 import org.neo4j.ogm.id.IdStrategy;
 import org.neo4j.ogm.id.InternalIdStrategy;
 import org.neo4j.ogm.id.UuidStrategy;
+import org.neo4j.ogm.typeconversion.ProxyAttributeConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +71,10 @@ public class ClassInfo {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassInfo.class);
 
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+        Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+        BigDecimal.class, UUID.class));
+
     private final List<ClassInfo> directSubclasses = new ArrayList<>();
     private final List<ClassInfo> directInterfaces = new ArrayList<>();
     private final List<ClassInfo> directImplementingClasses = new ArrayList<>();
@@ -95,6 +103,7 @@ public class ClassInfo {
     private volatile Map<String, FieldInfo> propertyFields;
     private volatile Map<String, FieldInfo> indexFields;
     private volatile Collection<FieldInfo> requiredFields;
+    private volatile Collection<FieldInfo> lazyRelationshipFields;
     private volatile Collection<CompositeIndex> compositeIndexes;
     private volatile Optional<FieldInfo> identityField;
     private volatile Optional<FieldInfo> versionField;
@@ -104,6 +113,7 @@ public class ClassInfo {
     private volatile boolean isPostLoadMethodMapped = false;
     private volatile MethodInfo postLoadMethod;
     private volatile Collection<String> staticLabels;
+    private volatile Optional<Set<String>> dirtyTrackedFields;
     private boolean primaryIndexFieldChecked = false;
     private final Class<?> cls;
     private Class<? extends IdStrategy> idStrategyClass;
@@ -397,6 +407,81 @@ public class ClassInfo {
         return null;
     }
 
+    /**
+     * Returns the names of the property fields if instances of this class track writes to their fields themselves,
+     * see {@link DirtyTrackingEntity}. This is only the case if the class and all of its superclasses with fields have
+     * been enhanced, and if all property fields are declared with immutable types and have no custom converter. A
+     * mutable property, for example a date, an array or a collection, can be changed without writing its field, so
+     * those entities must be hashed to detect changes.
+     *
+     * @return The names of the property fields or an empty optional, if changes of this class are not tracked
+     */
+    public Optional<Set<String>> dirtyTrackedFields() {
+        if (dirtyTrackedFields == null) {
+            initDirtyTrackedFields();
+        }
+        return dirtyTrackedFields;
+    }
+
+    private synchronized void initDirtyTrackedFields() {
+        if (dirtyTrackedFields != null) {
+            return;
+        }
+
+        Set<String> fieldNames = new HashSet<>();
+        boolean tracked = DirtyTrackingEntity.class.isAssignableFrom(cls) && isEnhanced(cls)
+            && labelFieldOrNull() == null;
+        if (tracked) {
+            for (FieldInfo fieldInfo : propertyFields()) {
+                if (!isImmutable(fieldInfo.getField().getType()) || hasCustomConverter(fieldInfo)) {
+                    LOGGER.debug("Changes of {} are not tracked, {} has a mutable type or a custom converter",
+                        className, fieldInfo.getName());
+                    tracked = false;
+                    break;
+                }
+                fieldNames.add(fieldInfo.getName());
+            }
+        }
+        dirtyTrackedFields = tracked ? Optional.of(Collections.unmodifiableSet(fieldNames)) : Optional.empty();
+    }
+
+    private static boolean isEnhanced(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            boolean hasState = Arrays.stream(current.getDeclaredFields()).anyMatch(field -> !field.isSynthetic()
+                && !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()));
+            if (hasState && Arrays.stream(current.getDeclaredFields())
+                .noneMatch(field -> field.getName().equals(DirtyTrackingEntity.ENHANCED_MARKER))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The converters of Neo4j-OGM only convert the values of their field, other converters might convert a mutable
+     * object reachable through an immutable field.
+     */
+    private static boolean hasCustomConverter(FieldInfo fieldInfo) {
+        if (fieldInfo.hasCompositeConverter()) {
+            return true;
+        }
+        if (!fieldInfo.hasPropertyConverter()) {
+            return false;
+        }
+        Class<?> converterClass = fieldInfo.getPropertyConverter().getClass();
+        return converterClass == ProxyAttributeConverter.class
+            || !converterClass.getName().startsWith(ProxyAttributeConverter.class.getPackage().getName() + ".");
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        if (type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)) {
+            return true;
+        }
+        // All of the date and time types are immutable, apart from the clock
+        Package typePackage = type.getPackage();
+        return typePackage != null && "java.time".equals(typePackage.getName()) && type != java.time.Clock.class;
+    }
+
     public boolean isRelationshipEntity() {
         for (AnnotationInfo info : annotations()) {
             if (info.getName().equals(RelationshipEntity.class.getName())) {
@@ -517,6 +602,22 @@ public class ClassInfo {
         return relationshipFields;
     }
 
+    /**
+     * @return the relationship fields whose related entities are loaded on first access, see {@link FieldInfo#isLazy()}
+     */
+    public Collection<FieldInfo> lazyRelationshipFields() {
+        if (lazyRelationshipFields == null) {
+            List<FieldInfo> fields = new ArrayList<>();
+            for (FieldInfo fieldInfo : relationshipFields()) {
+                if (fieldInfo.isLazy()) {
+                    fields.add(fieldInfo);
+                }
+            }
+            lazyRelationshipFields = fields;
+        }
+        return lazyRelationshipFields;
+    }
+
     /**
      * Finds the relationship field with a specific name from the ClassInfo's relationship fields
      *
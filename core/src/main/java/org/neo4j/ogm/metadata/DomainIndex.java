@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Enumeration;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The merged content of all domain indexes written at build time by the {@code neo4j-ogm-domain-indexer}. An index
+ * is a plain text file with one binary class name per line.
+ * <p>
+ * An index can be stale, for example when it has been written by an earlier build. Before a package is taken from the
+ * index, the class files the class loader can list for it are compared with the index entries.
+ *
+ * @since 4.0
+ */
+final class DomainIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DomainIndex.class);
+
+    static final String INDEX_LOCATION = "META-INF/neo4j-ogm/domain.index";
+
+    /**
+     * Set this system property to {@literal true} to ignore all indexes and always scan the class path.
+     */
+    static final String IGNORE_INDEX_PROPERTY = "neo4j.ogm.index.ignore";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    /**
+     * Binary names of anonymous and local classes and all classes nested in them, like {@code Outer$1} or
+     * {@code Outer$1Local$Inner}.
+     */
+    private static final Pattern ANONYMOUS_OR_LOCAL_CLASS = Pattern.compile("\\$[0-9]");
+
+    private static final DomainIndex EMPTY = new DomainIndex(new TreeSet<>());
+
+    private final NavigableSet<String> classNames;
+
+    private DomainIndex(NavigableSet<String> classNames) {
+        this.classNames = classNames;
+    }
+
+    static DomainIndex load(ClassLoader classLoader) {
+
+        if (Boolean.getBoolean(IGNORE_INDEX_PROPERTY)) {
+            return EMPTY;
+        }
+
+        NavigableSet<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(INDEX_LOCATION);
+            while (indexes.hasMoreElements()) {
+                URL index = indexes.nextElement();
+                LOGGER.debug("Reading domain index {}", index);
+                try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!(line.isEmpty() || line.startsWith("#"))) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read domain index, falling back to class path scanning", e);
+            return EMPTY;
+        }
+        return classNames.isEmpty() ? EMPTY : new DomainIndex(classNames);
+    }
+
+    /**
+     * @param packageOrClass A package or the fully qualified name of a class
+     * @return True, if the index contains the given class or at least one class in the given package or its subpackages
+     */
+    boolean covers(String packageOrClass) {
+        return !packageOrClass.isEmpty() && (classNames.contains(packageOrClass) || !classesIn(packageOrClass).isEmpty());
+    }
+
+    /**
+     * Compares the index entries with the class files in the directories and jar files the class loader provides for
+     * the package. Other locations can't be listed and are assumed to be covered by the index. Anonymous and local
+     * classes are ignored, as they are never indexed.
+     *
+     * @param packageOrClass A package or the fully qualified name of a class
+     * @param classLoader    The class loader to list the class files of a package with
+     * @return True, if the index contains all classes that can be found in the given package or its subpackages
+     */
+    boolean isCompleteFor(String packageOrClass, ClassLoader classLoader) {
+
+        if (classNames.contains(packageOrClass)) {
+            return true;
+        }
+
+        Set<String> indexedClassNames = classesIn(packageOrClass);
+        String path = packageOrClass.replace('.', '/');
+        try {
+            Enumeration<URL> locations = classLoader.getResources(path);
+            while (locations.hasMoreElements()) {
+                URL location = locations.nextElement();
+                try (Stream<String> entries = listEntries(location, path)) {
+                    String missingClassName = entries
+                        .filter(DomainIndex::isIndexedClassFile)
+                        .map(entry -> entry.substring(0, entry.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'))
+                        .filter(className -> !indexedClassNames.contains(className))
+                        .findFirst().orElse(null);
+                    if (missingClassName != null) {
+                        LOGGER.debug("Class {} in {} is missing in the domain index", missingClassName, location);
+                        return false;
+                    }
+                }
+            }
+        } catch (IOException | UncheckedIOException | URISyntaxException e) {
+            LOGGER.debug("Could not list the classes of {}", packageOrClass, e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param location A directory or jar entry of a package
+     * @param path     The path of the package
+     * @return The paths of all entries in the package and its subpackages, relative to the class path root
+     */
+    private static Stream<String> listEntries(URL location, String path) throws IOException, URISyntaxException {
+
+        if ("file".equals(location.getProtocol())) {
+            Path directory = Paths.get(location.toURI());
+            return Files.walk(directory)
+                .filter(Files::isRegularFile)
+                .map(file -> path + "/" + directory.relativize(file).toString().replace(File.separatorChar, '/'));
+        }
+
+        URLConnection connection = location.openConnection();
+        if (connection instanceof JarURLConnection) {
+            connection.setUseCaches(false);
+            JarFile jarFile = ((JarURLConnection) connection).getJarFile();
+            return jarFile.stream()
+                .map(JarEntry::getName)
+                .filter(name -> name.startsWith(path + "/"))
+                .onClose(() -> {
+                    try {
+                        jarFile.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        }
+        return Stream.empty();
+    }
+
+    private static boolean isIndexedClassFile(String entry) {
+
+        return entry.endsWith(CLASS_FILE_SUFFIX)
+            && !entry.endsWith("package-info.class")
+            && !ANONYMOUS_OR_LOCAL_CLASS.matcher(entry).find();
+    }
+
+    /**
+     * @param packageOrClass A package or the fully qualified name of a class
+     * @return The indexed class with that name or all indexed classes in the given package or its subpackages
+     */
+    Set<String> classesIn(String packageOrClass) {
+
+        if (classNames.contains(packageOrClass)) {
+            return classNames.subSet(packageOrClass, true, packageOrClass, true);
+        }
+        // All names starting with "package." sort between "package." and "package/", as '/' follows '.'
+        return classNames.subSet(packageOrClass + ".", true, packageOrClass + "/", false);
+    }
+}
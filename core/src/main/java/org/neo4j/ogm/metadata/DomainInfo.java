@@ -86,8 +86,8 @@ public class DomainInfo {
         // On the other hand, we were not able to override ClassGraph's class loader in such a way that
         // when classes have been loaded from class graph, they would work with Spring Boot devtools.
         ClassLoader classLoader = Configuration.getDefaultClassLoader();
-        try (ScanResult scanResult = findClasses(packages)) {
-            for (String className : scanResult.getAllClasses().getNames()) {
+        try {
+            for (String className : findClassNames(classLoader, packages)) {
                 try {
                     Class<?> clazz = Class.forName(className, false, classLoader);
                     if (!classIsMappable.test(clazz)) {
@@ -104,14 +104,54 @@ public class DomainInfo {
         return domainInfo;
     }
 
-    private static ScanResult findClasses(String[] packagesOrClasses) {
+    /**
+     * Uses the domain indexes generated at build time for all packages they cover completely and scans the class path
+     * for the remaining ones.
+     *
+     * @param classLoader       The class loader to retrieve the domain indexes from
+     * @param packagesOrClasses Packages or classes to use
+     * @return The names of all classes to be added to the domain
+     */
+    private static Set<String> findClassNames(ClassLoader classLoader, String[] packagesOrClasses) {
+
+        if (packagesOrClasses == null || packagesOrClasses.length == 0) {
+            return scanClassNames(packagesOrClasses);
+        }
+
+        DomainIndex domainIndex = DomainIndex.load(classLoader);
+        Set<String> classNames = new TreeSet<>();
+        List<String> packagesOrClassesToScan = new ArrayList<>();
+        for (String packageOrClass : packagesOrClasses) {
+            if (!domainIndex.covers(packageOrClass)) {
+                packagesOrClassesToScan.add(packageOrClass);
+            } else if (!domainIndex.isCompleteFor(packageOrClass, classLoader)) {
+                LOGGER.warn("The domain index doesn't contain all classes of {}, scanning the class path instead. "
+                    + "Rebuild the module to update the index.", packageOrClass);
+                packagesOrClassesToScan.add(packageOrClass);
+            } else {
+                classNames.addAll(domainIndex.classesIn(packageOrClass));
+            }
+        }
+
+        if (!packagesOrClassesToScan.isEmpty()) {
+            if (!classNames.isEmpty()) {
+                LOGGER.info("No complete domain index found for {}, scanning the class path", packagesOrClassesToScan);
+            }
+            classNames.addAll(scanClassNames(packagesOrClassesToScan.toArray(new String[0])));
+        }
+        return classNames;
+    }
+
+    private static Set<String> scanClassNames(String[] packagesOrClasses) {
 
         // .enableExternalClasses() is not needed, as the super classes are loaded anywhere when the class is loaded.
-        return new ClassGraph()
+        try (ScanResult scanResult = new ClassGraph()
             .ignoreClassVisibility()
             .whitelistPackages(packagesOrClasses)
             .whitelistClasses(packagesOrClasses)
-            .scan();
+            .scan()) {
+            return new TreeSet<>(scanResult.getAllClasses().getNames());
+        }
     }
 
     /**
@@ -27,9 +27,13 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.apache.commons.lang3.StringUtils;
 import org.neo4j.ogm.annotation.GeneratedValue;
@@ -70,6 +74,7 @@ public class FieldInfo {
     private final Field delegateHolder;
     private final Field field;
     private final Class<?> fieldType;
+    private final boolean isVersionField;
     /**
      * The associated attribute converter for this field, if applicable, otherwise null.
      */
@@ -80,6 +85,12 @@ public class FieldInfo {
      */
     private CompositeAttributeConverter<?> compositeConverter;
 
+    /**
+     * Read and write pipeline of this field. Depends on the converters and is therefore resolved lazily after the
+     * domain has been initialised and reset whenever a converter is set.
+     */
+    private volatile PropertyPipeline pipeline;
+
     /**
      * Constructs a new {@link FieldInfo} based on the given arguments.
      *
@@ -98,6 +109,7 @@ public class FieldInfo {
         this.descriptor = fieldType.getTypeName();
         this.typeParameterDescriptor = typeParameterDescriptor;
         this.annotations = annotations;
+        this.isVersionField = field.getAnnotation(Version.class) != null;
         this.isSupportedNativeType = isSupportedNativeType.test(DescriptorMappings.getType(getTypeDescriptor()));
         if (!this.annotations.isEmpty()) {
             Object converter = getAnnotations().getConverter(this.fieldType);
@@ -200,6 +212,7 @@ public class FieldInfo {
     public void setPropertyConverter(AttributeConverter<?, ?> propertyConverter) {
         if (this.propertyConverter == null && this.compositeConverter == null && propertyConverter != null) {
             this.propertyConverter = propertyConverter;
+            this.pipeline = null;
         } // we maybe set an annotated converter when object was constructed, so don't override with a default one
     }
 
@@ -214,6 +227,7 @@ public class FieldInfo {
     public void setCompositeConverter(CompositeAttributeConverter<?> converter) {
         if (this.propertyConverter == null && this.compositeConverter == null && converter != null) {
             this.compositeConverter = converter;
+            this.pipeline = null;
         }
     }
 
@@ -310,6 +324,10 @@ public class FieldInfo {
     }
 
     public Class<?> convertedType() {
+        return pipeline().convertedType;
+    }
+
+    private Class<?> determineConvertedType() {
         if (hasPropertyConverter() || hasCompositeConverter()) {
             Class converterClass = hasPropertyConverter() ?
                 getPropertyConverter().getClass() : getCompositeConverter().getClass();
@@ -372,16 +390,17 @@ public class FieldInfo {
 
     public void write(Object instance, Object value) {
 
-        if (hasPropertyConverter()) {
-            value = getPropertyConverter().toEntityAttribute(value);
-        } else {
-            if (isScalar()) {
-                String actualTypeDescriptor = getTypeDescriptor();
-                value = Utils.coerceTypes(DescriptorMappings.getType(actualTypeDescriptor), value);
-            }
-        }
+        write(field, getInstanceOrDelegate(instance, delegateHolder), pipeline().toEntityAttribute.apply(value));
+    }
 
-        write(field, getInstanceOrDelegate(instance, delegateHolder), value);
+    /**
+     * Converts a value read from the graph the same way {@link #write(Object, Object)} does, without writing it.
+     *
+     * @param value property value from the graph
+     * @return the value as it would be assigned to the field
+     */
+    public Object toEntityAttribute(Object value) {
+        return pipeline().toEntityAttribute.apply(value);
     }
 
     /**
@@ -398,15 +417,11 @@ public class FieldInfo {
      * @return The field type (may be List, while the mapped type is retrievable from {@link #getTypeDescriptor()} ()}).
      */
     public Class<?> type() {
-        Class convertedType = convertedType();
-        if (convertedType != null) {
-            return convertedType;
-        }
-        return fieldType;
+        return pipeline().type;
     }
 
     public boolean forScalar() {
-        return !Iterable.class.isAssignableFrom(type()) && !type().isArray();
+        return pipeline().forScalar;
     }
 
     public Object read(Object instance) {
@@ -419,10 +434,7 @@ public class FieldInfo {
                 "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
         Object value = read(containingClassInfo.getField(this), getInstanceOrDelegate(instance, delegateHolder));
-        if (hasPropertyConverter()) {
-            value = getPropertyConverter().toGraphProperty(value);
-        }
-        return value;
+        return pipeline().toGraphProperty.apply(value);
     }
 
     public Map<String, ?> readComposite(Object instance) {
@@ -439,7 +451,7 @@ public class FieldInfo {
     }
 
     public String propertyName() {
-        return property();
+        return pipeline().propertyName;
     }
 
     public boolean isComposite() {
@@ -450,6 +462,17 @@ public class FieldInfo {
         return relationshipDirectionOrDefault(Direction.UNDIRECTED);
     }
 
+    /**
+     * @return <code>true</code> if this field is a relationship annotated with {@code lazy = true} and declared as
+     * {@link Collection}, {@link List} or {@link Set}, so that its related entities are loaded on first access.
+     */
+    public boolean isLazy() {
+        AnnotationInfo relationshipAnnotation = annotations == null ? null : annotations.get(Relationship.class);
+        return relationshipAnnotation != null
+            && relationshipAnnotation.get(Relationship.LAZY, "false").equals("true")
+            && (fieldType == Collection.class || fieldType == List.class || fieldType == Set.class);
+    }
+
     public Field getField() {
         return field;
     }
@@ -464,7 +487,7 @@ public class FieldInfo {
     }
 
     public boolean isVersionField() {
-        return field.getAnnotation(Version.class) != null;
+        return isVersionField;
     }
 
     /**
@@ -478,6 +501,50 @@ public class FieldInfo {
     }
 
 
+    private PropertyPipeline pipeline() {
+        PropertyPipeline resolvedPipeline = this.pipeline;
+        if (resolvedPipeline == null) {
+            resolvedPipeline = new PropertyPipeline(this);
+            this.pipeline = resolvedPipeline;
+        }
+        return resolvedPipeline;
+    }
+
+    /**
+     * Everything needed to move a value of this field between entity and graph, resolved once so that hydration and
+     * dehydration don't have to dispatch on converters and types for each value.
+     */
+    private static class PropertyPipeline {
+
+        private final Class<?> convertedType;
+        private final Class<?> type;
+        private final boolean forScalar;
+        private final String propertyName;
+        private final UnaryOperator<Object> toEntityAttribute;
+        private final UnaryOperator<Object> toGraphProperty;
+
+        @SuppressWarnings("unchecked")
+        PropertyPipeline(FieldInfo fieldInfo) {
+
+            this.convertedType = fieldInfo.determineConvertedType();
+            this.type = convertedType == null ? fieldInfo.fieldType : convertedType;
+            this.forScalar = !Iterable.class.isAssignableFrom(type) && !type.isArray();
+            this.propertyName = fieldInfo.property();
+
+            AttributeConverter<Object, Object> converter =
+                (AttributeConverter<Object, Object>) fieldInfo.propertyConverter;
+            if (converter != null) {
+                this.toEntityAttribute = converter::toEntityAttribute;
+                this.toGraphProperty = converter::toGraphProperty;
+            } else {
+                this.toEntityAttribute = fieldInfo.isScalar() ?
+                    Utils.coercionFor(DescriptorMappings.getType(fieldInfo.getTypeDescriptor())) :
+                    UnaryOperator.identity();
+                this.toGraphProperty = UnaryOperator.identity();
+            }
+        }
+    }
+
     private static boolean doesDescriptorMatchType(String descriptor, Class<?> type) {
 
         while (type != null) {
@@ -24,7 +24,9 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
@@ -46,8 +48,14 @@ public class MetaData {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
+    /**
+     * Dynamic labels make the number of label sets unbounded, so no more classes are cached once this size is reached.
+     */
+    private static final int MAXIMUM_RESOLVED_LABEL_SETS = 1024;
+
     private final DomainInfo domainInfo;
     private final Schema schema;
+    private final Map<LabelSet, Optional<ClassInfo>> resolvedClasses = new ConcurrentHashMap<>();
 
     public MetaData(String... packages) {
         this(NoNativeTypes.INSTANCE, packages);
@@ -145,13 +153,27 @@ public class MetaData {
 
     /**
      * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
-     * base class from among them.
+     * base class from among them. The result is cached per set of names, so that nodes with the same labels are resolved
+     * only once by all sessions sharing this instance.
      *
      * @param taxa the taxa (simple class names or labels)
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
 
+        LabelSet labelSet = new LabelSet(taxa);
+        Optional<ClassInfo> classInfo = resolvedClasses.get(labelSet);
+        if (classInfo == null) {
+            classInfo = Optional.ofNullable(resolveUncached(taxa));
+            if (resolvedClasses.size() < MAXIMUM_RESOLVED_LABEL_SETS) {
+                resolvedClasses.putIfAbsent(labelSet.copy(), classInfo);
+            }
+        }
+        return classInfo.orElse(null);
+    }
+
+    private ClassInfo resolveUncached(String... taxa) {
+
         if (taxa.length > 0) {
 
             Set<ClassInfo> resolved = new HashSet<>();
@@ -309,4 +331,40 @@ public class MetaData {
     public void registerConversionCallback(ConversionCallback conversionCallback) {
         this.domainInfo.registerConversionCallback(conversionCallback);
     }
+
+    /**
+     * The labels of a node, in the order the driver returned them, as a key for resolved classes.
+     */
+    private static final class LabelSet {
+
+        private final String[] labels;
+
+        private final int hashCode;
+
+        LabelSet(String[] labels) {
+            this.labels = labels;
+            this.hashCode = Arrays.hashCode(labels);
+        }
+
+        LabelSet copy() {
+            return new LabelSet(Arrays.copyOf(labels, labels.length));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LabelSet)) {
+                return false;
+            }
+            LabelSet labelSet = (LabelSet) o;
+            return hashCode == labelSet.hashCode && Arrays.equals(labels, labelSet.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -24,6 +24,7 @@ import java.lang.reflect.Array;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.Relationship.Direction;
@@ -148,9 +149,10 @@ public class EntityAccessManager {
         if (source == null || source.isEmpty()) {
             target = Collections.emptyList();
         } else {
+            UnaryOperator<Object> coercion = Utils.coercionFor(targetType);
             target = new ArrayList<>(source.size());
             for (Object object : source) {
-                target.add(Utils.coerceTypes(targetType, object));
+                target.add(coercion.apply(object));
             }
         }
         return target;
@@ -98,6 +98,10 @@ public class DomainInfoSchemaBuilder {
 
         // iterate over all relationships of all node entities
         for (FieldInfo fieldInfo : relationships) {
+            // lazy relationships are loaded on first access, not by the load clauses derived from the schema
+            if (fieldInfo.isLazy()) {
+                continue;
+            }
             createRelationship(node, fieldInfo);
         }
 
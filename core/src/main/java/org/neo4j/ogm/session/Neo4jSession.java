@@ -21,6 +21,7 @@ package org.neo4j.ogm.session;
 import static java.util.Collections.*;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +33,8 @@ import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.WriteProtectionTarget;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.driver.Driver;
@@ -45,6 +48,7 @@ import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.session.delegates.DeleteDelegate;
 import org.neo4j.ogm.session.delegates.ExecuteQueriesDelegate;
 import org.neo4j.ogm.session.delegates.GraphIdDelegate;
+import org.neo4j.ogm.session.delegates.LazyLoadDelegate;
 import org.neo4j.ogm.session.delegates.LoadByIdsDelegate;
 import org.neo4j.ogm.session.delegates.LoadByInstancesDelegate;
 import org.neo4j.ogm.session.delegates.LoadByTypeDelegate;
@@ -52,7 +56,12 @@ import org.neo4j.ogm.session.delegates.LoadOneDelegate;
 import org.neo4j.ogm.session.delegates.SaveDelegate;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.MetricsRequestObserver;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.request.ObservedRequest;
 import org.neo4j.ogm.session.request.OptimisticLockingChecker;
+import org.neo4j.ogm.session.request.RequestObserver;
+import org.neo4j.ogm.session.request.StatementDiagnostics;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
@@ -61,6 +70,8 @@ import org.neo4j.ogm.session.request.strategy.impl.PathRelationshipLoadClauseBui
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaNodeLoadClauseBuilder;
 import org.neo4j.ogm.session.request.strategy.impl.SchemaRelationshipLoadClauseBuilder;
+import org.neo4j.ogm.session.tracing.OgmTracer;
+import org.neo4j.ogm.session.tracing.TracingRequestObserver;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWork;
 import org.neo4j.ogm.session.transaction.support.TransactionalUnitOfWorkWithoutResult;
@@ -91,9 +102,17 @@ public class Neo4jSession implements Session {
     private final DeleteDelegate deleteDelegate = new DeleteDelegate(this);
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
+    private final LazyLoadDelegate lazyLoadDelegate = new LazyLoadDelegate(this);
 
     private LoadStrategy loadStrategy;
     private EntityInstantiator entityInstantiator;
+    private OgmMetrics metrics = OgmMetrics.NOOP;
+    private StatementDiagnostics statementDiagnostics = StatementDiagnostics.DISABLED;
+    private OgmTracer tracer = OgmTracer.NOOP;
+    /**
+     * The span of the operation currently running in this session, {@literal null} if there is none.
+     */
+    private OgmTracer.Span currentSpan;
 
     private Driver driver;
     /**
@@ -114,6 +133,7 @@ public class Neo4jSession implements Session {
         this.driver = driver;
 
         this.mappingContext = new MappingContext(metaData);
+        this.mappingContext.setLazyRelationshipLoader(lazyLoadDelegate);
         this.txManager = new DefaultTransactionManager(this, driver.getTransactionFactorySupplier());
         this.loadStrategy = LoadStrategy.PATH_LOAD_STRATEGY;
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
@@ -189,6 +209,11 @@ public class Neo4jSession implements Session {
         return loadOneHandler.load(type, id, depth);
     }
 
+    @Override
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return loadOneHandler.load(type, id, fetchPlan);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByTypeHandler
@@ -316,6 +341,33 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan) {
+        return loadByTypeHandler.loadAll(type, new Filters(), new SortOrder(), null, fetchPlan);
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, FetchPlan fetchPlan) {
+        return loadByTypeHandler.loadAll(type, filters, new SortOrder(), null, fetchPlan);
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, fetchPlan);
+    }
+
+    @Override
+    public <T, P> Collection<P> loadAll(Class<T> type, Class<P> projection, Filters filters) {
+        return loadByTypeHandler.loadAll(type, projection, filters, new SortOrder(), null);
+    }
+
+    @Override
+    public <T, P> Collection<P> loadAll(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder,
+        Pagination pagination) {
+        return loadByTypeHandler.loadAll(type, projection, filters, sortOrder, pagination);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * loadByIdsHandler (no filters yet)
@@ -365,6 +417,11 @@ public class Neo4jSession implements Session {
         return loadByIdsHandler.loadAll(type, ids, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, FetchPlan fetchPlan) {
+        return loadByIdsHandler.loadAll(type, ids, fetchPlan);
+    }
+
     /*
      *----------------------------------------------------------------------------------------------------------
      * LoadByInstances (no filters yet)
@@ -452,21 +509,25 @@ public class Neo4jSession implements Session {
     */
     @Override
     public void purgeDatabase() {
+        saveDelegate.discardBufferedSaves();
         deleteDelegate.purgeDatabase();
     }
 
     @Override
     public <T> void delete(T object) {
+        saveDelegate.flush();
         deleteDelegate.delete(object);
     }
 
     @Override
     public <T> void deleteAll(Class<T> type) {
+        saveDelegate.flush();
         deleteDelegate.deleteAll(type);
     }
 
     @Override
     public <T> Object delete(Class<T> type, Iterable<Filter> filters, boolean listResults) {
+        saveDelegate.flush();
         return deleteDelegate.delete(type, filters, listResults);
     }
 
@@ -485,6 +546,18 @@ public class Neo4jSession implements Session {
         saveDelegate.save(object, depth);
     }
 
+    @Override
+    public void flush() {
+        saveDelegate.flush();
+    }
+
+    /**
+     * Discards the saves buffered in write-behind mode without writing them.
+     */
+    public void discardBufferedSaves() {
+        saveDelegate.discardBufferedSaves();
+    }
+
     // Not part of {@link Session} interface on purpose for the time being
 
     /**
@@ -521,6 +594,88 @@ public class Neo4jSession implements Session {
         saveDelegate.setWriteProtectionStrategy(writeProtectionStrategy);
     }
 
+    /**
+     * Configures whether new nodes with different labels are created by one statement per save, instead of one
+     * statement per combination of labels.
+     *
+     * @param combineNewNodeStatements true to create new nodes with different labels in one statement
+     */
+    public void setCombineNewNodeStatements(boolean combineNewNodeStatements) {
+        saveDelegate.setCombineNewNodeStatements(combineNewNodeStatements);
+    }
+
+    /**
+     * Configures whether new nodes and the relationships between them are created by one statement per save, instead
+     * of creating the relationships in a second request once the ids of the new nodes are known. The server work of
+     * that statement grows with the number of nodes times the number of relationships, see
+     * {@link SessionFactory#setCombineNewRelationshipStatements(boolean)}.
+     *
+     * @param combineNewRelationshipStatements true to create new nodes and their relationships in one statement
+     */
+    public void setCombineNewRelationshipStatements(boolean combineNewRelationshipStatements) {
+        saveDelegate.setCombineNewRelationshipStatements(combineNewRelationshipStatements);
+    }
+
+    /**
+     * Configures the cache for the Cypher text of save statements. Sessions opened by a {@link SessionFactory} share
+     * the cache of their factory, otherwise each session has its own.
+     *
+     * @param statementTemplateCache the cache to use, {@link StatementTemplateCache#NO_CACHE} to disable caching
+     */
+    public void setStatementTemplateCache(StatementTemplateCache statementTemplateCache) {
+        saveDelegate.setStatementTemplateCache(statementTemplateCache);
+    }
+
+    /**
+     * Configures whether saves are buffered until {@link #flush()} is called or the current transaction is committed,
+     * instead of being written immediately. Repeated saves of the same entity are written once.
+     *
+     * @param writeBehind true to buffer saves
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        saveDelegate.setWriteBehind(writeBehind);
+    }
+
+    /**
+     * Configures whether loads by type and queries for entities or scalars without writing keywords run in read-only
+     * transactions when no transaction is open. Drivers route read-only transactions to readers, i.e. to followers
+     * and read replicas of a causal cluster. Enabled by default.
+     *
+     * @param readRouting false to run them in read-write transactions on the leader
+     */
+    public void setReadRouting(boolean readRouting) {
+        loadByTypeHandler.setReadRouting(readRouting);
+        executeQueriesDelegate.setReadRouting(readRouting);
+    }
+
+    /**
+     * Configures the metrics receiving the timings and counts of the operations of this session.
+     *
+     * @param metrics the metrics to record into, {@link OgmMetrics#NOOP} to measure nothing
+     */
+    public void setMetrics(OgmMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Configures the diagnostics warning about slow statements, large results and parameters and saves with many
+     * statements.
+     *
+     * @param statementDiagnostics the diagnostics to use, {@link StatementDiagnostics#DISABLED} to never warn
+     */
+    public void setStatementDiagnostics(StatementDiagnostics statementDiagnostics) {
+        this.statementDiagnostics = statementDiagnostics;
+    }
+
+    /**
+     * Configures the tracer creating the spans of the operations of this session and of their requests.
+     *
+     * @param tracer the tracer to use, {@link OgmTracer#NOOP} to trace nothing
+     */
+    public void setTracer(OgmTracer tracer) {
+        this.tracer = tracer;
+    }
+
     /*
     *----------------------------------------------------------------------------------------------------------
     * TransactionsDelegate
@@ -528,19 +683,32 @@ public class Neo4jSession implements Session {
     */
     @Override
     public Transaction beginTransaction() {
+        flushBeforeNewTransaction();
         return txManager.openTransaction();
     }
 
     @Override
     public Transaction beginTransaction(Transaction.Type type) {
+        flushBeforeNewTransaction();
         return txManager.openTransaction(type, emptySet());
     }
 
     @Override
     public Transaction beginTransaction(Transaction.Type type, Iterable<String> bookmarks) {
+        flushBeforeNewTransaction();
         return txManager.openTransaction(type, bookmarks);
     }
 
+    /**
+     * Writes the saves buffered outside of any transaction before a new one begins, so that rolling back the new
+     * transaction only discards the saves buffered inside of it.
+     */
+    private void flushBeforeNewTransaction() {
+        if (txManager.getCurrentTransaction() == null) {
+            saveDelegate.flush();
+        }
+    }
+
     /**
      * @see Neo4jSession#doInTransaction(TransactionalUnitOfWork, org.neo4j.ogm.transaction.Transaction.Type)
      * @param function The code to execute.
@@ -582,8 +750,11 @@ public class Neo4jSession implements Session {
         // and cleaning up afterwards.
         boolean newTransaction = false;
         try {
-            if (forceTx || (driver.requiresTransaction() && transaction == null)) {
-                transaction = beginTransaction(txType);
+            if (forceTx || (driver.requiresTransaction(txType) && transaction == null)) {
+                // Implicit reads start from the last bookmark so that they see the writes of this session
+                // Implicit transactions don't flush buffered saves, loads and queries only see them once flushed
+                transaction = txType == Transaction.Type.READ_ONLY && bookmark != null ?
+                    txManager.openTransaction(txType, singleton(bookmark)) : txManager.openTransaction(txType, emptySet());
                 newTransaction = true;
             }
 
@@ -650,6 +821,26 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * Creates the statements loading the relationships named by a fetch plan, regardless of the load strategy.
+     *
+     * @param type      The type of the node entities to load
+     * @param fetchPlan The relationships to load
+     */
+    public <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, FetchPlan fetchPlan) {
+        ClassInfo classInfo = metaData.classInfo(type.getName());
+        if (classInfo.isRelationshipEntity()) {
+            throw new IllegalArgumentException("Fetch plans are only supported for node entities, "
+                + type.getName() + " is a relationship entity.");
+        }
+        if (!fetchPlan.getType().isAssignableFrom(type)) {
+            throw new IllegalArgumentException(fetchPlan + " can't be used to load " + type.getName());
+        }
+        final FieldInfo fieldInfo = classInfo.primaryIndexField();
+        String primaryIdName = fieldInfo != null ? fieldInfo.property() : null;
+        return new NodeQueryStatements<>(primaryIdName, new SchemaNodeLoadClauseBuilder(metaData.getSchema(), fetchPlan));
+    }
+
     /**
      * Determines the one relationship type or maybe multiple labels to use in various statements during loading of things.
      * <p>
@@ -689,13 +880,44 @@ public class Neo4jSession implements Session {
         return metaData;
     }
 
+    public OgmMetrics metrics() {
+        return metrics;
+    }
+
+    public StatementDiagnostics statementDiagnostics() {
+        return statementDiagnostics;
+    }
+
+    public OgmTracer tracer() {
+        return tracer;
+    }
+
+    public OgmTracer.Span currentSpan() {
+        return currentSpan;
+    }
+
+    public void setCurrentSpan(OgmTracer.Span currentSpan) {
+        this.currentSpan = currentSpan;
+    }
+
     @Override
     public void clear() {
+        saveDelegate.discardBufferedSaves();
         mappingContext.clear();
     }
 
     public Request requestHandler() {
-        return driver.request(this.txManager.getCurrentTransaction());
+        List<RequestObserver> observers = new ArrayList<>(3);
+        if (metrics.isEnabled()) {
+            observers.add(new MetricsRequestObserver(metrics));
+        }
+        if (tracer.isEnabled()) {
+            observers.add(new TracingRequestObserver(tracer, currentSpan, getTransaction()));
+        }
+        if (statementDiagnostics.checksRequests()) {
+            observers.add(statementDiagnostics);
+        }
+        return ObservedRequest.observe(driver.request(this.txManager), observers);
     }
 
     public void warn(String msg) {
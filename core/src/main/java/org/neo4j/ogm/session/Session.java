@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.QueryStatistics;
@@ -486,6 +487,33 @@ public interface Session {
      */
     <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+    /**
+     * Load projections of all node entities of type, filtered by filters. Only the properties of the projection are
+     * fetched, no relationships. The projections are not tracked by the session.
+     *
+     * @param type       type of the node entities
+     * @param projection an interface whose getters, or a class whose fields, name properties of the entities. Classes
+     *                   must be discovered by the domain entity package scanning.
+     * @param filters    filters
+     * @return collection of projections
+     */
+    <T, P> Collection<P> loadAll(Class<T> type, Class<P> projection, Filters filters);
+
+    /**
+     * Load projections of all node entities of type, filtered by filters. Only the properties of the projection are
+     * fetched, no relationships. The projections are not tracked by the session.
+     *
+     * @param type       type of the node entities
+     * @param projection an interface whose getters, or a class whose fields, name properties of the entities. Classes
+     *                   must be discovered by the domain entity package scanning.
+     * @param filters    filters
+     * @param sortOrder  sort order
+     * @param pagination pagination
+     * @return collection of projections
+     */
+    <T, P> Collection<P> loadAll(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder,
+        Pagination pagination);
+
     /**
      * Load single entity instance of type, with default depth = 1
      *
@@ -500,6 +528,55 @@ public interface Session {
      */
     <T, ID extends Serializable> T load(Class<T> type, ID id, int depth);
 
+    /**
+     * Load single entity instance of type, with the relationships named by the fetch plan
+     *
+     * @return entity instance, null if not found
+     */
+    <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan);
+
+    /**
+     * Load entities of type by their ids, with the relationships named by the fetch plan.
+     *
+     * @param type      type of entities
+     * @param ids       ids of entities to load
+     * @param fetchPlan relationships to load
+     * @return collection of entities
+     */
+    <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, FetchPlan fetchPlan);
+
+    /**
+     * Load all entities of type, with the relationships named by the fetch plan.
+     *
+     * @param type      type of entities
+     * @param fetchPlan relationships to load
+     * @return collection of entities
+     */
+    <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan);
+
+    /**
+     * Load all entities of type, filtered by filters, with the relationships named by the fetch plan.
+     *
+     * @param type      type of entities
+     * @param filters   filters
+     * @param fetchPlan relationships to load
+     * @return collection of entities
+     */
+    <T> Collection<T> loadAll(Class<T> type, Filters filters, FetchPlan fetchPlan);
+
+    /**
+     * Load all entities of type, filtered by filters, with the relationships named by the fetch plan.
+     *
+     * @param type       type of entities
+     * @param filters    filters
+     * @param sortOrder  sort order
+     * @param pagination pagination
+     * @param fetchPlan  relationships to load
+     * @return collection of entities
+     */
+    <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan);
+
     /**
      * Save entity(or entities) into the database, up to specified depth
      * The entities are either created or updated.
@@ -520,6 +597,15 @@ public interface Session {
      */
     <T> void save(T object, int depth);
 
+    /**
+     * Writes all saves buffered by a session in write-behind mode in one request. Entities saved several times are
+     * written once, up to the largest of the requested depths. Does nothing if there are no buffered saves.
+     * Beginning a transaction through {@link #beginTransaction()} and committing it flush the session as well, so
+     * rolling a transaction back only discards the saves buffered inside of it. The transactions the session opens
+     * for single loads and queries don't flush it.
+     */
+    void flush();
+
     /**
      * Delete entity (or entities)
      *
@@ -552,7 +638,7 @@ public interface Session {
     void purgeDatabase();
 
     /**
-     * Clears the Session
+     * Clears the Session, discarding saves that have been buffered but not flushed yet
      */
     void clear();
 
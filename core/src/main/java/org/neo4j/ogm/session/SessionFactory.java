@@ -27,6 +27,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.neo4j.ogm.autoindex.AutoIndexManager;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.core.ConfigurationException;
 import org.neo4j.ogm.id.IdStrategy;
@@ -34,6 +35,9 @@ import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.request.StatementDiagnostics;
+import org.neo4j.ogm.session.tracing.OgmTracer;
 
 /**
  * This is the main initialization point of OGM. Used to create {@link Session} instances for interacting with Neo4j.
@@ -51,9 +55,17 @@ public class SessionFactory {
     private final Driver driver;
     private final List<EventListener> eventListeners;
     private final boolean useStrictQuerying;
+    private final StatementDiagnostics statementDiagnostics;
 
     private LoadStrategy loadStrategy = LoadStrategy.SCHEMA_LOAD_STRATEGY;
     private EntityInstantiator entityInstantiator;
+    private boolean combineNewNodeStatements;
+    private boolean combineNewRelationshipStatements;
+    private StatementTemplateCache statementTemplateCache = new StatementTemplateCache();
+    private boolean writeBehind;
+    private boolean readRouting = true;
+    private OgmMetrics metrics = OgmMetrics.NOOP;
+    private OgmTracer tracer = OgmTracer.NOOP;
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
@@ -116,6 +128,7 @@ public class SessionFactory {
         this.useStrictQuerying = useStrictQuerying;
         this.eventListeners = new CopyOnWriteArrayList<>();
         this.entityInstantiator = new ReflectionEntityInstantiator(metaData);
+        this.statementDiagnostics = StatementDiagnostics.of(driver.getConfiguration());
     }
 
     /**
@@ -149,7 +162,17 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy, entityInstantiator);
+        Neo4jSession session = new Neo4jSession(metaData, useStrictQuerying, driver, eventListeners, loadStrategy,
+            entityInstantiator);
+        session.setCombineNewNodeStatements(combineNewNodeStatements);
+        session.setCombineNewRelationshipStatements(combineNewRelationshipStatements);
+        session.setStatementTemplateCache(statementTemplateCache);
+        session.setWriteBehind(writeBehind);
+        session.setReadRouting(readRouting);
+        session.setMetrics(metrics);
+        session.setStatementDiagnostics(statementDiagnostics);
+        session.setTracer(tracer);
+        return session;
     }
 
     /**
@@ -204,6 +227,94 @@ public class SessionFactory {
         this.entityInstantiator = entityInstantiator;
     }
 
+    /**
+     * Sets whether new nodes with different labels are created by a single statement on save instead of one statement
+     * per combination of labels. This reduces the number of statements for saves of many different types, nodes with a
+     * primary index or a version property still get their own statements.
+     * Only Session instances created after this call are affected.
+     *
+     * @param combineNewNodeStatements true to create new nodes with different labels in one statement
+     */
+    public void setCombineNewNodeStatements(boolean combineNewNodeStatements) {
+        this.combineNewNodeStatements = combineNewNodeStatements;
+    }
+
+    /**
+     * Sets whether new nodes and the relationships between them are created by a single statement on save. Otherwise
+     * the new nodes are created first and the relationships in a second request, once the ids of the nodes are known.
+     * Saves including new nodes with a primary index or a version property always use separate requests.
+     * The statement looks up the start and end node of each new relationship in the list of all nodes it touches, so
+     * the work on the server grows with the number of nodes times the number of relationships. It pays off for saves
+     * of small and medium sized subgraphs, where the second request costs more than the lookups.
+     * Only Session instances created after this call are affected.
+     *
+     * @param combineNewRelationshipStatements true to create new nodes and their relationships in one statement
+     */
+    public void setCombineNewRelationshipStatements(boolean combineNewRelationshipStatements) {
+        this.combineNewRelationshipStatements = combineNewRelationshipStatements;
+    }
+
+    /**
+     * Sets the cache for the Cypher text of save statements, which is shared by all sessions of this factory. The text
+     * of a statement only depends on its shape, like labels, relationship type, primary index and version property,
+     * so it is built once per shape. Pass {@link StatementTemplateCache#NO_CACHE} to build it on every save.
+     * Only Session instances created after this call are affected.
+     *
+     * @param statementTemplateCache the cache to share between sessions
+     */
+    public void setStatementTemplateCache(StatementTemplateCache statementTemplateCache) {
+        this.statementTemplateCache = statementTemplateCache;
+    }
+
+    /**
+     * Sets whether sessions buffer saves instead of writing them immediately. Buffered saves are written in one request
+     * by {@link Session#flush()}, when a transaction is begun through {@link Session#beginTransaction()} or when the
+     * current transaction is committed. Rolling back
+     * a transaction discards the saves buffered inside of it.
+     * Loads and queries don't see buffered changes until they are flushed.
+     * Only Session instances created after this call are affected.
+     *
+     * @param writeBehind true to buffer saves until the session is flushed
+     */
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * Sets whether sessions run loads by type and queries for entities or scalars in read-only transactions when no
+     * transaction is open and the query contains no writing keywords or procedure calls. The Bolt driver routes
+     * read-only transactions to followers and read replicas of a causal cluster. Enabled by default, disable it if
+     * such queries need to see the latest writes on the leader without passing bookmarks.
+     * Only Session instances created after this call are affected.
+     *
+     * @param readRouting false to run these queries in read-write transactions
+     */
+    public void setReadRouting(boolean readRouting) {
+        this.readRouting = readRouting;
+    }
+
+    /**
+     * Sets the metrics receiving the timings and counts of all sessions, for example of their loads, saves and queries.
+     * Sessions measure nothing with the default {@link OgmMetrics#NOOP}.
+     * Only Session instances created after this call are affected.
+     *
+     * @param metrics the metrics to record into
+     */
+    public void setMetrics(OgmMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the tracer creating a span for each load, save, delete and query of all sessions and a child span for each
+     * request they send to the database. Sessions create no spans with the default {@link OgmTracer#NOOP}.
+     * Only Session instances created after this call are affected.
+     *
+     * @param tracer the tracer to use
+     */
+    public void setTracer(OgmTracer tracer) {
+        this.tracer = tracer;
+    }
+
     /**
      * Closes this session factory
      * Also closes any underlying resources, like driver etc.
@@ -18,6 +18,11 @@
  */
 package org.neo4j.ogm.session;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
@@ -25,6 +30,25 @@ package org.neo4j.ogm.session;
  */
 public class Utils {
 
+    /**
+     * Coercions for all primitive and wrapper types that need one, resolved once per type instead of comparing names
+     * and classes for each value. All other types are passed through.
+     */
+    private static final Map<Class<?>, UnaryOperator<Object>> COERCIONS;
+
+    static {
+        Map<Class<?>, UnaryOperator<Object>> coercions = new HashMap<>();
+        registerCoercion(coercions, int.class, Integer.class, Utils::coerceToInt);
+        registerCoercion(coercions, float.class, Float.class, Utils::coerceToFloat);
+        registerCoercion(coercions, byte.class, Byte.class, Utils::coerceToByte);
+        registerCoercion(coercions, double.class, Double.class, Utils::coerceToDouble);
+        registerCoercion(coercions, long.class, Long.class, Utils::coerceToLong);
+        registerCoercion(coercions, short.class, Short.class, Utils::coerceToShort);
+        registerCoercion(coercions, char.class, Character.class, Utils::coerceToChar);
+        registerCoercion(coercions, boolean.class, Boolean.class, UnaryOperator.identity());
+        COERCIONS = Collections.unmodifiableMap(coercions);
+    }
+
     /**
      * Coerce numeric types when mapping properties from nodes to entities.
      * This deals with numeric types - Longs to ints, Doubles to floats, Integers to bytes.
@@ -34,133 +58,139 @@ public class Utils {
      * @return converted value
      */
     public static Object coerceTypes(Class clazz, Object value) {
-        if (clazz.isPrimitive() && value == null) {
-            return defaultForPrimitive(clazz, null);
-        }
-        if (value != null) {
-            String className = clazz.getName();
-            // downcast to int from long
-            if ("int".equals(className) || Integer.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
-                    }
-                    return longValue.intValue();
-                }
-            }
-            // downcast to float from double or cross-cast from int or long
-            if ("float".equals(className) || (Float.class.equals(clazz))) {
-                if (value.getClass().equals(Double.class)) {
-                    Double dblValue = (Double) value;
-                    if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
-                        throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
-                    }
-                    return dblValue.floatValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to float without an overflow.");
-                    }
-                    return intValue.floatValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < -(Double.MAX_VALUE) || longValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to float without an overflow.");
-                    }
-                    return longValue.floatValue();
-                }
+        return coercionFor(clazz).apply(value);
+    }
+
+    /**
+     * Resolves the coercion {@link #coerceTypes(Class, Object)} applies for the given entity field type, so that callers
+     * converting many values into the same type can do the lookup once.
+     *
+     * @param clazz the entity field type
+     * @return the coercion for values of the given type, never null
+     */
+    public static UnaryOperator<Object> coercionFor(Class<?> clazz) {
+        return COERCIONS.getOrDefault(clazz, UnaryOperator.identity());
+    }
+
+    private static void registerCoercion(Map<Class<?>, UnaryOperator<Object>> coercions,
+        Class<?> primitiveType, Class<?> wrapperType, UnaryOperator<Object> coercion) {
+
+        Object defaultValue = defaultForPrimitive(primitiveType, null);
+        coercions.put(primitiveType, value -> value == null ? defaultValue : coercion.apply(value));
+        coercions.put(wrapperType, value -> value == null ? null : coercion.apply(value));
+    }
+
+    // downcast to int from long
+    private static Object coerceToInt(Object value) {
+        if (value instanceof Long) {
+            Long longValue = (Long) value;
+            if (longValue < Integer.MIN_VALUE || longValue > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to int without an overflow.");
             }
-            // down-cast to byte from integer or long
-            if ("byte".equals(className) || Byte.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return intValue.byteValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
-                    }
-                    return longValue.byteValue();
-                }
+            return longValue.intValue();
+        }
+        return value;
+    }
+
+    // downcast to float from double or cross-cast from int or long
+    private static Object coerceToFloat(Object value) {
+        if (value instanceof Double) {
+            Double dblValue = (Double) value;
+            if (dblValue < -(Float.MAX_VALUE) || dblValue > Float.MAX_VALUE) {
+                throw new IllegalArgumentException(dblValue + " cannot be cast to float without an overflow.");
             }
-            // cross-cast to double from int or long or up-cast from float
-            if ("double".equals(className) || Double.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < -(Double.MAX_VALUE) || intValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to double without an overflow.");
-                    }
-                    return intValue.doubleValue();
-                }
-                if (value.getClass().equals(Long.class)) {
-                    Long testValue = (Long) value;
-                    if (testValue < -(Double.MAX_VALUE) || testValue > Double.MAX_VALUE) {
-                        throw new IllegalArgumentException(
-                            testValue + " cannot be cast to double without an overflow.");
-                    }
-                    return testValue.doubleValue();
-                }
-                if (value.getClass().equals(Float.class)) {
-                    Float floatValue = (Float) value;
-                    return floatValue.doubleValue();
-                }
+            return dblValue.floatValue();
+        }
+        if (value instanceof Integer) {
+            return ((Integer) value).floatValue();
+        }
+        if (value instanceof Long) {
+            return ((Long) value).floatValue();
+        }
+        return value;
+    }
+
+    // down-cast to byte from integer or long
+    private static Object coerceToByte(Object value) {
+        if (value instanceof Integer) {
+            Integer intValue = (Integer) value;
+            if (intValue < Byte.MIN_VALUE || intValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to byte without an overflow.");
             }
-            // up-cast to long from int
-            if ("long".equals(className) || Long.class.equals(clazz)) {
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    return intValue.longValue();
-                }
+            return intValue.byteValue();
+        }
+        if (value instanceof Long) {
+            Long longValue = (Long) value;
+            if (longValue < Byte.MIN_VALUE || longValue > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to byte without an overflow.");
             }
+            return longValue.byteValue();
+        }
+        return value;
+    }
 
-            // down-cast to short from int or long
-            if ("short".equals(className) || Short.class.equals(clazz)) {
-                if (value.getClass().equals(Long.class)) {
-                    Long longValue = (Long) value;
-                    if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
-                    }
-                    return longValue.shortValue();
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
-                }
+    // cross-cast to double from int or long or up-cast from float
+    private static Object coerceToDouble(Object value) {
+        if (value instanceof Integer) {
+            return ((Integer) value).doubleValue();
+        }
+        if (value instanceof Long) {
+            return ((Long) value).doubleValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        return value;
+    }
+
+    // up-cast to long from int
+    private static Object coerceToLong(Object value) {
+        if (value instanceof Integer) {
+            return ((Integer) value).longValue();
+        }
+        return value;
+    }
+
+    // down-cast to short from int or long
+    private static Object coerceToShort(Object value) {
+        if (value instanceof Long) {
+            Long longValue = (Long) value;
+            if (longValue < Short.MIN_VALUE || longValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(longValue + " cannot be cast to short without an overflow.");
             }
+            return longValue.shortValue();
+        }
+        if (value instanceof Integer) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
+        return value;
+    }
 
-            // down-cast to char from String
-            if ("char".equals(className) || Character.class.equals(clazz)) {
-                if (value.getClass().equals(String.class)) {
-                    String stringValue = (String) value;
-                    if (stringValue.length() == 1) {
-                        return stringValue.charAt(0);
-                    } else {
-                        try {
-                            return (char) Integer.parseInt(stringValue);
-                        } catch (NumberFormatException nfe) {
-                            throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
-                        }
-                    }
-                }
-                if (value.getClass().equals(Integer.class)) {
-                    Integer intValue = (Integer) value;
-                    if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
-                        throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
-                    }
-                    return intValue.shortValue();
+    // down-cast to char from String
+    private static Object coerceToChar(Object value) {
+        if (value instanceof String) {
+            String stringValue = (String) value;
+            if (stringValue.length() == 1) {
+                return stringValue.charAt(0);
+            } else {
+                try {
+                    return (char) Integer.parseInt(stringValue);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(stringValue + " cannot be cast to char", nfe);
                 }
             }
         }
+        if (value instanceof Integer) {
+            Integer intValue = (Integer) value;
+            if (intValue < Short.MIN_VALUE || intValue > Short.MAX_VALUE) {
+                throw new IllegalArgumentException(intValue + " cannot be cast to short without an overflow.");
+            }
+            return intValue.shortValue();
+        }
         return value;
     }
 
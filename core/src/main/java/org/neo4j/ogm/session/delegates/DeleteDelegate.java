@@ -40,6 +40,7 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.PersistenceEvent;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeDeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipDeleteStatements;
@@ -56,8 +57,7 @@ public class DeleteDelegate extends SessionDelegate {
     }
 
     public <T> void delete(T object) {
-        List<T> objectsForDeletion = createObjectsCollectionFromObject(object);
-        delete(objectsForDeletion);
+        measure(Operation.DELETE, () -> delete(createObjectsCollectionFromObject(object)));
     }
 
     /**
@@ -69,6 +69,10 @@ public class DeleteDelegate extends SessionDelegate {
      * @param <T>   The type to work with
      */
     public <T> void deleteAll(Class<T> type) {
+        measure(Operation.DELETE, () -> doDeleteAll(type));
+    }
+
+    private <T> void doDeleteAll(Class<T> type) {
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo != null) {
             String entityLabel = classInfo.neo4jName();
@@ -95,6 +99,10 @@ public class DeleteDelegate extends SessionDelegate {
     }
 
     public <T> Object delete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
+        return measure(Operation.DELETE, () -> doDelete(clazz, filters, listResults));
+    }
+
+    private <T> Object doDelete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
 
         ClassInfo classInfo = session.metaData().classInfo(clazz.getSimpleName());
 
@@ -120,6 +128,10 @@ public class DeleteDelegate extends SessionDelegate {
     }
 
     public void purgeDatabase() {
+        measure(Operation.DELETE, this::doPurgeDatabase);
+    }
+
+    private void doPurgeDatabase() {
         Statement stmt = new NodeDeleteStatements().deleteAll();
         RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
         session.doInTransaction(() -> {
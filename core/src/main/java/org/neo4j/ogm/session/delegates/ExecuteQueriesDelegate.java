@@ -55,6 +55,7 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.QueryResultModel;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
 import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.typeconversion.AttributeConverter;
@@ -70,8 +71,12 @@ import org.neo4j.ogm.typeconversion.ConvertibleTypes;
 public class ExecuteQueriesDelegate extends SessionDelegate {
 
     private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE|DROP)\\b");
+    // Procedures may write as well, so calls are not routed to readers
+    private static final Pattern PROCEDURE_CALL = Pattern.compile("\\bCALL\\b");
     private static final Set<Class<?>> VOID_TYPES = new HashSet<>(Arrays.asList(Void.class, void.class));
 
+    private boolean readRouting = true;
+
     public ExecuteQueriesDelegate(Neo4jSession session) {
         super(session);
     }
@@ -111,6 +116,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
     }
 
     public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return measure(Operation.QUERY, () -> doQuery(type, cypher, parameters));
+    }
+
+    private <T> Iterable<T> doQuery(Class<T> type, String cypher, Map<String, ?> parameters) {
         validateQuery(cypher, parameters, false); //we'll allow modifying statements
         if (type == null || type.equals(Void.class)) {
             throw new RuntimeException("Supplied type must not be null or void.");
@@ -119,12 +128,16 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
     }
 
     public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
+        return measure(Operation.QUERY, () -> doQuery(cypher, parameters, readOnly));
+    }
+
+    private Result doQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         validateQuery(cypher, parameters, readOnly);
 
         RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
         RestModelMapper mapper = new RestModelMapper(session.metaData(), session.context(),
-            session.getEntityInstantiator());
+            session.getEntityInstantiator(), session.metrics());
 
         return session.doInTransaction(() -> {
 
@@ -142,13 +155,16 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
 
     private <T> Iterable<T> executeAndMap(Class<T> type, String cypher, Map<String, ?> parameters) {
 
+        Transaction.Type txType = readRouting && !mayWriteOrCallProcedures(cypher) ?
+            Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE;
+
         return session.<Iterable<T>>doInTransaction(() -> {
             if (type != null && session.metaData().classInfo(type.getName()) != null) {
                 // Things that can be mapped to entities
                 GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                     return new GraphRowModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator())
+                        session.getEntityInstantiator(), session.metrics())
                         .map(type, response);
                 }
             } else {
@@ -158,7 +174,7 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
                     return mapScalarResponse(type, response);
                 }
             }
-        }, Transaction.Type.READ_WRITE);
+        }, txType);
     }
 
     private static <T> Iterable<T> mapScalarResponse(Class<T> type, Response<RowModel> response) {
@@ -192,6 +208,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
     }
 
     public long countEntitiesOfType(Class<?> entity) {
+        return measure(Operation.QUERY, () -> doCountEntitiesOfType(entity));
+    }
+
+    private long doCountEntitiesOfType(Class<?> entity) {
 
         ClassInfo classInfo = session.metaData().classInfo(entity.getName());
         if (classInfo == null) {
@@ -277,6 +297,10 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
         return matcher.find();
     }
 
+    private static boolean mayWriteOrCallProcedures(String cypher) {
+        return mayBeReadWrite(cypher) || PROCEDURE_CALL.matcher(cypher.toUpperCase()).find();
+    }
+
     private void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
         if (readOnly && mayBeReadWrite(cypher)) {
@@ -292,4 +316,8 @@ public class ExecuteQueriesDelegate extends SessionDelegate {
             throw new RuntimeException("Supplied Parameters cannot be null.");
         }
     }
+
+    public void setReadRouting(boolean readRouting) {
+        this.readRouting = readRouting;
+    }
 }
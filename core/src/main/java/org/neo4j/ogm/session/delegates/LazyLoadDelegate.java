@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.delegates;
+
+import java.util.Collections;
+
+import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.LazyRelationshipLoader;
+import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Loads the related entities of a lazy relationship field with a single query for the relationships of that field.
+ */
+public class LazyLoadDelegate extends SessionDelegate implements LazyRelationshipLoader {
+
+    public LazyLoadDelegate(Neo4jSession session) {
+        super(session);
+    }
+
+    @Override
+    public void load(Object owner, FieldInfo field) {
+        measure(Operation.LOAD, () -> doLoad(owner, field));
+    }
+
+    private void doLoad(Object owner, FieldInfo field) {
+
+        Long id = session.context().nativeId(owner);
+        if (session.context().getNodeEntity(id) != owner) {
+            throw new IllegalStateException("Cannot load relationship field " + field.getName() + " of "
+                + owner.getClass().getName() + " with id " + id + " lazily, the entity isn't part of the session "
+                + "anymore. Load it again after clearing the session.");
+        }
+
+        String relationship = "[r:`" + field.relationshipType() + "`]";
+        String pattern;
+        switch (field.relationshipDirection()) {
+            case INCOMING:
+                pattern = "(n)<-" + relationship + "-(m)";
+                break;
+            case OUTGOING:
+                pattern = "(n)-" + relationship + "->(m)";
+                break;
+            default:
+                pattern = "(n)-" + relationship + "-(m)";
+                break;
+        }
+
+        GraphModelRequest request = new DefaultGraphModelRequest(
+            "MATCH (n) WHERE ID(n) = $id MATCH " + pattern + " RETURN n, r, m", Collections.singletonMap("id", id));
+
+        session.doInTransaction(() -> {
+            try (Response<GraphModel> response = session.requestHandler().execute(request)) {
+                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator(),
+                    session.metrics()).map(owner.getClass(), response);
+            }
+        }, Transaction.Type.READ_ONLY);
+    }
+}
@@ -30,6 +30,7 @@ import java.util.function.Function;
 
 import org.neo4j.ogm.context.GraphRowModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
@@ -38,6 +39,7 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.EntityUtils;
@@ -59,6 +61,16 @@ public class LoadByIdsDelegate extends SessionDelegate {
 
     public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, SortOrder sortOrder,
         Pagination pagination, int depth) {
+        return measure(Operation.LOAD, () -> doLoadAll(type, ids, sortOrder, pagination, depth, null));
+    }
+
+    public <T, ID extends Serializable> Collection<T> loadAll(Class<T> type, Collection<ID> ids, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD,
+            () -> doLoadAll(type, ids, new SortOrder(), null, fetchPlan.getDepth(), fetchPlan));
+    }
+
+    private <T, ID extends Serializable> Collection<T> doLoadAll(Class<T> type, Collection<ID> ids,
+        SortOrder sortOrder, Pagination pagination, int depth, FetchPlan fetchPlan) {
 
         Optional<String> labelsOrType = session.determineLabelsOrTypeForLoading(type);
         if (!labelsOrType.isPresent()) {
@@ -68,7 +80,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
             return Collections.emptyList();
         }
 
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+        QueryStatements<ID> queryStatements = queryStatementsFor(type, depth, fetchPlan);
 
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         PagingAndSortingQuery qry = queryStatements.findAllByType(labelsOrType.get(), convertIfNeeded(classInfo, ids), depth)
@@ -79,7 +91,7 @@ public class LoadByIdsDelegate extends SessionDelegate {
         return session.doInTransaction(() -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                 Iterable<T> mapped = new GraphRowModelMapper(session.metaData(), session.context(),
-                    session.getEntityInstantiator()).map(type, response);
+                    session.getEntityInstantiator(), session.metrics()).map(type, response);
 
                 if (sortOrder.sortClauses().isEmpty()) {
                     return sortResultsByIds(type, ids, mapped);
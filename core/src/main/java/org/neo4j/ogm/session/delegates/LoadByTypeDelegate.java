@@ -18,25 +18,38 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.context.GraphRowModelMapper;
+import org.neo4j.ogm.context.ProjectionMapper;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RowModel;
 import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
+import org.neo4j.ogm.session.request.FilteredQuery;
+import org.neo4j.ogm.session.request.FilteredQueryBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.LabelMatchClauseBuilder;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,6 +63,8 @@ public class LoadByTypeDelegate extends SessionDelegate {
 
     private static final Logger LOG = LoggerFactory.getLogger(LoadByTypeDelegate.class);
 
+    private boolean readRouting = true;
+
     public LoadByTypeDelegate(Neo4jSession session) {
         super(session);
     }
@@ -69,6 +84,21 @@ public class LoadByTypeDelegate extends SessionDelegate {
      */
     public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
         int depth) {
+        return measure(Operation.LOAD, () -> doLoadAll(type, filters, sortOrder, pagination, depth, null));
+    }
+
+    /**
+     * Loads all objects of a given {@code type} like {@link #loadAll(Class, Filters, SortOrder, Pagination, int)},
+     * together with the relationships named by the fetch plan instead of all relationships up to a depth.
+     */
+    public <T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        FetchPlan fetchPlan) {
+        return measure(Operation.LOAD,
+            () -> doLoadAll(type, filters, sortOrder, pagination, fetchPlan.getDepth(), fetchPlan));
+    }
+
+    private <T> Collection<T> doLoadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination,
+        int depth, FetchPlan fetchPlan) {
 
         Optional<String> labelsOrType = session.determineLabelsOrTypeForLoading(type);
         if (!labelsOrType.isPresent()) {
@@ -77,7 +107,7 @@ public class LoadByTypeDelegate extends SessionDelegate {
                 + "and not abstract without @NodeEntity annotation");
             return Collections.emptyList();
         }
-        QueryStatements queryStatements = session.queryStatementsFor(type, depth);
+        QueryStatements queryStatements = queryStatementsFor(type, depth, fetchPlan);
 
         SortOrder sortOrderWithResolvedProperties = sortOrderWithResolvedProperties(type, sortOrder);
 
@@ -98,17 +128,98 @@ public class LoadByTypeDelegate extends SessionDelegate {
                     query.getStatement(), query.getParameters());
                 try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
                     return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator())
+                        session.getEntityInstantiator(), session.metrics())
                         .map(type, response);
                 }
             } else {
                 GraphModelRequest request = new DefaultGraphModelRequest(query.getStatement(), query.getParameters());
                 try (Response<GraphModel> response = session.requestHandler().execute(request)) {
                     return (Collection<T>) new GraphRowModelMapper(session.metaData(), session.context(),
-                        session.getEntityInstantiator()).map(type, response);
+                        session.getEntityInstantiator(), session.metrics()).map(type, response);
+                }
+            }
+        }, readRouting ? Transaction.Type.READ_ONLY : Transaction.Type.READ_WRITE);
+    }
+
+    /**
+     * Loads projections of all node entities of a given {@code type}. Only the properties of the projection are
+     * returned by the database, as map projection of each node.
+     *
+     * @param type       The type of node entities to project.
+     * @param projection An interface or class naming properties of the entities.
+     * @param filters    Additional filters to reduce the number of objects loaded, may be null or empty.
+     * @param sortOrder  Sort order to be passed on to the database
+     * @param pagination Pagination if required
+     * @param <T>        Type of the entities
+     * @param <P>        Returned type
+     * @return A list of projections
+     */
+    public <T, P> Collection<P> loadAll(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder,
+        Pagination pagination) {
+        return measure(Operation.LOAD, () -> doLoadAll(type, projection, filters, sortOrder, pagination));
+    }
+
+    private <T, P> Collection<P> doLoadAll(Class<T> type, Class<P> projection, Filters filters, SortOrder sortOrder,
+        Pagination pagination) {
+
+        Optional<String> labelsOrType = session.determineLabelsOrTypeForLoading(type);
+        if (!labelsOrType.isPresent()) {
+            LOG.warn("Unable to find database label for entity " + type.getName()
+                + " : no results will be returned. Make sure the class is registered, "
+                + "and not abstract without @NodeEntity annotation");
+            return Collections.emptyList();
+        }
+        if (session.metaData().classInfo(type).isRelationshipEntity()) {
+            throw new IllegalArgumentException("Projections are only supported for node entities, "
+                + type.getName() + " is a relationship entity.");
+        }
+        ProjectionMapper<P> projectionMapper = new ProjectionMapper<>(session.metaData(),
+            session.getEntityInstantiator(), type, projection);
+
+        String matchClause;
+        Map<String, Object> parameters;
+        boolean hasPredicate = filters != null && !filters.isEmpty();
+        if (hasPredicate) {
+            resolvePropertyAnnotations(type, filters);
+            FilteredQuery filteredQuery = FilteredQueryBuilder.buildNodeQuery(labelsOrType.get(), filters);
+            matchClause = filteredQuery.statement();
+            parameters = filteredQuery.parameters();
+        } else {
+            matchClause = new LabelMatchClauseBuilder().build(labelsOrType.get());
+            parameters = Collections.emptyMap();
+        }
+
+        PagingAndSortingQuery query = new PagingAndSortingQuery(matchClause, projectionReturnClause(projectionMapper),
+            parameters, false, hasPredicate);
+        query.setSortOrder(sortOrderWithResolvedProperties(type, sortOrder == null ? new SortOrder() : sortOrder))
+            .setPagination(pagination);
+
+        return session.doInTransaction(() -> {
+            RowModelRequest request = new DefaultRowModelRequest(query.getStatement(), query.getParameters());
+            try (Response<RowModel> response = session.requestHandler().execute(request)) {
+                List<P> projections = new ArrayList<>();
+                RowModel rowModel;
+                while ((rowModel = response.next()) != null) {
+                    projections.add(projectionMapper.map((Map<String, Object>) rowModel.getValues()[0]));
                 }
+                return projections;
             }
-        }, Transaction.Type.READ_WRITE);
+        }, Transaction.Type.READ_ONLY);
+    }
+
+    private static String projectionReturnClause(ProjectionMapper<?> projectionMapper) {
+
+        StringJoiner properties = new StringJoiner(", ", " RETURN n{", "}");
+        projectionMapper.properties().forEach((property, field) -> {
+            if (projectionMapper.isIdentityField(field)) {
+                properties.add("`" + property + "`: ID(n)");
+            } else if (property.equals(field.property())) {
+                properties.add(".`" + property + "`");
+            } else {
+                properties.add("`" + property + "`: n.`" + field.property() + "`");
+            }
+        });
+        return properties.toString();
     }
 
     public <T> Collection<T> loadAll(Class<T> type) {
@@ -203,4 +314,8 @@ public class LoadByTypeDelegate extends SessionDelegate {
     public <T> Collection<T> loadAll(Class<T> type, SortOrder sortOrder, Pagination pagination, int depth) {
         return loadAll(type, new Filters(), sortOrder, pagination, depth);
     }
+
+    public void setReadRouting(boolean readRouting) {
+        this.readRouting = readRouting;
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Optional;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphRowModelMapper;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -31,6 +32,7 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.transaction.Transaction;
 import org.slf4j.Logger;
@@ -54,6 +56,14 @@ public class LoadOneDelegate extends SessionDelegate {
     }
 
     public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
+        return measure(Operation.LOAD, () -> doLoad(type, id, depth, null));
+    }
+
+    public <T, ID extends Serializable> T load(Class<T> type, ID id, FetchPlan fetchPlan) {
+        return measure(Operation.LOAD, () -> doLoad(type, id, fetchPlan.getDepth(), fetchPlan));
+    }
+
+    private <T, ID extends Serializable> T doLoad(Class<T> type, ID id, int depth, FetchPlan fetchPlan) {
 
         ClassInfo classInfo = session.metaData().classInfo(type.getName());
         if (classInfo == null) {
@@ -78,7 +88,7 @@ public class LoadOneDelegate extends SessionDelegate {
             return null;
         }
 
-        QueryStatements<ID> queryStatements = session.queryStatementsFor(type, depth);
+        QueryStatements<ID> queryStatements = queryStatementsFor(type, depth, fetchPlan);
 
         PagingAndSortingQuery qry = queryStatements.findOneByType(labelsOrType.get(), convertIfNeeded(classInfo, id), depth);
 
@@ -86,8 +96,8 @@ public class LoadOneDelegate extends SessionDelegate {
 
         return session.doInTransaction(() -> {
             try (Response<GraphModel> response = session.requestHandler().execute(request)) {
-                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator())
-                    .map(type, response);
+                new GraphRowModelMapper(session.metaData(), session.context(), session.getEntityInstantiator(),
+                    session.metrics()).map(type, response);
                 return lookup(type, id);
             }
         }, Transaction.Type.READ_ONLY);
@@ -21,13 +21,20 @@ package org.neo4j.ogm.session.delegates;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 import org.neo4j.ogm.context.EntityGraphMapper;
 import org.neo4j.ogm.context.WriteProtectionTarget;
+import org.neo4j.ogm.cypher.compiler.Compiler;
+import org.neo4j.ogm.cypher.compiler.StatementTemplateCache;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.WriteProtectionStrategy;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Phase;
 import org.neo4j.ogm.session.request.RequestExecutor;
 
 /**
@@ -42,6 +49,19 @@ public class SaveDelegate extends SessionDelegate {
 
     private WriteProtectionStrategy writeProtectionStrategy;
 
+    private boolean combineNewNodeStatements;
+
+    private boolean combineNewRelationshipStatements;
+
+    private StatementTemplateCache statementTemplateCache = new StatementTemplateCache();
+
+    private boolean writeBehind;
+
+    // Entities saved in write-behind mode, in the order of their first save, and the depths to save them with
+    private final List<Object> bufferedEntities = new ArrayList<>();
+
+    private final Map<Object, Integer> bufferedDepths = new IdentityHashMap<>();
+
     public SaveDelegate(Neo4jSession session) {
         super(session);
         requestExecutor = new RequestExecutor(session);
@@ -52,45 +72,105 @@ public class SaveDelegate extends SessionDelegate {
     }
 
     public <T> void save(T object, int depth) {
+        measure(Operation.SAVE, () -> doSave(object, depth));
+    }
 
-        SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+    private <T> void doSave(T object, int depth) {
 
-        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
-        if (this.writeProtectionStrategy != null) {
-            entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
+        if (!object.getClass().isArray() && !(object instanceof Iterable)
+            && session.metaData().classInfo(object) == null) {
+            throw new IllegalArgumentException("Class " + object.getClass() + " is not a valid entity class. "
+                + "Please check the entity mapping.");
         }
 
-        Iterable<T> objects;
-        if (object.getClass().isArray()) {
-            int length = Array.getLength(object);
-            List<T> copy = new ArrayList<>(length);
-            for (int i = 0; i < length; i++) {
-                T arrayElement = (T) Array.get(object, i);
-                copy.add(arrayElement);
-            }
-            objects = copy;
-        } else if (Iterable.class.isAssignableFrom(object.getClass())) {
-            objects = (Iterable<T>) object;
-        } else if (session.metaData().classInfo(object) != null) {
-            objects = Collections.singletonList(object);
+        List<Object> objects = entities(object);
+        if (writeBehind) {
+            objects.forEach(item -> buffer(item, depth));
         } else {
-            throw new IllegalArgumentException("Class " + object.getClass() + " is not a valid entity class. "
-                + "Please check the entity mapping.");
+            save(objects, item -> depth);
+        }
+    }
+
+    /**
+     * Saves all entities buffered in write-behind mode in one request. Entities saved several times are only mapped
+     * once, with the largest of their depths.
+     */
+    public void flush() {
+
+        if (bufferedEntities.isEmpty()) {
+            return;
         }
+        measure(Operation.SAVE, this::flushBufferedSaves);
+    }
+
+    private void flushBufferedSaves() {
+
+        // Entities saved by event listeners while flushing are buffered again
+        List<Object> entities = new ArrayList<>(bufferedEntities);
+        Map<Object, Integer> depths = new IdentityHashMap<>(bufferedDepths);
+        discardBufferedSaves();
+
+        save(entities, depths::get);
+    }
 
+    public void discardBufferedSaves() {
+        bufferedEntities.clear();
+        bufferedDepths.clear();
+    }
+
+    private void buffer(Object entity, int depth) {
+        Integer bufferedDepth = bufferedDepths.get(entity);
+        if (bufferedDepth == null) {
+            bufferedEntities.add(entity);
+            bufferedDepths.put(entity, depth);
+        } else if (bufferedDepth >= 0 && (depth < 0 || depth > bufferedDepth)) {
+            // A negative depth saves the full tree of changed objects
+            bufferedDepths.put(entity, depth);
+        }
+    }
+
+    private void save(List<Object> objects, ToIntFunction<Object> depth) {
+
+        EntityGraphMapper entityGraphMapper = new EntityGraphMapper(session.metaData(), session.context());
+        if (this.writeProtectionStrategy != null) {
+            entityGraphMapper.addWriteProtection(this.writeProtectionStrategy.get());
+        }
+        Compiler compiler = entityGraphMapper.compileContext().getCompiler();
+        compiler.combineNewNodeStatements(combineNewNodeStatements);
+        compiler.combineNewRelationshipStatements(combineNewRelationshipStatements);
+        compiler.useStatementTemplateCache(statementTemplateCache);
+
+        Runnable mapEntities = () -> objects.forEach(item -> entityGraphMapper.map(item, depth.applyAsInt(item)));
         if (session.eventsEnabled()) {
-            objects.forEach(item -> {
-                eventsDelegate.preSave(item);
-                entityGraphMapper.map(item, depth);
-            });
+            // all pre-save events are fired before mapping, as listeners may change any of the entities
+            SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+            objects.forEach(eventsDelegate::preSave);
+            measure(Phase.CYPHER_GENERATION, mapEntities);
             requestExecutor.executeSave(entityGraphMapper.compileContext());
             eventsDelegate.postSave();
         } else {
-            objects.forEach(item -> entityGraphMapper.map(item, depth));
+            measure(Phase.CYPHER_GENERATION, mapEntities);
             requestExecutor.executeSave(entityGraphMapper.compileContext());
         }
     }
 
+    private static List<Object> entities(Object object) {
+        if (object.getClass().isArray()) {
+            int length = Array.getLength(object);
+            List<Object> copy = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                copy.add(Array.get(object, i));
+            }
+            return copy;
+        } else if (object instanceof Iterable) {
+            List<Object> copy = new ArrayList<>();
+            ((Iterable<?>) object).forEach(copy::add);
+            return copy;
+        } else {
+            return Collections.singletonList(object);
+        }
+    }
+
     public void addWriteProtection(WriteProtectionTarget target, Predicate<Object> protection) {
         if (this.writeProtectionStrategy == null) {
             this.writeProtectionStrategy = new DefaultWriteProtectionStrategyImpl();
@@ -118,4 +198,20 @@ public class SaveDelegate extends SessionDelegate {
     public void setWriteProtectionStrategy(WriteProtectionStrategy writeProtectionStrategy) {
         this.writeProtectionStrategy = writeProtectionStrategy;
     }
+
+    public void setCombineNewNodeStatements(boolean combineNewNodeStatements) {
+        this.combineNewNodeStatements = combineNewNodeStatements;
+    }
+
+    public void setCombineNewRelationshipStatements(boolean combineNewRelationshipStatements) {
+        this.combineNewRelationshipStatements = combineNewRelationshipStatements;
+    }
+
+    public void setStatementTemplateCache(StatementTemplateCache statementTemplateCache) {
+        this.statementTemplateCache = statementTemplateCache;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
 }
@@ -18,17 +18,21 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.annotation.Relationship.Direction;
+import org.neo4j.ogm.context.LazyCollection;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DescriptorMappings;
@@ -36,10 +40,15 @@ import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.PostSaveEvent;
 import org.neo4j.ogm.session.event.PreSaveEvent;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Phase;
+import org.neo4j.ogm.support.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Fires the save events for all entities reachable from the saved ones. All pre-save events are fired before the
+ * entities are mapped, so that listeners can still change any of them.
+ *
  * @author Vince Bickers
  * @author Michael J. Simons
  */
@@ -49,18 +58,18 @@ final class SaveEventDelegate extends SessionDelegate {
 
     private final Set<Object> visited;
     private final Map<Object, Boolean> preSaved;
-    private final Set<MappedRelationship> registeredRelationships;
-    private final Set<MappedRelationship> addedRelationships;
+    private final Set<Object> touched;
+    private final Set<MappedRelationship> currentRelationships;
     private final Set<MappedRelationship> deletedRelationships;
 
     SaveEventDelegate(Neo4jSession session) {
         super(session);
 
-        this.visited = new HashSet<>();
+        this.visited = Collections.newSetFromMap(new IdentityHashMap<>());
         this.preSaved = new HashMap<>();
 
-        this.registeredRelationships = new HashSet<>(session.context().getRelationships());
-        this.addedRelationships = new HashSet<>();
+        this.touched = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.currentRelationships = new HashSet<>();
         this.deletedRelationships = new HashSet<>();
     }
 
@@ -70,41 +79,60 @@ final class SaveEventDelegate extends SessionDelegate {
 
         // now fire events for any objects whose relationships have been deleted from reachable ones
         // and which therefore have been possibly rendered unreachable from the object graph traversal
-        for (Object other : unreachable()) {
+        for (Object other : measure(Phase.DIRTY_CHECKING, this::unreachable)) {
             if (visit(other) && !preSaveFired(other)) { // only if not yet visited and not yet fired
                 firePreSave(other);
             }
         }
 
         // fire events for existing nodes that are not dirty, but which have had an edge added:
-        for (Object other : touched()) {
+        for (Object other : touched) {
             if (!preSaveFired(other)) { // only if not yet already fired
                 firePreSave(other);
             }
         }
-    }
 
-    void postSave() {
-        this.preSaved.entrySet().stream()
-            .map(e -> new PostSaveEvent(e.getKey(), e.getValue()))
-            .forEach(session::notifyListeners);
+        touched.clear();
+        deletedRelationships.clear();
     }
 
+    // visits the object graph depth first and fires the events of the children before the ones of their parent.
+    // the pending children are kept on an explicit stack, so that deep object graphs don't exhaust the call stack.
     private void preSaveCheck(Object object) {
 
+        Deque<PendingChildren> pendingChildren = new ArrayDeque<>();
         if (visit(object)) {
-            logger.debug("visiting: {}", object);
-            for (Object child : children(object)) {
-                preSaveCheck(child);
-            }
-            if (!preSaveFired(object) && dirty(object)) {
-                firePreSave(object);
+            pendingChildren.push(new PendingChildren(object));
+        }
+
+        while (!pendingChildren.isEmpty()) {
+            PendingChildren parent = pendingChildren.peek();
+            if (parent.children.hasNext()) {
+                Object child = parent.children.next();
+                if (child == null) {
+                    continue;
+                }
+                if (visit(child)) {
+                    logger.debug("visiting: {}", child);
+                    pendingChildren.push(new PendingChildren(child));
+                } else {
+                    logger.debug("already visited: {}", child);
+                }
+            } else {
+                pendingChildren.pop();
+                if (!preSaveFired(parent.object) && measure(Phase.DIRTY_CHECKING, () -> dirty(parent.object))) {
+                    firePreSave(parent.object);
+                }
             }
-        } else if (logger.isDebugEnabled()) {
-            logger.debug("already visited: {}", object);
         }
     }
 
+    void postSave() {
+        this.preSaved.entrySet().stream()
+            .map(e -> new PostSaveEvent(e.getKey(), e.getValue()))
+            .forEach(session::notifyListeners);
+    }
+
     private void firePreSave(Object object) {
 
         boolean isNew = session.context().nativeId(object) < 0;
@@ -116,32 +144,31 @@ final class SaveEventDelegate extends SessionDelegate {
         return this.preSaved.containsKey(object);
     }
 
-    private Set<Object> touched() {
-        Set<Object> touched = new HashSet<>();
-
-        for (MappedRelationship added : addedRelationships) {
-
-            Object src = session.context().getNodeEntity(added.getStartNodeId());
-            Object tgt = session.context().getNodeEntity(added.getEndNodeId());
+    private void touch(MappedRelationship added) {
 
-            if (src != null) {
-                touched.add(src);
-            }
+        Object src = session.context().getNodeEntity(added.getStartNodeId());
+        Object tgt = session.context().getNodeEntity(added.getEndNodeId());
 
-            if (tgt != null) {
-                touched.add(tgt);
-            }
+        if (src != null) {
+            touched.add(src);
         }
 
-        return touched;
+        if (tgt != null) {
+            touched.add(tgt);
+        }
     }
 
     private Set<Object> unreachable() {
 
-        Set<Object> unreachable = new HashSet<>();
+        Set<Object> unreachable = Collections.newSetFromMap(new IdentityHashMap<>());
 
         for (MappedRelationship mappedRelationship : deletedRelationships) {
 
+            // the relationship might have been found from its other end
+            if (currentRelationships.contains(mappedRelationship)) {
+                continue;
+            }
+
             logger.debug("unreachable start {} end {}", mappedRelationship.getStartNodeId(),
                 mappedRelationship.getEndNodeId());
 
@@ -164,162 +191,117 @@ final class SaveEventDelegate extends SessionDelegate {
 
     // registers this object as visited and returns true if it was not previously visited, false otherwise
     private boolean visit(Object object) {
-        return this.visited.add(session.context().nativeId(object));
+        return this.visited.add(object);
     }
 
     // returns true if the object in question is dirty (has changed)
     // an object is dirty if either or both of:
     // - its properties have changed
     // - its relationships has changed
-    private boolean dirty(Object parent) {
+    // or if it has been touched by a relationship added to another object
+    private boolean dirty(Object object) {
+
+        ClassInfo classInfo = session.metaData().classInfo(object);
+        if (classInfo == null) {
+            return false;
+        }
+        // the relationships are always checked, as they determine the entities touched by this one
+        boolean relationshipsChanged = relationshipsChanged(object, classInfo);
+        return session.context().isDirty(object) || relationshipsChanged || touched.contains(object);
+    }
+
+    // for a given object parent, returns the objects referenced by this parent, i.e. its children
+    // at this stage, these children may or may not represent related nodes in the graph to the parent node
+    private Iterator<Object> children(Object parent) {
+
+        ClassInfo parentClassInfo = session.metaData().classInfo(parent);
+        if (parentClassInfo == null) {
+            return Collections.emptyIterator();
+        }
 
-        // have any properties changed
-        if (this.session.context().isDirty(parent)) {
-            logger.debug("dirty: {}", parent);
-            return true;
+        List<Object> children = new ArrayList<>();
+        for (FieldInfo reader : parentClassInfo.relationshipFields()) {
+            Object reference = reader.read(parent);
+            // a lazy relationship that hasn't been loaded can't have changed
+            if (LazyCollection.isInitialized(reference)) {
+                for (Object child : CollectionUtils.iterableOf(reference)) {
+                    children.add(child);
+                }
+            }
         }
+        return children.iterator();
+    }
 
-        ClassInfo parentClassInfo = this.session.metaData().classInfo(parent);
+    // returns true if the relationships of the object in question have changed, that is
+    // - a relationship has been added, which also touches the entities at both ends of it
+    // - or a previously mapped relationship has been deleted
+    private boolean relationshipsChanged(Object parent, ClassInfo parentClassInfo) {
 
         // an RE cannot contain additional refs because hyperedges are forbidden in Neo4j
-        if (!parentClassInfo.isRelationshipEntity()) {
+        if (parentClassInfo.isRelationshipEntity()) {
+            return false;
+        }
 
-            // build the set of mapped relationships for this object. if there any new ones, the object is dirty
-            for (FieldInfo reader : relationalReaders(parent)) {
+        boolean changed = false;
+        Long id = session.context().nativeId(parent);
+        for (FieldInfo reader : parentClassInfo.relationshipFields()) {
+
+            // a lazy relationship that hasn't been loaded can't have changed
+            if (!LazyCollection.isInitialized(reader.read(parent))) {
+                continue;
+            }
 
-                clearPreviousRelationships(parent, reader);
+            Set<MappedRelationship> previousRelationships = previousRelationships(id, reader);
 
-                for (MappedRelationship mappable : map(parent, reader)) {
-                    if (isNew(mappable)) {
-                        logger.debug("added new relationship: {} to {}", mappable, parent);
-                        this.addedRelationships.add(mappable);
-                        return true;
-                    }
-                    this.registeredRelationships.add(mappable);
-                    this.deletedRelationships.remove(mappable);     // no longer deleted
+            for (MappedRelationship mappable : map(parent, reader)) {
+                if (isNew(mappable)) {
+                    logger.debug("added new relationship: {} to {}", mappable, parent);
+                    touch(mappable);
+                    changed = true;
+                } else {
+                    previousRelationships.remove(mappable);
                 }
+                this.currentRelationships.add(mappable);
             }
 
-            // compare the set of current relationships with the ones in the mapping context
-            // if are there any missing from the mapping context, the object is dirty because
-            // a previously mapped relationship has been deleted.
-            for (MappedRelationship previous : session.context().getRelationships()) {
-                if (isDeleted(previous)) {
-                    logger.debug("deleted: {} from {}", previous, parent);
-                    return true;
-                }
+            // all the relationships of the mapping context that haven't been found again have been deleted
+            if (!previousRelationships.isEmpty()) {
+                logger.debug("deleted relationships from: {}", parent);
+                this.deletedRelationships.addAll(previousRelationships);
+                changed = true;
             }
         }
 
-        return false;
+        return changed;
     }
 
     // returns true if the specified mapped relationship is not found in the list
     // of mapped relationships that existed when the object being saved was originally loaded
     private boolean isNew(MappedRelationship mappedRelationship) {
-        return !this.session.context().getRelationships().contains(mappedRelationship);
+        return !this.session.context().containsRelationship(mappedRelationship);
     }
 
-    // returns true if the specified mapped relationship is not found in the list
-    // of registered relationships for the current save invocation
-    private boolean isDeleted(MappedRelationship mappedRelationship) {
-        return !this.registeredRelationships.contains(mappedRelationship);
-    }
-
-    // remove the current relationships for this object as loaded from the mapping context
-    // we expect to put them back in again later. Any differences afterwards between
-    // current relationships and the main mapping context indicate that relationships
-    // have been deleted since the last time the objects were loaded.
-    private void clearPreviousRelationships(Object parent, FieldInfo reader) {
+    // returns the relationships of the mapping context for this object and the given reader as loaded
+    private Set<MappedRelationship> previousRelationships(Long id, FieldInfo reader) {
 
-        Long id = session.context().nativeId(parent);
         String type = reader.relationshipType();
         Class endNodeType = DescriptorMappings.getType(reader.getTypeDescriptor());
+        Direction direction = reader.relationshipDirection();
 
-        switch (reader.relationshipDirection()) {
-            case INCOMING:
-                deregisterIncomingRelationship(id, type, endNodeType);
-                return;
-            case OUTGOING:
-                deregisterOutgoingRelationship(id, type, endNodeType);
-                return;
-            default:
-                deregisterOutgoingRelationship(id, type, endNodeType);
-                deregisterIncomingRelationship(id, type, endNodeType);
-                return;
-        }
-    }
-
-    private void deregisterIncomingRelationship(Long id, String relationshipType, Class endNodeType) {
-
-        Iterator<MappedRelationship> iterator = this.registeredRelationships.iterator();
-
-        while (iterator.hasNext()) {
-            MappedRelationship mappedRelationship = iterator.next();
-            if (mappedRelationship.getEndNodeId() == id && mappedRelationship.getRelationshipType()
-                .equals(relationshipType) && endNodeType.equals(mappedRelationship.getStartNodeType())) {
-                deletedRelationships.add(mappedRelationship);
-                iterator.remove();
+        Set<MappedRelationship> previousRelationships = new HashSet<>();
+        for (MappedRelationship mappedRelationship : session.context().getRelationshipsOf(id)) {
+            if (!mappedRelationship.getRelationshipType().equals(type)) {
+                continue;
             }
-        }
-    }
-
-    private void deregisterOutgoingRelationship(Long id, String relationshipType, Class endNodeType) {
-
-        Iterator<MappedRelationship> iterator = this.registeredRelationships.iterator();
-
-        while (iterator.hasNext()) {
-            MappedRelationship mappedRelationship = iterator.next();
-            if (mappedRelationship.getStartNodeId() == id && mappedRelationship.getRelationshipType()
-                .equals(relationshipType) && endNodeType.equals(mappedRelationship.getEndNodeType())) {
-                deletedRelationships.add(mappedRelationship);
-                iterator.remove();
+            boolean outgoing = mappedRelationship.getStartNodeId() == id
+                && endNodeType.equals(mappedRelationship.getEndNodeType());
+            boolean incoming = mappedRelationship.getEndNodeId() == id
+                && endNodeType.equals(mappedRelationship.getStartNodeType());
+            if (outgoing && direction != Direction.INCOMING || incoming && direction != Direction.OUTGOING) {
+                previousRelationships.add(mappedRelationship);
             }
         }
-    }
-
-    // for a given object parent, returns a list of objects referenced by this parent, i.e. its children
-    // at this stage, these children may or may not represent related nodes in the graph to the parent node
-    // We'll figure that out later.
-    private List<Object> children(Object parent) {
-
-        List<Object> children = new ArrayList<>();
-
-        ClassInfo parentClassInfo = this.session.metaData().classInfo(parent);
-
-        if (parentClassInfo != null) {
-
-            for (FieldInfo reader : parentClassInfo.relationshipFields()) {
-
-                Object reference = reader.read(parent);
-
-                if (reference != null) {
-                    if (reference.getClass().isArray()) {
-                        addChildren(children, Collections.singletonList(reference));
-                    } else if (Collection.class.isAssignableFrom(reference.getClass())) {
-                        addChildren(children, (Collection) reference);
-                    } else {
-                        addChild(children, reference);
-                    }
-                }
-            }
-        }
-
-        return children;
-    }
-
-    private void addChildren(Collection<Object> children, Collection references) {
-        for (Object reference : references) {
-            addChild(children, reference);
-        }
-    }
-
-    private void addChild(Collection<Object> children, Object reference) {
-        children.add(reference);
-    }
-
-    private Collection<FieldInfo> relationalReaders(Object object) {
-        return this.session.metaData().classInfo(object).relationshipFields();
+        return previousRelationships;
     }
 
     // given an object and a reader, returns a collection of
@@ -400,4 +382,16 @@ final class SaveEventDelegate extends SessionDelegate {
             mapInstance(mappedRelationships, parent, reader, reference);
         }
     }
+
+    private final class PendingChildren {
+
+        final Object object;
+
+        final Iterator<Object> children;
+
+        PendingChildren(Object object) {
+            this.object = object;
+            this.children = children(object);
+        }
+    }
 }
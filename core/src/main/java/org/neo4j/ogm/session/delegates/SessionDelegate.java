@@ -18,10 +18,13 @@
  */
 package org.neo4j.ogm.session.delegates;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.neo4j.ogm.annotation.EndNode;
@@ -31,12 +34,19 @@ import org.neo4j.ogm.annotation.Relationship.Direction;
 import org.neo4j.ogm.annotation.StartNode;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.FilterWithRelationship;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Operation;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Phase;
+import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.tracing.OgmTracer;
+import org.neo4j.ogm.session.tracing.OgmTracer.Span;
 import org.neo4j.ogm.utils.RelationshipUtils;
 
 /**
@@ -51,6 +61,82 @@ abstract class SessionDelegate {
         this.session = session;
     }
 
+    /**
+     * Measures the operation and traces it in a span, which becomes the parent of the spans of the requests sent by
+     * the operation.
+     */
+    <T> T measure(Operation operation, Supplier<T> unitOfWork) {
+
+        OgmMetrics metrics = session.metrics();
+        OgmTracer tracer = session.tracer();
+        if (!metrics.isEnabled() && !tracer.isEnabled()) {
+            return unitOfWork.get();
+        }
+
+        Span enclosingSpan = session.currentSpan();
+        Span span = null;
+        if (tracer.isEnabled()) {
+            span = tracer.startSpan(OgmTracer.OPERATION_SPAN_PREFIX + operation.name().toLowerCase(Locale.ENGLISH),
+                enclosingSpan);
+            session.setCurrentSpan(span);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return unitOfWork.get();
+        } catch (RuntimeException e) {
+            if (span != null) {
+                span.recordException(e);
+            }
+            throw e;
+        } finally {
+            if (metrics.isEnabled()) {
+                metrics.recordOperation(operation, System.nanoTime() - start);
+                metrics.recordMappingContextSize(session.context().size());
+            }
+            if (span != null) {
+                session.setCurrentSpan(enclosingSpan);
+                span.end();
+            }
+        }
+    }
+
+    void measure(Operation operation, Runnable unitOfWork) {
+        measure(operation, () -> {
+            unitOfWork.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param fetchPlan The relationships to load, {@literal null} to load all relationships up to the given depth
+     */
+    <T, ID extends Serializable> QueryStatements<ID> queryStatementsFor(Class<T> type, int depth, FetchPlan fetchPlan) {
+        return fetchPlan == null ? session.queryStatementsFor(type, depth) : session.queryStatementsFor(type, fetchPlan);
+    }
+
+    <T> T measure(Phase phase, Supplier<T> unitOfWork) {
+
+        OgmMetrics metrics = session.metrics();
+        if (!metrics.isEnabled()) {
+            return unitOfWork.get();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return unitOfWork.get();
+        } finally {
+            metrics.recordPhase(phase, System.nanoTime() - start);
+        }
+    }
+
+    void measure(Phase phase, Runnable unitOfWork) {
+        measure(phase, () -> {
+            unitOfWork.run();
+            return null;
+        });
+    }
+
     SortOrder sortOrderWithResolvedProperties(Class entityType, SortOrder sortOrder) {
         return SortOrder.fromSortClauses(sortClausesWithResolvedProperties(entityType, sortOrder));
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+import java.util.List;
+
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.metrics.OgmMetrics.Phase;
+import org.neo4j.ogm.session.request.RequestObserver;
+
+/**
+ * Records the {@link Phase#EXECUTION execution} of the requests of a driver and the
+ * {@link Phase#RESPONSE_PARSING parsing} and number of rows of their responses.
+ */
+public final class MetricsRequestObserver implements RequestObserver, RequestObserver.Observation {
+
+    private final OgmMetrics metrics;
+
+    public MetricsRequestObserver(OgmMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Observation start(List<? extends Statement> statements) {
+        return this;
+    }
+
+    @Override
+    public void executed(long executionNanos, RuntimeException failure) {
+        metrics.recordPhase(Phase.EXECUTION, executionNanos);
+    }
+
+    @Override
+    public void closed(long executionNanos, long readingNanos, long numberOfRows) {
+        metrics.recordPhase(Phase.RESPONSE_PARSING, readingNanos);
+        metrics.recordRowsMapped(numberOfRows);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.metrics;
+
+/**
+ * Receives timings and counts from the sessions of a {@link org.neo4j.ogm.session.SessionFactory}. Implementations
+ * hand them over to a metrics library, see the {@code neo4j-ogm-micrometer} module for Micrometer. All methods are
+ * called on the thread using the session, so implementations must be thread safe when sessions are used concurrently.
+ * <br>
+ * Sessions use {@link #NOOP} unless metrics are configured with
+ * {@link org.neo4j.ogm.session.SessionFactory#setMetrics(OgmMetrics)}. Nothing is measured at all then.
+ */
+public interface OgmMetrics {
+
+    /**
+     * Metrics that record nothing.
+     */
+    OgmMetrics NOOP = new OgmMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * The operations of a session.
+     */
+    enum Operation {
+        LOAD, SAVE, DELETE, QUERY
+    }
+
+    /**
+     * The phases of an operation. Phases may be nested, the dirty checking of a save for example is part of its
+     * Cypher generation.
+     */
+    enum Phase {
+        /**
+         * Mapping the entities to save into Cypher statements.
+         */
+        CYPHER_GENERATION,
+        /**
+         * Sending a request to the database until its response is available.
+         */
+        EXECUTION,
+        /**
+         * Reading the records of a response into OGM's models, which includes fetching further records.
+         */
+        RESPONSE_PARSING,
+        /**
+         * Creating and populating entities from the models of a response.
+         */
+        HYDRATION,
+        /**
+         * Finding the entities whose relationships have changed while firing save events.
+         */
+        DIRTY_CHECKING
+    }
+
+    /**
+     * @return false, if the session doesn't need to measure anything
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * @param operation     The operation of the session
+     * @param durationNanos How long the operation took, including all its phases
+     */
+    default void recordOperation(Operation operation, long durationNanos) {
+    }
+
+    /**
+     * @param phase         The phase of an operation
+     * @param durationNanos How long the phase took
+     */
+    default void recordPhase(Phase phase, long durationNanos) {
+    }
+
+    /**
+     * @param numberOfStatements The number of statements sent to the database by one save
+     */
+    default void recordStatementsPerSave(int numberOfStatements) {
+    }
+
+    /**
+     * @param numberOfRows The number of rows read from one response
+     */
+    default void recordRowsMapped(long numberOfRows) {
+    }
+
+    /**
+     * @param numberOfEntities The number of node and relationship entities in the mapping context after an operation
+     */
+    default void recordMappingContextSize(int numberOfEntities) {
+    }
+}
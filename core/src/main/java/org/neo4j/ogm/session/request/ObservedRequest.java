@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.request.RequestObserver.Observation;
+
+/**
+ * Times the requests of a driver and counts the rows of their responses once, reporting to all
+ * {@link RequestObserver observers} of a session.
+ */
+public final class ObservedRequest implements Request {
+
+    private final Request delegate;
+    private final List<RequestObserver> observers;
+
+    private ObservedRequest(Request delegate, List<RequestObserver> observers) {
+        this.delegate = delegate;
+        this.observers = observers;
+    }
+
+    /**
+     * @param request   The request of a driver
+     * @param observers The observers to notify
+     * @return a request notifying the observers, or the request itself if there are none
+     */
+    public static Request observe(Request request, List<RequestObserver> observers) {
+        return observers.isEmpty() ? request : new ObservedRequest(request, observers);
+    }
+
+    @Override
+    public Response<GraphModel> execute(GraphModelRequest query) {
+        return observe(Collections.singletonList(query), () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(RowModelRequest query) {
+        return observe(Collections.singletonList(query), () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RowModel> execute(DefaultRequest query) {
+        return observe(query.getStatements(), () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<GraphRowListModel> execute(GraphRowListModelRequest query) {
+        return observe(Collections.singletonList(query), () -> delegate.execute(query));
+    }
+
+    @Override
+    public Response<RestModel> execute(RestModelRequest query) {
+        return observe(Collections.singletonList(query), () -> delegate.execute(query));
+    }
+
+    private <T> Response<T> observe(List<? extends Statement> statements, Supplier<Response<T>> execution) {
+
+        List<Observation> observations = new ArrayList<>(observers.size());
+        for (RequestObserver observer : observers) {
+            observations.add(observer.start(statements));
+        }
+
+        long start = System.nanoTime();
+        Response<T> response;
+        try {
+            response = execution.get();
+        } catch (RuntimeException e) {
+            long executionNanos = System.nanoTime() - start;
+            observations.forEach(observation -> observation.executed(executionNanos, e));
+            throw e;
+        }
+        long executionNanos = System.nanoTime() - start;
+        observations.forEach(observation -> observation.executed(executionNanos, null));
+        return new ObservedResponse<>(response, observations, executionNanos);
+    }
+
+    private static class ObservedResponse<T> implements Response<T> {
+
+        private final Response<T> delegate;
+        private final List<Observation> observations;
+        private final long executionNanos;
+
+        private long readingNanos;
+        private long numberOfRows;
+        private boolean closed;
+
+        ObservedResponse(Response<T> delegate, List<Observation> observations, long executionNanos) {
+            this.delegate = delegate;
+            this.observations = observations;
+            this.executionNanos = executionNanos;
+        }
+
+        @Override
+        public T next() {
+
+            long start = System.nanoTime();
+            try {
+                T next = delegate.next();
+                if (next != null) {
+                    ++numberOfRows;
+                }
+                return next;
+            } catch (RuntimeException e) {
+                observations.forEach(observation -> observation.readFailed(e));
+                throw e;
+            } finally {
+                readingNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void close() {
+
+            try {
+                delegate.close();
+            } finally {
+                if (!closed) {
+                    closed = true;
+                    observations.forEach(observation -> observation.closed(executionNanos, readingNanos, numberOfRows));
+                }
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            return delegate.columns();
+        }
+
+        @Override
+        public Optional<QueryStatistics> getStatistics() {
+            return delegate.getStatistics();
+        }
+    }
+}
@@ -18,10 +18,14 @@
  */
 package org.neo4j.ogm.session.request;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.neo4j.ogm.exception.OptimisticLockingException;
@@ -42,6 +46,60 @@ public class OptimisticLockingChecker {
         this.session = session;
     }
 
+    /**
+     * Checks the results of several version checked statements that have been executed in a single request, together
+     * with other statements. The rows of the response are attributed to the statement whose rows they have been
+     * returned for via their {@code ref} and {@code type} columns.
+     *
+     * @param models     all rows of the response
+     * @param statements the version checked statements that have been part of the request
+     */
+    public void checkResultsCount(List<RowModel> models, List<Statement> statements) {
+
+        for (Statement statement : statements) {
+            Map<String, Object> parameters = statement.getParameters();
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) parameters.get("rows");
+            Object type = parameters.get("type");
+
+            Set<Long> refs = new HashSet<>();
+            if (rows != null) {
+                for (Map<String, Object> row : rows) {
+                    Object ref = refOf(row);
+                    if (ref instanceof Number) {
+                        refs.add(((Number) ref).longValue());
+                    }
+                }
+            }
+
+            List<RowModel> modelsOfStatement = new ArrayList<>();
+            for (RowModel model : models) {
+                String[] variables = model.variables();
+                Object[] values = model.getValues();
+                int refPosition = ArrayUtils.indexOf(variables, "ref");
+                int typePosition = ArrayUtils.indexOf(variables, "type");
+                if (refPosition < 0 || typePosition < 0 || !Objects.equals(values[typePosition], type)) {
+                    continue;
+                }
+                Object ref = values[refPosition];
+                if (ref instanceof Number && refs.contains(((Number) ref).longValue())) {
+                    modelsOfStatement.add(model);
+                }
+            }
+
+            checkResultsCount(modelsOfStatement, statement);
+        }
+    }
+
+    private static Object refOf(Map<String, Object> row) {
+        if (row.containsKey("nodeId")) {
+            return row.get("nodeId");
+        } else if (row.containsKey("nodeRef")) {
+            return row.get("nodeRef");
+        } else {
+            return row.get("relId");
+        }
+    }
+
     public void checkResultsCount(List<RowModel> models, Statement request) {
         OptimisticLockingConfig olConfig = request.optimisticLockingConfig().orElseThrow(
             () -> new IllegalArgumentException("Statement " + request + " doesn't require results count check")
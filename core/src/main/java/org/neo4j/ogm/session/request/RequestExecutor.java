@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.MappedRelationship;
@@ -77,15 +78,30 @@ public class RequestExecutor {
                 || compiler.updateRelationshipStatements().stream()
                 .anyMatch(st -> st.optimisticLockingConfig().isPresent());
 
-        session.doInTransaction(() -> {
+        int numberOfStatements = session.doInTransaction(() -> {
 
             //If there are statements that depend on new nodes i.e. relationships created between new nodes,
             //we must create the new nodes first, and then use their node IDs when creating relationships between them
-            if (compiler.hasStatementsDependentOnNewNodes()) {
+            Optional<Statement> createNodesAndRelationshipsStatement = compiler.hasStatementsDependentOnNewNodes()
+                ? compiler.createNodesAndRelationshipsStatement()
+                : Optional.empty();
+
+            if (createNodesAndRelationshipsStatement.isPresent()) {
+                // the relationships between new nodes are created by the same statement as the nodes,
+                // so that everything can be sent in a single request
+                List<Statement> statements = new ArrayList<>();
+                statements.add(createNodesAndRelationshipsStatement.get());
+                statements.addAll(compiler.updateNodesStatements());
+                statements.addAll(compiler.updateRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipStatements());
+                statements.addAll(compiler.deleteRelationshipEntityStatements());
+
+                return executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+            } else if (compiler.hasStatementsDependentOnNewNodes()) {
                 // execute the statements to create new nodes. The ids will be returned
                 // and will be used in subsequent statements that refer to these new nodes.
-                executeStatements(context, entityReferenceMappings, relReferenceMappings,
-                    compiler.createNodesStatements());
+                int numberOfNodeStatements = executeStatements(context, entityReferenceMappings,
+                    relReferenceMappings, compiler.createNodesStatements());
 
                 List<Statement> statements = new ArrayList<>();
                 statements.addAll(compiler.createRelationshipsStatements());
@@ -94,13 +110,18 @@ public class RequestExecutor {
                 statements.addAll(compiler.deleteRelationshipStatements());
                 statements.addAll(compiler.deleteRelationshipEntityStatements());
 
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                return numberOfNodeStatements
+                    + executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
             } else { // only update / delete statements
                 List<Statement> statements = compiler.getAllStatements();
-                executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
+                return executeStatements(context, entityReferenceMappings, relReferenceMappings, statements);
             }
 
         }, forceTx, Transaction.Type.READ_WRITE);
+        if (session.metrics().isEnabled()) {
+            session.metrics().recordStatementsPerSave(numberOfStatements);
+        }
+        session.statementDiagnostics().checkStatementsPerSave(numberOfStatements);
 
         //Update the mapping context now that the request is successful
         updateNodeEntities(context, entityReferenceMappings);
@@ -108,30 +129,36 @@ public class RequestExecutor {
         updateRelationships(context, relReferenceMappings);
     }
 
-    private void executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
+    private int executeStatements(CompileContext context, List<ReferenceMapping> entityReferenceMappings,
         List<ReferenceMapping> relReferenceMappings, List<Statement> statements) {
         if (statements.size() > 0) {
 
+            // Version checked statements go first, as they did when they were sent one by one, and are checked
+            // all together against the rows of the single response.
+            List<Statement> checkedStatements = new ArrayList<>();
             List<Statement> noCheckStatements = new ArrayList<>();
             for (Statement statement : statements) {
                 if (statement.optimisticLockingConfig().isPresent()) {
-                    DefaultRequest request = new DefaultRequest(statement);
-                    try (Response<RowModel> response = session.requestHandler().execute(request)) {
-                        List<RowModel> rowModels = response.toList();
-                        session.optimisticLockingChecker().checkResultsCount(rowModels, statement);
-                        registerEntityIds(context, rowModels, entityReferenceMappings, relReferenceMappings);
-                    }
+                    checkedStatements.add(statement);
                 } else {
                     noCheckStatements.add(statement);
                 }
             }
 
+            List<Statement> orderedStatements = new ArrayList<>(checkedStatements);
+            orderedStatements.addAll(noCheckStatements);
+
             DefaultRequest defaultRequest = new DefaultRequest();
-            defaultRequest.setStatements(noCheckStatements);
+            defaultRequest.setStatements(orderedStatements);
             try (Response<RowModel> response = session.requestHandler().execute(defaultRequest)) {
-                registerEntityIds(context, response.toList(), entityReferenceMappings, relReferenceMappings);
+                List<RowModel> rowModels = response.toList();
+                if (!checkedStatements.isEmpty()) {
+                    session.optimisticLockingChecker().checkResultsCount(rowModels, checkedStatements);
+                }
+                registerEntityIds(context, rowModels, entityReferenceMappings, relReferenceMappings);
             }
         }
+        return statements.size();
     }
 
     /**
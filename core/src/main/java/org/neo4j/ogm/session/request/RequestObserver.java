@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import java.util.List;
+
+import org.neo4j.ogm.request.Statement;
+
+/**
+ * Observes the requests a session sends to its driver, to record metrics, trace them or check them against
+ * thresholds. All observers of a session are notified by one {@link ObservedRequest}, so that each request is timed
+ * and its rows are counted once, no matter how many observers there are.
+ */
+public interface RequestObserver {
+
+    /**
+     * Called before the statements of a request are sent to the database.
+     *
+     * @param statements The statements of the request
+     * @return the observation receiving the outcome of this request
+     */
+    Observation start(List<? extends Statement> statements);
+
+    /**
+     * Receives the outcome of a single request.
+     */
+    interface Observation {
+
+        /**
+         * Called once the driver returned the response of the request or failed to execute it. Nothing else is
+         * reported after a failure.
+         *
+         * @param executionNanos The time the driver took
+         * @param failure        The exception executing the request failed with, {@literal null} on success
+         */
+        default void executed(long executionNanos, RuntimeException failure) {
+        }
+
+        /**
+         * Called if reading a row from the response failed.
+         *
+         * @param failure The exception reading the row failed with
+         */
+        default void readFailed(RuntimeException failure) {
+        }
+
+        /**
+         * Called once, when the response is closed. Drivers may stream rows, so reading them is part of the duration
+         * of a request.
+         *
+         * @param executionNanos The time the driver took to execute the request
+         * @param readingNanos   The time spent reading rows from the response
+         * @param numberOfRows   The number of rows read
+         */
+        default void closed(long executionNanos, long readingNanos, long numberOfRows) {
+        }
+    }
+}
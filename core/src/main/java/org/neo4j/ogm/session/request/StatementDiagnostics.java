@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import static java.util.stream.Collectors.*;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs warnings about slow statements, statements returning many rows or having large parameters and saves sending
+ * many statements, according to the thresholds of the {@link Configuration}. A warning names the statement, the
+ * sizes of its parameters and the {@link org.neo4j.ogm.session.Session} method that ran it. Durations and rows of
+ * requests sending several statements at once are reported for the whole request, naming all of its statements.
+ */
+public final class StatementDiagnostics implements RequestObserver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementDiagnostics.class);
+
+    /**
+     * Diagnostics that never warn.
+     */
+    public static final StatementDiagnostics DISABLED = new StatementDiagnostics(null, null, null, null);
+
+    private static final long NO_THRESHOLD = Long.MAX_VALUE;
+
+    private final long slowStatementThresholdNanos;
+    private final long largeResultThreshold;
+    private final long largeParametersThreshold;
+    private final long statementsPerSaveThreshold;
+
+    private StatementDiagnostics(Integer slowStatementThresholdMillis, Integer largeResultThreshold,
+        Integer largeParametersThreshold, Integer statementsPerSaveThreshold) {
+
+        this.slowStatementThresholdNanos = slowStatementThresholdMillis == null ?
+            NO_THRESHOLD : TimeUnit.MILLISECONDS.toNanos(slowStatementThresholdMillis);
+        this.largeResultThreshold = largeResultThreshold == null ? NO_THRESHOLD : largeResultThreshold;
+        this.largeParametersThreshold = largeParametersThreshold == null ? NO_THRESHOLD : largeParametersThreshold;
+        this.statementsPerSaveThreshold =
+            statementsPerSaveThreshold == null ? NO_THRESHOLD : statementsPerSaveThreshold;
+    }
+
+    /**
+     * @param configuration The configuration containing the thresholds, may be {@literal null}
+     * @return diagnostics using the thresholds of the configuration, {@link #DISABLED} if it has none
+     */
+    public static StatementDiagnostics of(Configuration configuration) {
+
+        if (configuration == null || (configuration.getSlowStatementThreshold() == null
+            && configuration.getLargeResultThreshold() == null
+            && configuration.getLargeParametersThreshold() == null
+            && configuration.getStatementsPerSaveThreshold() == null)) {
+            return DISABLED;
+        }
+        return new StatementDiagnostics(configuration.getSlowStatementThreshold(),
+            configuration.getLargeResultThreshold(), configuration.getLargeParametersThreshold(),
+            configuration.getStatementsPerSaveThreshold());
+    }
+
+    /**
+     * @return true if there are thresholds for requests, false if only saves are checked
+     */
+    public boolean checksRequests() {
+        return slowStatementThresholdNanos != NO_THRESHOLD || largeResultThreshold != NO_THRESHOLD
+            || largeParametersThreshold != NO_THRESHOLD;
+    }
+
+    /**
+     * Checks the parameters of the statements of a request before they are executed and their duration and number
+     * of rows once their response is closed.
+     */
+    @Override
+    public Observation start(List<? extends Statement> statements) {
+
+        statements.forEach(this::checkParameters);
+        return new Observation() {
+            @Override
+            public void closed(long executionNanos, long readingNanos, long numberOfRows) {
+                checkResponse(statements, executionNanos + readingNanos, numberOfRows);
+            }
+        };
+    }
+
+    /**
+     * @param numberOfStatements The number of statements sent to the database by one save
+     */
+    public void checkStatementsPerSave(int numberOfStatements) {
+
+        if (numberOfStatements > statementsPerSaveThreshold) {
+            LOGGER.warn("Save with many statements: statements={}, threshold={}, method={}",
+                numberOfStatements, statementsPerSaveThreshold, originatingSessionMethod());
+        }
+    }
+
+    void checkParameters(Statement statement) {
+
+        if (largeParametersThreshold == NO_THRESHOLD) {
+            return;
+        }
+        long numberOfValues = numberOfValues(statement.getParameters());
+        if (numberOfValues > largeParametersThreshold) {
+            LOGGER.warn("Statement with large parameters: values={}, threshold={}, method={}, statement={}, "
+                    + "parameterSizes={}", numberOfValues, largeParametersThreshold, originatingSessionMethod(),
+                statement.getStatement(), parameterSizes(statement));
+        }
+    }
+
+    /**
+     * Checks the response of a request. A request of several statements is reported as a whole, with all of its
+     * statements, as drivers don't report the duration or the rows of the single statements.
+     */
+    void checkResponse(List<? extends Statement> statements, long durationNanos, long numberOfRows) {
+
+        String subject = statements.size() == 1 ? "statement" : "request";
+        if (durationNanos > slowStatementThresholdNanos) {
+            LOGGER.warn("Slow {}: duration={}ms, threshold={}ms, method={}, {}", subject,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos),
+                TimeUnit.NANOSECONDS.toMillis(slowStatementThresholdNanos), originatingSessionMethod(),
+                describe(statements));
+        }
+        if (numberOfRows > largeResultThreshold) {
+            LOGGER.warn("{} with large result: rows={}, threshold={}, method={}, {}",
+                statements.size() == 1 ? "Statement" : "Request", numberOfRows, largeResultThreshold,
+                originatingSessionMethod(), describe(statements));
+        }
+    }
+
+    private static String describe(List<? extends Statement> statements) {
+
+        if (statements.size() == 1) {
+            Statement statement = statements.get(0);
+            return "statement=" + statement.getStatement() + ", parameterSizes=" + parameterSizes(statement);
+        }
+        return "statements=" + statements.stream().map(Statement::getStatement).collect(toList())
+            + ", parameterSizes=" + statements.stream().map(StatementDiagnostics::parameterSizes).collect(toList());
+    }
+
+    private static Map<String, Long> parameterSizes(Statement statement) {
+
+        Map<String, Long> parameterSizes = new LinkedHashMap<>();
+        if (statement != null && statement.getParameters() != null) {
+            statement.getParameters().forEach((name, value) -> parameterSizes.put(name, numberOfValues(value)));
+        }
+        return parameterSizes;
+    }
+
+    /**
+     * Counts the scalar values of a parameter. Only the elements of lists, arrays and maps are counted, not the
+     * containers themselves.
+     */
+    static long numberOfValues(Object value) {
+
+        if (value instanceof Collection) {
+            long numberOfValues = 0;
+            for (Object element : (Collection<?>) value) {
+                numberOfValues += numberOfValues(element);
+            }
+            return numberOfValues;
+        } else if (value instanceof Map) {
+            return numberOfValues(((Map<?, ?>) value).values());
+        } else if (value instanceof Object[]) {
+            long numberOfValues = 0;
+            for (Object element : (Object[]) value) {
+                numberOfValues += numberOfValues(element);
+            }
+            return numberOfValues;
+        } else if (value != null && value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        return 1;
+    }
+
+    /**
+     * Finds the outermost method of the session on the current stack, which is the one called by the application.
+     * Only called when a warning is logged.
+     */
+    private static String originatingSessionMethod() {
+
+        StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+        for (int i = stackTrace.length - 1; i >= 0; --i) {
+            if (Neo4jSession.class.getName().equals(stackTrace[i].getClassName())) {
+                return "Session." + stackTrace[i].getMethodName();
+            }
+        }
+        return "unknown";
+    }
+}
@@ -21,6 +21,7 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static org.neo4j.ogm.annotation.Relationship.*;
 
 import java.util.Map;
+import java.util.function.Predicate;
 
 import org.neo4j.ogm.metadata.schema.Node;
 import org.neo4j.ogm.metadata.schema.Relationship;
@@ -33,6 +34,8 @@ import org.neo4j.ogm.metadata.schema.Schema;
  */
 public abstract class AbstractSchemaLoadClauseBuilder {
 
+    private static final Predicate<String> ALL_PATHS = path -> true;
+
     protected final Schema schema;
 
     protected final boolean pretty;
@@ -43,26 +46,66 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int depth) {
+        expand(sb, variable, node, depth, null, ALL_PATHS);
+    }
+
+    /**
+     * Expands only the relationships whose path is included. A path consists of the names of the relationships leading
+     * to it, separated by dots, see {@link org.neo4j.ogm.cypher.query.FetchPlan}.
+     */
+    protected void expand(StringBuilder sb, String variable, Node node, int depth, Predicate<String> includePath) {
+        expand(sb, variable, node, depth, "", includePath);
+    }
+
+    private void expand(StringBuilder sb, String variable, Node node, int depth, String rootPath,
+        Predicate<String> includePath) {
         if (depth > 0) {
-            if (node.relationships().size() > 0) {
+            boolean expanding = hasIncludedRelationships(node, rootPath, includePath);
+            if (expanding) {
                 sb.append(",[ ");
 
             }
-            expand(sb, variable, node, 1, depth - 1);
-            if (node.relationships().size() > 0) {
+            expand(sb, variable, node, 1, depth - 1, rootPath, includePath);
+            if (expanding) {
                 sb.append(" ]");
             }
         }
     }
 
     protected void expand(StringBuilder sb, String variable, Node node, int level, int depth) {
+        expand(sb, variable, node, level, depth, null, ALL_PATHS);
+    }
+
+    private void expand(StringBuilder sb, String variable, Node node, int level, int depth, String parentPath,
+        Predicate<String> includePath) {
         for (Map.Entry<String, Relationship> entry : node.relationships().entrySet()) {
+            String path = path(parentPath, entry.getKey());
+            if (!includePath.test(path)) {
+                continue;
+            }
             if (needsSeparator(sb)) {
                 sb.append(", ");
             }
 
-            listComprehension(sb, variable, entry.getValue(), node, level, depth);
+            listComprehension(sb, variable, entry.getValue(), node, level, depth, path, includePath);
+        }
+    }
+
+    private static boolean hasIncludedRelationships(Node node, String parentPath, Predicate<String> includePath) {
+        for (String name : node.relationships().keySet()) {
+            if (includePath.test(path(parentPath, name))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // paths are only tracked when some relationships may be left out
+    private static String path(String parentPath, String name) {
+        if (parentPath == null) {
+            return null;
         }
+        return parentPath.isEmpty() ? name : parentPath + "." + name;
     }
 
     private boolean needsSeparator(StringBuilder sb) {
@@ -76,7 +119,7 @@ public abstract class AbstractSchemaLoadClauseBuilder {
     }
 
     private void listComprehension(StringBuilder sb, String fromNodeVar, Relationship relationship, Node node,
-        int level, int depth) {
+        int level, int depth, String path, Predicate<String> includePath) {
 
         Direction direction = relationship.direction(node);
         Node toNode = relationship.other(node);
@@ -113,9 +156,9 @@ public abstract class AbstractSchemaLoadClauseBuilder {
         sb.append(", ");
         sb.append(toNodeVar);
 
-        if (depth > 0 && !toNode.relationships().isEmpty()) {
+        if (depth > 0 && hasIncludedRelationships(toNode, path, includePath)) {
             sb.append(", [ ");
-            expand(sb, toNodeVar, toNode, level + 1, depth - 1);
+            expand(sb, toNodeVar, toNode, level + 1, depth - 1, path, includePath);
             sb.append(" ]");
         }
 
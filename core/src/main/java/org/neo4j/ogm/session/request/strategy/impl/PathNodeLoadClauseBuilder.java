@@ -21,7 +21,8 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 
 /**
- * Path based load clause for nodes - starts from given node variable
+ * Path based load clause for nodes - starts from given node variable.
+ * The paths include relationships of lazy fields, their related nodes are fetched but not added to those fields.
  *
  * @author Frantisek Hartman
  */
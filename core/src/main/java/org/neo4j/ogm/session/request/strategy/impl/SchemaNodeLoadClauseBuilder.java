@@ -18,20 +18,30 @@
  */
 package org.neo4j.ogm.session.request.strategy.impl;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.metadata.schema.Node;
+import org.neo4j.ogm.metadata.schema.Relationship;
 import org.neo4j.ogm.metadata.schema.Schema;
 import org.neo4j.ogm.session.request.strategy.LoadClauseBuilder;
 
 /**
- * Schema based load clause builder for nodes - starts from given node variable
+ * Schema based load clause builder for nodes - starts from given node variable. With a {@link FetchPlan} only the
+ * relationships on the paths of the plan are loaded and the depth is ignored.
  *
  * @author Frantisek Hartman
  * @author Michael J. Simons
  */
 public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder implements LoadClauseBuilder {
 
+    private final FetchPlan fetchPlan;
+
     public SchemaNodeLoadClauseBuilder(Schema schema) {
+        this(schema, null);
+    }
+
+    public SchemaNodeLoadClauseBuilder(Schema schema, FetchPlan fetchPlan) {
         super(schema);
+        this.fetchPlan = fetchPlan;
     }
 
     public String build(String variable, String label, int depth) {
@@ -56,9 +66,27 @@ public class SchemaNodeLoadClauseBuilder extends AbstractSchemaLoadClauseBuilder
             node = schema.findNode(label.substring(0, separatorIndex));
         }
 
-        expand(sb, variable, node, depth);
+        if (fetchPlan == null) {
+            expand(sb, variable, node, depth);
+        } else {
+            fetchPlan.getPaths().forEach(path -> assertPathExists(node, path));
+            expand(sb, variable, node, fetchPlan.getDepth(), fetchPlan.getPaths()::contains);
+        }
 
         return sb.toString();
     }
 
+    private void assertPathExists(Node root, String path) {
+        Node node = root;
+        for (String name : path.split("\\.")) {
+            Relationship relationship = node.relationships().get(name);
+            if (relationship == null) {
+                throw new IllegalArgumentException("Path '" + path + "' of " + fetchPlan + " doesn't name a "
+                    + "relationship field of " + root.label().orElse("the loaded entities")
+                    + ". Lazy relationship fields can't be part of a fetch plan.");
+            }
+            node = relationship.other(node);
+        }
+    }
+
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the spans of the sessions in memory, for example to verify them in tests or to export them by hand.
+ */
+public final class InMemoryTracer implements OgmTracer {
+
+    private final List<RecordedSpan> finishedSpans = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Span startSpan(String name, Span parent) {
+        return new RecordedSpan(name, parent instanceof RecordedSpan ? (RecordedSpan) parent : null);
+    }
+
+    /**
+     * @return the spans that have been ended, in the order they have been ended
+     */
+    public List<RecordedSpan> getFinishedSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(finishedSpans));
+    }
+
+    /**
+     * Forgets all finished spans.
+     */
+    public void clear() {
+        finishedSpans.clear();
+    }
+
+    /**
+     * A span kept in memory. Its attributes are in the order they have been set.
+     */
+    public final class RecordedSpan implements Span {
+
+        private final String name;
+        private final RecordedSpan parent;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private final long startNanos = System.nanoTime();
+
+        private long durationNanos = -1;
+        private Throwable exception;
+
+        RecordedSpan(String name, RecordedSpan parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void setAttribute(String key, long value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void recordException(Throwable recordedException) {
+            this.exception = recordedException;
+        }
+
+        @Override
+        public void end() {
+            if (durationNanos < 0) {
+                durationNanos = System.nanoTime() - startNanos;
+                finishedSpans.add(this);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Optional<RecordedSpan> getParent() {
+            return Optional.ofNullable(parent);
+        }
+
+        public Map<String, Object> getAttributes() {
+            return Collections.unmodifiableMap(attributes);
+        }
+
+        public Optional<Throwable> getException() {
+            return Optional.ofNullable(exception);
+        }
+
+        /**
+         * @return how long the span lasted, {@literal -1} if it hasn't been ended yet
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "RecordedSpan{" + name + ", attributes=" + attributes + '}';
+        }
+    }
+}
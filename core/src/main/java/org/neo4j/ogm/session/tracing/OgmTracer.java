@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+/**
+ * Creates the spans of the sessions of a {@link org.neo4j.ogm.session.SessionFactory}: One for each load, save,
+ * delete and query and a child span for each request sent to the database while doing so. Implementations hand them
+ * over to a tracing library, {@link InMemoryTracer} keeps them in memory for tests.
+ * <br>
+ * Sessions use {@link #NOOP} unless a tracer is configured with
+ * {@link org.neo4j.ogm.session.SessionFactory#setTracer(OgmTracer)}. No spans are created at all then.
+ */
+public interface OgmTracer {
+
+    /**
+     * Span name of the operations of a session, followed by the operation, for example {@code neo4j.ogm.load}.
+     */
+    String OPERATION_SPAN_PREFIX = "neo4j.ogm.";
+
+    /**
+     * Span name of the requests sent to the database.
+     */
+    String REQUEST_SPAN = "neo4j.ogm.request";
+
+    /**
+     * Attribute of a request span containing its Cypher statements, with parameters and not with their values.
+     */
+    String STATEMENT_ATTRIBUTE = "db.statement";
+
+    /**
+     * Attribute of a request span containing the number of rows read from its response.
+     */
+    String ROWS_ATTRIBUTE = "ogm.rows";
+
+    /**
+     * Attribute of a request span containing the type of the transaction the request ran in, {@code AUTO_COMMIT} if
+     * the session had no transaction.
+     */
+    String TRANSACTION_TYPE_ATTRIBUTE = "ogm.transaction.type";
+
+    /**
+     * A tracer that creates no spans.
+     */
+    OgmTracer NOOP = new OgmTracer() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public Span startSpan(String name, Span parent) {
+            return Span.NOOP;
+        }
+    };
+
+    /**
+     * @return false, if sessions shouldn't create any spans
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Starts a new span. Called on the thread using the session, so implementations must be thread safe when sessions
+     * are used concurrently.
+     *
+     * @param name   The name of the span
+     * @param parent The span of the enclosing operation, {@literal null} if there is none. Implementations may use the
+     *               span that is current in their tracing library then.
+     * @return the started span
+     */
+    Span startSpan(String name, Span parent);
+
+    /**
+     * A unit of work of a session. Spans are ended exactly once.
+     */
+    interface Span {
+
+        /**
+         * A span that records nothing.
+         */
+        Span NOOP = new Span() {
+        };
+
+        default void setAttribute(String key, String value) {
+        }
+
+        default void setAttribute(String key, long value) {
+        }
+
+        /**
+         * @param exception The exception that made the unit of work fail
+         */
+        default void recordException(Throwable exception) {
+        }
+
+        default void end() {
+        }
+    }
+}
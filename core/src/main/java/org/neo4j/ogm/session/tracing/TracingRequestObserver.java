@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.tracing;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RequestObserver;
+import org.neo4j.ogm.session.tracing.OgmTracer.Span;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Creates a {@link OgmTracer#REQUEST_SPAN span} for each request of a driver. The span lasts until the response is
+ * closed, as drivers may stream the rows of a response.
+ */
+public final class TracingRequestObserver implements RequestObserver {
+
+    private final OgmTracer tracer;
+    private final Span parent;
+    private final String transactionType;
+
+    /**
+     * @param tracer      The tracer to create the spans with
+     * @param parent      The span of the operation sending the requests, may be {@literal null}
+     * @param transaction The transaction the requests run in, may be {@literal null}
+     */
+    public TracingRequestObserver(OgmTracer tracer, Span parent, Transaction transaction) {
+        this.tracer = tracer;
+        this.parent = parent;
+        this.transactionType = transaction == null ? "AUTO_COMMIT" : transaction.type().name();
+    }
+
+    @Override
+    public Observation start(List<? extends Statement> statements) {
+
+        Span span = tracer.startSpan(OgmTracer.REQUEST_SPAN, parent);
+        span.setAttribute("db.system", "neo4j");
+        span.setAttribute(OgmTracer.STATEMENT_ATTRIBUTE,
+            statements.stream().map(Statement::getStatement).collect(Collectors.joining("\n")));
+        span.setAttribute(OgmTracer.TRANSACTION_TYPE_ATTRIBUTE, transactionType);
+        return new Observation() {
+
+            @Override
+            public void executed(long executionNanos, RuntimeException failure) {
+                if (failure != null) {
+                    span.recordException(failure);
+                    span.end();
+                }
+            }
+
+            @Override
+            public void readFailed(RuntimeException failure) {
+                span.recordException(failure);
+            }
+
+            @Override
+            public void closed(long executionNanos, long readingNanos, long numberOfRows) {
+                span.setAttribute(OgmTracer.ROWS_ATTRIBUTE, numberOfRows);
+                span.end();
+            }
+        };
+    }
+}
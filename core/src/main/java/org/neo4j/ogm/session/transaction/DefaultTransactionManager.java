@@ -83,7 +83,8 @@ public class DefaultTransactionManager implements TransactionManager {
      * Rolls back the specified transaction.
      * The actual job of rolling back the transaction is left to the relevant driver. if
      * this is successful, the transaction is detached from this thread. Any new objects
-     * are reset in the session, so that their ids are reset to null.
+     * are reset in the session, so that their ids are reset to null. Saves buffered by the session are discarded,
+     * those buffered before the transaction began have already been flushed when it began.
      * If the specified transaction is not the correct one for this thread, throws an exception
      *
      * @param transaction the transaction to rollback
@@ -96,6 +97,7 @@ public class DefaultTransactionManager implements TransactionManager {
                 ((Neo4jSession) session).context().reset(object);
             }
             newlyRegisteredObjects.clear();
+            ((Neo4jSession) session).discardBufferedSaves();
         });
     }
 
@@ -115,6 +117,19 @@ public class DefaultTransactionManager implements TransactionManager {
         });
     }
 
+    /**
+     * Flushes the saves buffered by the session, so that they are part of the specified transaction.
+     *
+     * @param transaction the transaction about to be committed
+     */
+    @Override
+    public void beforeCommit(Transaction transaction) {
+        if (transaction != getCurrentTransaction()) {
+            throw new TransactionManagerException("Transaction is not current for this thread");
+        }
+        session.flush();
+    }
+
     private void checkIfCurrentAndRemove(Transaction transaction, Consumer<AbstractTransaction> action) {
         if (transaction != getCurrentTransaction()) {
             throw new TransactionManagerException("Transaction is not current for this thread");
@@ -176,4 +191,9 @@ public class DefaultTransactionManager implements TransactionManager {
             session.withBookmark(bookmark);
         }
     }
+
+    @Override
+    public String getLastBookmark() {
+        return session == null ? null : session.getLastBookmark();
+    }
 }
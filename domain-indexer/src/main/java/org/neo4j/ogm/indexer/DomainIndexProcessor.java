@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.indexer;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes the names of all types compiled in a module into {@value #INDEX_LOCATION}. Neo4j-OGM reads that index on
+ * startup and only falls back to scanning the class path for packages that are not covered by any index.
+ * <p>
+ * The processor is picked up automatically when this artifact is on the annotation processor path. It does not
+ * claim any annotation and therefore doesn't interfere with other processors. An incremental build only compiles some
+ * types of the module, so the entries of an existing index are kept as long as their types can still be resolved.
+ */
+@SupportedAnnotationTypes("*")
+public class DomainIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the index. Must be kept in sync with {@code org.neo4j.ogm.metadata.DomainIndex}.
+     */
+    public static final String INDEX_LOCATION = "META-INF/neo4j-ogm/domain.index";
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        } else {
+            for (Element element : roundEnv.getRootElements()) {
+                addType(element);
+            }
+        }
+        return false;
+    }
+
+    private void addType(Element element) {
+
+        if (!(element.getKind().isClass() || element.getKind().isInterface())) {
+            return;
+        }
+        if (element.getKind() != ElementKind.ANNOTATION_TYPE) {
+            classNames.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+        }
+        for (Element enclosedElement : element.getEnclosedElements()) {
+            addType(enclosedElement);
+        }
+    }
+
+    private void writeIndex() {
+
+        Set<String> allClassNames = new TreeSet<>(classNames);
+        allClassNames.addAll(readExistingIndex());
+        if (allClassNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String className : allClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                .printMessage(Diagnostic.Kind.ERROR, "Could not write Neo4j-OGM domain index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return The entries of an index written by an earlier compilation into the same output, without the types that
+     * don't exist anymore
+     */
+    private Set<String> readExistingIndex() {
+
+        Set<String> existingClassNames = new TreeSet<>();
+        try {
+            FileObject index = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Reader reader = index.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && typeExists(line)) {
+                        existingClassNames.add(line);
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // No earlier index
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Could not read existing Neo4j-OGM domain index, writing a new one: " + e.getMessage());
+        }
+        return existingClassNames;
+    }
+
+    private boolean typeExists(String binaryName) {
+        return processingEnv.getElementUtils().getTypeElement(binaryName.replace('$', '.')) != null;
+    }
+}
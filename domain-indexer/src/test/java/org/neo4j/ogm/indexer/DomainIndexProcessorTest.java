@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.indexer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldIndexAllTypesButAnnotations() throws IOException {
+
+        File sources = temporaryFolder.newFolder("sources");
+        File classes = temporaryFolder.newFolder("classes");
+
+        Path domain = Files.createDirectories(sources.toPath().resolve("org/example/domain"));
+        Files.write(domain.resolve("Person.java"), Arrays.asList(
+            "package org.example.domain;",
+            "public class Person {",
+            "    String name;",
+            "    public static class Address {}",
+            "    enum Gender { FEMALE, MALE }",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Named.java"), Collections.singletonList(
+            "package org.example.domain; interface Named {}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Marker.java"), Collections.singletonList(
+            "package org.example.domain; @interface Marker {}"
+        ), StandardCharsets.UTF_8);
+
+        File[] sourceFiles = { domain.resolve("Person.java").toFile(), domain.resolve("Named.java").toFile(),
+            domain.resolve("Marker.java").toFile() };
+
+        compile(classes, sourceFiles);
+
+        assertThat(readIndex(classes)).containsExactly(
+            "org.example.domain.Named",
+            "org.example.domain.Person",
+            "org.example.domain.Person$Address",
+            "org.example.domain.Person$Gender"
+        );
+    }
+
+    @Test
+    public void shouldKeepExistingEntriesOnIncrementalCompilation() throws IOException {
+
+        File sources = temporaryFolder.newFolder("sources");
+        File classes = temporaryFolder.newFolder("classes");
+
+        Path domain = Files.createDirectories(sources.toPath().resolve("org/example/domain"));
+        Files.write(domain.resolve("Person.java"), Collections.singletonList(
+            "package org.example.domain; public class Person {}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Movie.java"), Collections.singletonList(
+            "package org.example.domain; public class Movie {}"
+        ), StandardCharsets.UTF_8);
+        compile(classes, domain.resolve("Person.java").toFile(), domain.resolve("Movie.java").toFile());
+
+        // Movie has been deleted and only the new Pet is compiled
+        Files.delete(classes.toPath().resolve("org/example/domain/Movie.class"));
+        Files.write(domain.resolve("Pet.java"), Collections.singletonList(
+            "package org.example.domain; public class Pet {}"
+        ), StandardCharsets.UTF_8);
+        compile(classes, domain.resolve("Pet.java").toFile());
+
+        assertThat(readIndex(classes)).containsExactly(
+            "org.example.domain.Person",
+            "org.example.domain.Pet"
+        );
+    }
+
+    private static void compile(File classes, File... sourceFiles) throws IOException {
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(classes));
+            fileManager.setLocation(StandardLocation.CLASS_PATH, Collections.singletonList(classes));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, null, null,
+                fileManager.getJavaFileObjects(sourceFiles));
+            task.setProcessors(Collections.singletonList(new DomainIndexProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+    }
+
+    private static List<String> readIndex(File classes) throws IOException {
+        return Files.readAllLines(classes.toPath().resolve(DomainIndexProcessor.INDEX_LOCATION), StandardCharsets.UTF_8);
+    }
+}
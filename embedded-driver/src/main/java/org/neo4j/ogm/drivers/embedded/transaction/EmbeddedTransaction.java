@@ -75,6 +75,7 @@ public class EmbeddedTransaction extends AbstractTransaction {
 
     @Override
     public void commit() {
+        beforeCommit();
         try {
             if (transactionManager.canCommit()) {
                 LOGGER.debug("Committing native transaction: {}", nativeTransaction);
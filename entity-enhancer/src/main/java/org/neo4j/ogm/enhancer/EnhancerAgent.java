@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.enhancer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Java agent enhancing entity classes while they are loaded, see {@link EntityEnhancer}. Add
+ * {@code -javaagent:/path/to/neo4j-ogm-entity-enhancer.jar} to the command line of the JVM to use it.
+ */
+public final class EnhancerAgent implements ClassFileTransformer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnhancerAgent.class);
+
+    /**
+     * One enhancer per class loader, as the enhancers cache what they know about the superclasses.
+     */
+    private final Map<ClassLoader, EntityEnhancer> enhancers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final EntityEnhancer bootstrapEnhancer = new EntityEnhancer(className -> readClassFile(null, className));
+
+    public static void premain(String arguments, Instrumentation instrumentation) {
+        instrumentation.addTransformer(new EnhancerAgent());
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+        ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+
+        // Fields cannot be added to classes that have already been loaded, the enhancer and its logging are loaded
+        // while transforming
+        if (classBeingRedefined != null || className == null || className.startsWith("java/")
+            || className.startsWith("org/neo4j/ogm/enhancer/") || className.startsWith("org/slf4j/")) {
+            return null;
+        }
+
+        try {
+            EntityEnhancer enhancer = loader == null ? bootstrapEnhancer : enhancers
+                .computeIfAbsent(loader, key -> new EntityEnhancer(name -> readClassFile(key, name)));
+            return enhancer.enhance(classfileBuffer);
+        } catch (RuntimeException e) {
+            // Exceptions are swallowed by the JVM, the class is just not enhanced then
+            LOGGER.warn("Could not enhance {}", className, e);
+            return null;
+        }
+    }
+
+    static byte[] readClassFile(ClassLoader loader, String className) {
+
+        String resource = className + ".class";
+        try (InputStream in = loader == null ?
+            ClassLoader.getSystemResourceAsStream(resource) :
+            loader.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
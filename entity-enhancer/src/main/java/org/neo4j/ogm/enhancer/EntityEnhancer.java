@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.enhancer;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Instruments entity classes so that they record the names of the fields written by their own code. Those classes
+ * implement {@code org.neo4j.ogm.context.DirtyTrackingEntity}, which allows Neo4j-OGM to detect changes of an entity
+ * without hashing all of its properties.
+ * <p>
+ * A class is enhanced if it is annotated with {@code @NodeEntity} or {@code @RelationshipEntity}, or if its superclass
+ * is enhanced. Classes with non-private instance fields or belonging to a nest of classes (which may write each
+ * other's private fields directly since Java 11) are left alone, as writes to their fields from other classes would go unnoticed. Neo4j-OGM
+ * keeps hashing instances of classes that are not enhanced.
+ * <p>
+ * The enhancer can be used as a Java agent (see {@link EnhancerAgent}) or after compilation by passing the directories
+ * containing the compiled classes to {@link #main(String...)}.
+ */
+public final class EntityEnhancer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityEnhancer.class);
+
+    static final String DIRTY_TRACKING_ENTITY = "org/neo4j/ogm/context/DirtyTrackingEntity";
+    static final String ENHANCED_MARKER = "$ogm_enhanced";
+    static final String DIRTY_FIELDS = "$ogm_dirtyFields";
+    static final String CLEAR_DIRTY_FIELDS = "$ogm_clearDirtyFields";
+    static final String MARK_DIRTY = "$ogm_markDirty";
+    static final String WRITE_PREFIX = "$ogm_write$";
+
+    private static final String NODE_ENTITY = "Lorg/neo4j/ogm/annotation/NodeEntity;";
+    private static final String RELATIONSHIP_ENTITY = "Lorg/neo4j/ogm/annotation/RelationshipEntity;";
+    private static final String SET = "java/util/Set";
+
+    private final Function<String, byte[]> classFileLookup;
+
+    /**
+     * Whether the classes with the given internal names are enhanced or would be enhanced.
+     */
+    private final Map<String, Boolean> trackingClasses = new ConcurrentHashMap<>();
+
+    /**
+     * @param classFileLookup Retrieves the class file of a class by its internal name, used for the superclasses of
+     *                        the classes to enhance. May return {@literal null} if a class file cannot be found.
+     */
+    public EntityEnhancer(Function<String, byte[]> classFileLookup) {
+        this.classFileLookup = classFileLookup;
+    }
+
+    /**
+     * Enhances the given class if it is an entity class that can be enhanced.
+     *
+     * @param classFile The class file to enhance
+     * @return The enhanced class file or {@literal null} if the class has not been enhanced
+     */
+    public byte[] enhance(byte[] classFile) {
+
+        ClassReader reader = new ClassReader(classFile);
+        ClassSummary summary = summarize(reader);
+        if (summary.enhanced || !isTracking(summary)) {
+            return null;
+        }
+
+        boolean root = !isTracking(summary.superName);
+        ClassWriter writer = new ClassWriter(reader, 0);
+        reader.accept(new EnhancingClassVisitor(writer, summary, root), 0);
+        return writer.toByteArray();
+    }
+
+    private boolean isTracking(String className) {
+
+        if (className == null || className.startsWith("java/")) {
+            return false;
+        }
+        Boolean tracking = trackingClasses.get(className);
+        if (tracking == null) {
+            byte[] classFile = classFileLookup.apply(className);
+            ClassSummary summary = classFile == null ? null : summarize(new ClassReader(classFile));
+            tracking = summary != null && (summary.enhanced || isTracking(summary));
+            trackingClasses.put(className, tracking);
+        }
+        return tracking;
+    }
+
+    private boolean isTracking(ClassSummary summary) {
+        return summary.enhanceable && (summary.annotated || isTracking(summary.superName));
+    }
+
+    private static ClassSummary summarize(ClassReader reader) {
+        ClassSummary summary = new ClassSummary();
+        reader.accept(summary, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return summary;
+    }
+
+    /**
+     * Enhances all class files in the given directories in place.
+     *
+     * @param directories Directories containing compiled classes, for example {@code target/classes}
+     * @throws IOException if the class files cannot be read or written
+     */
+    public static void main(String... directories) throws IOException {
+
+        List<Path> roots = Stream.of(directories).map(Paths::get).collect(Collectors.toList());
+        EntityEnhancer enhancer = new EntityEnhancer(className -> {
+            for (Path root : roots) {
+                Path classFile = root.resolve(className + ".class");
+                if (Files.isRegularFile(classFile)) {
+                    try {
+                        return Files.readAllBytes(classFile);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+            return EnhancerAgent.readClassFile(Thread.currentThread().getContextClassLoader(), className);
+        });
+
+        int numberOfEnhancedClasses = 0;
+        for (Path root : roots) {
+            List<Path> classFiles;
+            try (Stream<Path> files = Files.walk(root)) {
+                classFiles = files.filter(file -> file.toString().endsWith(".class")).collect(Collectors.toList());
+            }
+            for (Path classFile : classFiles) {
+                byte[] enhanced = enhancer.enhance(Files.readAllBytes(classFile));
+                if (enhanced != null) {
+                    Files.write(classFile, enhanced);
+                    numberOfEnhancedClasses++;
+                }
+            }
+        }
+        LOGGER.info("Enhanced {} entity classes", numberOfEnhancedClasses);
+    }
+
+    /**
+     * Collects everything needed to decide whether a class can be enhanced.
+     */
+    private static final class ClassSummary extends ClassVisitor {
+
+        String name;
+        String superName;
+        boolean annotated;
+        boolean enhanced;
+        boolean enhanceable;
+        /**
+         * Instance fields and their descriptors.
+         */
+        final Map<String, String> fields = new LinkedHashMap<>();
+
+        ClassSummary() {
+            super(ASM9);
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+            String[] interfaces) {
+            this.name = name;
+            this.superName = superName;
+            // Generated methods need stack map frames, which are only supported from Java 6 on
+            this.enhanceable = (access & (ACC_INTERFACE | ACC_ANNOTATION | ACC_ENUM)) == 0
+                && (version & 0xFFFF) >= V1_6;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            annotated |= NODE_ENTITY.equals(descriptor) || RELATIONSHIP_ENTITY.equals(descriptor);
+            return null;
+        }
+
+        @Override
+        public void visitNestHost(String nestHost) {
+            enhanceable = false;
+        }
+
+        @Override
+        public void visitNestMember(String nestMember) {
+            enhanceable = false;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            if (ENHANCED_MARKER.equals(name)) {
+                enhanced = true;
+            } else if ((access & (ACC_STATIC | ACC_TRANSIENT)) == 0) {
+                enhanceable &= (access & ACC_PRIVATE) != 0;
+                fields.put(name, descriptor);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Routes all writes of instance fields through generated methods that record the name of the written field.
+     */
+    private static final class EnhancingClassVisitor extends ClassVisitor {
+
+        private final ClassSummary summary;
+        private final boolean root;
+
+        EnhancingClassVisitor(ClassVisitor classVisitor, ClassSummary summary, boolean root) {
+            super(ASM9, classVisitor);
+            this.summary = summary;
+            this.root = root;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+            String[] interfaces) {
+
+            String[] actualInterfaces = interfaces;
+            if (root) {
+                List<String> extendedInterfaces = new ArrayList<>();
+                if (interfaces != null) {
+                    extendedInterfaces.addAll(Arrays.asList(interfaces));
+                }
+                extendedInterfaces.add(DIRTY_TRACKING_ENTITY);
+                actualInterfaces = extendedInterfaces.toArray(new String[0]);
+            }
+            super.visit(version, access, name, signature, superName, actualInterfaces);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+            String[] exceptions) {
+
+            MethodVisitor methodVisitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+            // Fields written while an object is constructed don't make it dirty, Neo4j-OGM doesn't know it yet
+            if ("<init>".equals(name) || methodVisitor == null) {
+                return methodVisitor;
+            }
+            return new MethodVisitor(ASM9, methodVisitor) {
+                @Override
+                public void visitFieldInsn(int opcode, String owner, String fieldName, String fieldDescriptor) {
+                    if (opcode == PUTFIELD && owner.equals(summary.name) && summary.fields.containsKey(fieldName)) {
+                        super.visitMethodInsn(INVOKESPECIAL, owner, WRITE_PREFIX + fieldName,
+                            "(" + fieldDescriptor + ")V", false);
+                    } else {
+                        super.visitFieldInsn(opcode, owner, fieldName, fieldDescriptor);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void visitEnd() {
+
+            super.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL | ACC_SYNTHETIC, ENHANCED_MARKER, "Z", null, 1)
+                .visitEnd();
+
+            summary.fields.forEach(this::addWriteMethod);
+            if (root) {
+                addDirtyTracking();
+            }
+            super.visitEnd();
+        }
+
+        private void addWriteMethod(String fieldName, String fieldDescriptor) {
+
+            Type fieldType = Type.getType(fieldDescriptor);
+            MethodVisitor mv = super.visitMethod(ACC_PRIVATE | ACC_SYNTHETIC, WRITE_PREFIX + fieldName,
+                "(" + fieldDescriptor + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(fieldType.getOpcode(ILOAD), 1);
+            mv.visitFieldInsn(PUTFIELD, summary.name, fieldName, fieldDescriptor);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitLdcInsn(fieldName);
+            mv.visitMethodInsn(INVOKEVIRTUAL, summary.name, MARK_DIRTY, "(Ljava/lang/String;)V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(1 + Math.max(fieldType.getSize(), 1), 1 + fieldType.getSize());
+            mv.visitEnd();
+        }
+
+        private void addDirtyTracking() {
+
+            String owner = summary.name;
+            String setDescriptor = "L" + SET + ";";
+
+            super.visitField(ACC_PRIVATE | ACC_TRANSIENT | ACC_SYNTHETIC, DIRTY_FIELDS, setDescriptor, null, null)
+                .visitEnd();
+
+            // Public, so that enhanced subclasses in other packages can call it
+            MethodVisitor mv = super.visitMethod(ACC_PUBLIC | ACC_SYNTHETIC, MARK_DIRTY, "(Ljava/lang/String;)V",
+                null, null);
+            mv.visitCode();
+            Label initialized = new Label();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitJumpInsn(IFNONNULL, initialized);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitTypeInsn(NEW, "java/util/HashSet");
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/util/HashSet", "<init>", "()V", false);
+            mv.visitFieldInsn(PUTFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitLabel(initialized);
+            mv.visitFrame(F_SAME, 0, null, 0, null);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKEINTERFACE, SET, "add", "(Ljava/lang/Object;)Z", true);
+            mv.visitInsn(POP);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(3, 2);
+            mv.visitEnd();
+
+            mv = super.visitMethod(ACC_PUBLIC, DIRTY_FIELDS, "()" + setDescriptor, null, null);
+            mv.visitCode();
+            Label notEmpty = new Label();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitJumpInsn(IFNONNULL, notEmpty);
+            mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "emptySet", "()" + setDescriptor, false);
+            mv.visitInsn(ARETURN);
+            mv.visitLabel(notEmpty);
+            mv.visitFrame(F_SAME, 0, null, 0, null);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(1, 1);
+            mv.visitEnd();
+
+            mv = super.visitMethod(ACC_PUBLIC, CLEAR_DIRTY_FIELDS, "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitFieldInsn(PUTFIELD, owner, DIRTY_FIELDS, setDescriptor);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(2, 1);
+            mv.visitEnd();
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.enhancer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.ogm.context.DirtyTrackingEntity;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.driver.TypeSystem;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+
+public class EntityEnhancerTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path classes;
+
+    private EntityEnhancer enhancer;
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void compileDomain() throws IOException {
+
+        File sources = temporaryFolder.newFolder("sources");
+        classes = temporaryFolder.newFolder("classes").toPath();
+
+        Path domain = Files.createDirectories(sources.toPath().resolve("org/example/domain"));
+        Files.write(domain.resolve("Person.java"), Arrays.asList(
+            "package org.example.domain;",
+            "@org.neo4j.ogm.annotation.NodeEntity",
+            "public class Person {",
+            "    private Long id;",
+            "    private String name;",
+            "    private int age;",
+            "    public Person(String name) { this.name = name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "    public void setAge(int age) { this.age = age; }",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Employee.java"), Arrays.asList(
+            "package org.example.domain;",
+            "public class Employee extends Person {",
+            "    private String company;",
+            "    public Employee(String name) { super(name); }",
+            "    public void setCompany(String company) { this.company = company; }",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Team.java"), Arrays.asList(
+            "package org.example.domain;",
+            "@org.neo4j.ogm.annotation.NodeEntity",
+            "public class Team {",
+            "    private Long id;",
+            "    private java.util.List<String> members;",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Concert.java"), Arrays.asList(
+            "package org.example.domain;",
+            "@org.neo4j.ogm.annotation.NodeEntity",
+            "public class Concert {",
+            "    private Long id;",
+            "    private java.util.Date date = new java.util.Date(0);",
+            "    public java.util.Date getDate() { return date; }",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Ticket.java"), Arrays.asList(
+            "package org.example.domain;",
+            "@org.neo4j.ogm.annotation.NodeEntity",
+            "public class Ticket {",
+            "    private Long id;",
+            "    @org.neo4j.ogm.annotation.typeconversion.Convert(CodeConverter.class)",
+            "    private String code;",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("CodeConverter.java"), Arrays.asList(
+            "package org.example.domain;",
+            "public class CodeConverter implements org.neo4j.ogm.typeconversion.AttributeConverter<String, String> {",
+            "    public String toGraphProperty(String value) { return value; }",
+            "    public String toEntityAttribute(String value) { return value; }",
+            "}"
+        ), StandardCharsets.UTF_8);
+        Files.write(domain.resolve("Pet.java"), Arrays.asList(
+            "package org.example.domain;",
+            "@org.neo4j.ogm.annotation.NodeEntity",
+            "public class Pet {",
+            "    private Long id;",
+            "    public String name;",
+            "}"
+        ), StandardCharsets.UTF_8);
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Arrays.asList(classes.toFile()));
+            List<File> sourceFiles = Arrays.asList("Person", "Employee", "Team", "Concert", "Ticket", "CodeConverter", "Pet").stream()
+                .map(name -> domain.resolve(name + ".java").toFile())
+                .collect(Collectors.toList());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                Arrays.asList("-classpath", System.getProperty("java.class.path")), null,
+                fileManager.getJavaFileObjects(sourceFiles.toArray(new File[0])));
+            assertThat(task.call()).isTrue();
+        }
+
+        enhancer = new EntityEnhancer(this::readClassFile);
+        classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected URL findResource(String name) {
+                try {
+                    Path resource = classes.resolve(name);
+                    return Files.exists(resource) ? resource.toUri().toURL() : null;
+                } catch (MalformedURLException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            protected Enumeration<URL> findResources(String name) {
+                URL resource = findResource(name);
+                return Collections.enumeration(resource == null ? Collections.emptyList() : Arrays.asList(resource));
+            }
+
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] classFile = readClassFile(name.replace('.', '/'));
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                byte[] enhanced = enhancer.enhance(classFile);
+                if (enhanced != null) {
+                    classFile = enhanced;
+                }
+                return defineClass(name, classFile, 0, classFile.length);
+            }
+        };
+    }
+
+    @Test
+    public void shouldRecordFieldsWrittenAfterConstruction() throws Exception {
+
+        Class<?> personClass = classLoader.loadClass("org.example.domain.Person");
+        Object person = personClass.getConstructor(String.class).newInstance("Alice");
+
+        assertThat(person).isInstanceOf(DirtyTrackingEntity.class);
+        DirtyTrackingEntity trackingEntity = (DirtyTrackingEntity) person;
+        assertThat(trackingEntity.$ogm_dirtyFields()).isEmpty();
+
+        personClass.getMethod("setName", String.class).invoke(person, "Bob");
+        personClass.getMethod("setAge", int.class).invoke(person, 42);
+        assertThat(trackingEntity.$ogm_dirtyFields()).containsOnly("name", "age");
+
+        trackingEntity.$ogm_clearDirtyFields();
+        assertThat(trackingEntity.$ogm_dirtyFields()).isEmpty();
+    }
+
+    @Test
+    public void shouldTrackFieldsOfSubclassesInTheEnhancedSuperclass() throws Exception {
+
+        Class<?> employeeClass = classLoader.loadClass("org.example.domain.Employee");
+        Object employee = employeeClass.getConstructor(String.class).newInstance("Alice");
+
+        employeeClass.getMethod("setCompany", String.class).invoke(employee, "Neo4j");
+        employeeClass.getMethod("setName", String.class).invoke(employee, "Bob");
+        assertThat(((DirtyTrackingEntity) employee).$ogm_dirtyFields()).containsOnly("name", "company");
+
+        assertThat(employeeClass.getDeclaredField(EntityEnhancer.ENHANCED_MARKER)).isNotNull();
+        assertThat(Arrays.stream(employeeClass.getDeclaredFields()).map(Field::getName))
+            .doesNotContain(EntityEnhancer.DIRTY_FIELDS);
+        assertThat(new ClassInfo(employeeClass, TypeSystem.NoNativeTypes.INSTANCE).dirtyTrackedFields())
+            .hasValueSatisfying(fields -> assertThat(fields).containsOnly("company"));
+    }
+
+    @Test
+    public void shouldNotTrackClassesWithMutableProperties() throws Exception {
+
+        Class<?> teamClass = classLoader.loadClass("org.example.domain.Team");
+
+        assertThat(DirtyTrackingEntity.class).isAssignableFrom(teamClass);
+        assertThat(new ClassInfo(teamClass, TypeSystem.NoNativeTypes.INSTANCE).dirtyTrackedFields()).isEmpty();
+    }
+
+    @Test
+    public void shouldDetectDatesChangedInPlace() throws Exception {
+
+        MetaData metaData = metaData("org.example.domain.Concert");
+        Class<?> concertClass = classLoader.loadClass("org.example.domain.Concert");
+        assertThat(metaData.classInfo(concertClass.getName()).dirtyTrackedFields()).isEmpty();
+
+        Object concert = concertClass.getConstructor().newInstance();
+        Field id = concertClass.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(concert, 1L);
+        MappingContext mappingContext = new MappingContext(metaData);
+        mappingContext.addNodeEntity(concert, 1L);
+        assertThat(mappingContext.isDirty(concert)).isFalse();
+
+        // Changing the date isn't a write to the field, the entity is hashed instead
+        ((Date) concertClass.getMethod("getDate").invoke(concert)).setTime(42L);
+        assertThat(((DirtyTrackingEntity) concert).$ogm_dirtyFields()).isEmpty();
+        assertThat(mappingContext.isDirty(concert)).isTrue();
+    }
+
+    @Test
+    public void shouldNotTrackClassesWithCustomConverters() throws Exception {
+
+        MetaData metaData = metaData("org.example.domain.Ticket");
+
+        assertThat(DirtyTrackingEntity.class).isAssignableFrom(classLoader.loadClass("org.example.domain.Ticket"));
+        assertThat(metaData.classInfo("org.example.domain.Ticket").dirtyTrackedFields()).isEmpty();
+    }
+
+    @Test
+    public void shouldNotEnhanceClassesWithNonPrivateFields() throws Exception {
+
+        assertThat(enhancer.enhance(readClassFile("org/example/domain/Pet"))).isNull();
+        Class<?> petClass = classLoader.loadClass("org.example.domain.Pet");
+        assertThat(DirtyTrackingEntity.class).isNotAssignableFrom(petClass);
+    }
+
+    /**
+     * Builds the meta data of the given enhanced classes, listing them in a domain index so that they are loaded
+     * through the enhancing class loader instead of being scanned.
+     */
+    private MetaData metaData(String... classNames) throws IOException {
+
+        Path index = classes.resolve("META-INF/neo4j-ogm/domain.index");
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList(classNames), StandardCharsets.UTF_8);
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(classLoader);
+        try {
+            return new MetaData(classNames);
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private byte[] readClassFile(String className) {
+        Path classFile = classes.resolve(className + ".class");
+        try {
+            return Files.isRegularFile(classFile) ? Files.readAllBytes(classFile) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -68,6 +68,7 @@ public class HttpTransaction extends AbstractTransaction {
     @Override
     public void commit() {
 
+        beforeCommit();
         try {
             if (transactionManager.canCommit()) {
                 HttpPost request = new HttpPost(url + "/commit");
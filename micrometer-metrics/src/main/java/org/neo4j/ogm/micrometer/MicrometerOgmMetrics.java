@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.micrometer;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the metrics of Neo4j-OGM's sessions in a Micrometer {@link MeterRegistry}:
+ * <ul>
+ * <li>{@value #OPERATIONS}: Timer of the operations of a session, tagged with the {@code operation}</li>
+ * <li>{@value #PHASES}: Timer of the phases of the operations, tagged with the {@code phase}</li>
+ * <li>{@value #STATEMENTS_PER_SAVE}: Number of statements sent by a save</li>
+ * <li>{@value #ROWS_MAPPED}: Number of rows read from a response</li>
+ * <li>{@value #MAPPING_CONTEXT_SIZE}: Number of entities in the mapping context after an operation</li>
+ * </ul>
+ * Register an instance with {@link org.neo4j.ogm.session.SessionFactory#setMetrics(OgmMetrics)}.
+ */
+public final class MicrometerOgmMetrics implements OgmMetrics {
+
+    public static final String OPERATIONS = "neo4j.ogm.operations";
+    public static final String PHASES = "neo4j.ogm.phases";
+    public static final String STATEMENTS_PER_SAVE = "neo4j.ogm.save.statements";
+    public static final String ROWS_MAPPED = "neo4j.ogm.rows.mapped";
+    public static final String MAPPING_CONTEXT_SIZE = "neo4j.ogm.mapping.context.size";
+
+    // The meters are registered upfront, so that recording doesn't need to look them up in the registry
+    private final Map<Operation, Timer> operations = new EnumMap<>(Operation.class);
+    private final Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+    private final DistributionSummary statementsPerSave;
+    private final DistributionSummary rowsMapped;
+    private final DistributionSummary mappingContextSize;
+
+    public MicrometerOgmMetrics(MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * @param registry The registry to register the meters with
+     * @param tags     Additional tags of all meters, for example to distinguish several session factories
+     */
+    public MicrometerOgmMetrics(MeterRegistry registry, Iterable<Tag> tags) {
+
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, Timer.builder(OPERATIONS)
+                .description("Operations of Neo4j-OGM sessions")
+                .tags(tags)
+                .tag("operation", operation.name().toLowerCase(Locale.ENGLISH))
+                .register(registry));
+        }
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, Timer.builder(PHASES)
+                .description("Phases of the operations of Neo4j-OGM sessions")
+                .tags(tags)
+                .tag("phase", phase.name().toLowerCase(Locale.ENGLISH))
+                .register(registry));
+        }
+        this.statementsPerSave = DistributionSummary.builder(STATEMENTS_PER_SAVE)
+            .description("Statements sent to the database by a save")
+            .baseUnit("statements")
+            .tags(tags)
+            .register(registry);
+        this.rowsMapped = DistributionSummary.builder(ROWS_MAPPED)
+            .description("Rows read from a response")
+            .baseUnit("rows")
+            .tags(tags)
+            .register(registry);
+        this.mappingContextSize = DistributionSummary.builder(MAPPING_CONTEXT_SIZE)
+            .description("Entities in the mapping context of a session after an operation")
+            .baseUnit("entities")
+            .tags(tags)
+            .register(registry);
+    }
+
+    @Override
+    public void recordOperation(Operation operation, long durationNanos) {
+        operations.get(operation).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPhase(Phase phase, long durationNanos) {
+        phases.get(phase).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordStatementsPerSave(int numberOfStatements) {
+        statementsPerSave.record(numberOfStatements);
+    }
+
+    @Override
+    public void recordRowsMapped(long numberOfRows) {
+        rowsMapped.record(numberOfRows);
+    }
+
+    @Override
+    public void recordMappingContextSize(int numberOfEntities) {
+        mappingContextSize.record(numberOfEntities);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.micrometer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MicrometerOgmMetricsTest {
+
+    @Test
+    public void shouldRecordIntoRegistry() {
+
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OgmMetrics metrics = new MicrometerOgmMetrics(registry, Tags.of("application", "test"));
+
+        metrics.recordOperation(OgmMetrics.Operation.LOAD, 2_000_000L);
+        metrics.recordPhase(OgmMetrics.Phase.HYDRATION, 1_000_000L);
+        metrics.recordStatementsPerSave(3);
+        metrics.recordRowsMapped(10L);
+        metrics.recordMappingContextSize(42);
+
+        Timer loads = registry.get(MicrometerOgmMetrics.OPERATIONS)
+            .tag("operation", "load")
+            .tag("application", "test")
+            .timer();
+        assertThat(loads.count()).isEqualTo(1L);
+        assertThat(loads.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2.0);
+        assertThat(registry.get(MicrometerOgmMetrics.OPERATIONS).tag("operation", "save").timer().count())
+            .isEqualTo(0L);
+
+        Timer hydration = registry.get(MicrometerOgmMetrics.PHASES).tag("phase", "hydration").timer();
+        assertThat(hydration.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1.0);
+
+        assertThat(registry.get(MicrometerOgmMetrics.STATEMENTS_PER_SAVE).summary().totalAmount()).isEqualTo(3.0);
+        assertThat(registry.get(MicrometerOgmMetrics.ROWS_MAPPED).summary().totalAmount()).isEqualTo(10.0);
+        assertThat(registry.get(MicrometerOgmMetrics.MAPPING_CONTEXT_SIZE).summary().max()).isEqualTo(42.0);
+    }
+}
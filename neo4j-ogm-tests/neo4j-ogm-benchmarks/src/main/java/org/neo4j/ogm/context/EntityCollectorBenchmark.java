@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.annotation.Relationship.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of grouping one-to-many relationships through the {@link EntityCollector}. Run with {@code -prof gc}
+ * to see the allocation rate per collected edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCollectorBenchmark {
+
+    private static final String[] TYPES = { "ACTS_IN", "DIRECTED", "RATED" };
+
+    @Param({ "1000", "100000" })
+    int sources;
+
+    @Param({ "10" })
+    int targetsPerSource;
+
+    private Object[] targets;
+
+    @Setup
+    public void createTargets() {
+        targets = new Object[targetsPerSource];
+        for (int i = 0; i < targetsPerSource; ++i) {
+            targets[i] = new Object();
+        }
+    }
+
+    @Benchmark
+    public void collectSimpleRelationships(Blackhole blackhole) {
+
+        EntityCollector collector = new EntityCollector();
+        long targetId = 0;
+        for (long sourceId = 0; sourceId < sources; ++sourceId) {
+            for (int i = 0; i < targetsPerSource; ++i) {
+                collector.collectRelationship(sourceId, Object.class, TYPES[i % TYPES.length], Direction.OUTGOING,
+                    targetId++, targets[i]);
+            }
+        }
+        collector.forCollectedEntities(
+            (sourceId, type, direction, targetType, entities) -> blackhole.consume(entities));
+    }
+
+    @Benchmark
+    public void collectRelationshipEntities(Blackhole blackhole) {
+
+        EntityCollector collector = new EntityCollector();
+        long relationshipId = 0;
+        for (long sourceId = 0; sourceId < sources; ++sourceId) {
+            for (int i = 0; i < targetsPerSource; ++i) {
+                // Collect each edge twice, as happens for relationship entities visible from both ends
+                collector.collectRelationship(sourceId, Object.class, "RATED", Direction.OUTGOING,
+                    relationshipId, sources + i, targets[i]);
+                collector.collectRelationship(sourceId, Object.class, "RATED", Direction.OUTGOING,
+                    relationshipId++, sources + i, targets[i]);
+            }
+        }
+        collector.forCollectedEntities(
+            (sourceId, type, direction, targetType, entities) -> blackhole.consume(entities));
+    }
+}
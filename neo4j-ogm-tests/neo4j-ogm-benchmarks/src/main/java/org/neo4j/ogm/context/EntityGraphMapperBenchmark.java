@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.social.Person;
+import org.neo4j.ogm.cypher.compiler.CompileContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping a small, modified subgraph for saving while the session holds an increasing number of unrelated
+ * relationships. The latency should not depend on the size of the session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class EntityGraphMapperBenchmark {
+
+    private static final int FRIENDS_OF_ROOT = 10;
+
+    @Param({ "1000", "100000", "1000000" })
+    int relationshipsInSession;
+
+    private MetaData metaData;
+
+    private MappingContext mappingContext;
+
+    private Person root;
+
+    @Setup
+    public void populateSession() {
+
+        metaData = new MetaData("org.neo4j.ogm.benchmarks.social");
+        mappingContext = new MappingContext(metaData);
+
+        long id = 0;
+        root = new Person(id++, "root");
+        mappingContext.addNodeEntity(root);
+        for (int i = 0; i < FRIENDS_OF_ROOT; ++i) {
+            Person friend = new Person(id++, "friend " + i);
+            mappingContext.addNodeEntity(friend);
+            root.getFriends().add(friend);
+            mappingContext.addRelationship(knows(root, friend));
+        }
+
+        // Pairs of people not reachable from root
+        for (int i = 0; i < relationshipsInSession; ++i) {
+            Person person = new Person(id++, "person " + i);
+            Person other = new Person(id++, "other " + i);
+            person.getFriends().add(other);
+            mappingContext.addNodeEntity(person);
+            mappingContext.addNodeEntity(other);
+            mappingContext.addRelationship(knows(person, other));
+        }
+
+        root.setName("root, modified");
+    }
+
+    @Benchmark
+    public CompileContext mapModifiedSubgraph() {
+        return new EntityGraphMapper(metaData, mappingContext).map(root, 1);
+    }
+
+    private static MappedRelationship knows(Person person, Person friend) {
+        return new MappedRelationship(person.getId(), "KNOWS", friend.getId(), null, Person.class, Person.class);
+    }
+}
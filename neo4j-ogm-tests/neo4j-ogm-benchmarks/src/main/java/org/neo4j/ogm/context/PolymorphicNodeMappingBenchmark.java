@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.zoo.Animal;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.reflect.ReflectionEntityInstantiator;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the mapping of polymorphic query results with five or more labels per node, each mapping done with a fresh
+ * mapping context like a query in a new session. The classes resolved from the labels are cached by the {@link MetaData}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolymorphicNodeMappingBenchmark {
+
+    private static final String[][] LABEL_SETS = {
+        { "Animal", "Mammal", "Carnivore", "Feline", "Lion" },
+        { "Animal", "Mammal", "Carnivore", "Feline", "Tiger", "Endangered" },
+        { "Animal", "Mammal", "Carnivore", "Feline", "Endangered" },
+        { "Animal", "Bird", "Raptor", "Eagle", "Endangered" },
+        { "Animal", "Bird", "Raptor", "Falcon", "Migratory" },
+        { "Animal", "Bird", "Raptor", "Migratory", "Endangered" }
+    };
+
+    @Param({ "100", "10000" })
+    int nodes;
+
+    private MetaData metaData;
+
+    private List<GraphModel> graphModels;
+
+    @Setup
+    public void prepareResult() {
+
+        metaData = new MetaData("org.neo4j.ogm.benchmarks.zoo");
+
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        for (int i = 0; i < nodes; ++i) {
+            NodeModel node = new NodeModel((long) i);
+            // The drivers return fresh arrays for every node
+            node.setLabels(LABEL_SETS[i % LABEL_SETS.length].clone());
+            node.addProperty("name", "animal " + i);
+            graphModel.addNode(node);
+        }
+        graphModels = Collections.singletonList(graphModel);
+    }
+
+    @Benchmark
+    public List<Animal> mapNodes() {
+
+        MappingContext mappingContext = new MappingContext(metaData);
+        return new GraphEntityMapper(metaData, mappingContext, new ReflectionEntityInstantiator(metaData))
+            .map(Animal.class, graphModels);
+    }
+
+    @Benchmark
+    public void resolveLabels(Blackhole blackhole) {
+
+        for (GraphModel graphModel : graphModels) {
+            graphModel.getNodes().forEach(node -> {
+                ClassInfo classInfo = metaData.resolve(node.getLabels());
+                blackhole.consume(classInfo);
+            });
+        }
+    }
+}
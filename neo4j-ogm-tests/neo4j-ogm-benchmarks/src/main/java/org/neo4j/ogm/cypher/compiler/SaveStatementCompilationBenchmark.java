@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.cypher.compiler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.benchmarks.social.Person;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the compile time per save of a subgraph with modified, new and deleted nodes and relationships, with and
+ * without caching the Cypher text of the statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xmx4g" })
+public class SaveStatementCompilationBenchmark {
+
+    private static final int EXISTING_FRIENDS = 10;
+
+    private static final int NEW_FRIENDS = 10;
+
+    @Param({ "true", "false" })
+    boolean cacheTemplates;
+
+    private MetaData metaData;
+
+    private MappingContext mappingContext;
+
+    private StatementTemplateCache templates;
+
+    private Person root;
+
+    @Setup
+    public void prepareSubgraph() {
+
+        metaData = new MetaData("org.neo4j.ogm.benchmarks.social");
+        mappingContext = new MappingContext(metaData);
+        templates = cacheTemplates ? new StatementTemplateCache() : StatementTemplateCache.NO_CACHE;
+
+        long id = 0;
+        root = new Person(id++, "root");
+        mappingContext.addNodeEntity(root);
+        for (int i = 0; i < EXISTING_FRIENDS; ++i) {
+            Person friend = new Person(id++, "friend " + i);
+            mappingContext.addNodeEntity(friend);
+            mappingContext.addRelationship(
+                new MappedRelationship(root.getId(), "KNOWS", friend.getId(), null, Person.class, Person.class));
+            // Every other friendship is removed
+            if (i % 2 == 0) {
+                root.getFriends().add(friend);
+                friend.setName(friend.getName() + ", modified");
+            }
+        }
+        for (int i = 0; i < NEW_FRIENDS; ++i) {
+            root.getFriends().add(new Person(null, "new friend " + i));
+        }
+
+        root.setName("root, modified");
+    }
+
+    @Benchmark
+    public List<Statement> compileSave() {
+
+        Compiler compiler = new EntityGraphMapper(metaData, mappingContext).map(root, 1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        compiler.useStatementTemplateCache(templates);
+        return compiler.getAllStatements();
+    }
+}
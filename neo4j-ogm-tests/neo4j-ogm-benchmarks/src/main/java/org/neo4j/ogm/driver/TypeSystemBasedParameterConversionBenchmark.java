@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.driver;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the conversion of the {@code $rows} parameter of a typical node creation statement, once with purely native
+ * properties and once with a temporal property per row that has to be adapted by the type system.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TypeSystemBasedParameterConversionBenchmark {
+
+    private static final TypeSystem TYPE_SYSTEM = new TypeSystem() {
+        @Override
+        public boolean supportsAsNativeType(Class<?> clazz) {
+            return TypeSystem.super.supportsAsNativeType(clazz) || LocalDate.class == clazz;
+        }
+
+        @Override
+        public Function<Object, Object> getMappedToNativeTypeAdapter(Class<?> clazz) {
+            return LocalDate.class == clazz ? Object::toString : Function.identity();
+        }
+    };
+
+    @Param({ "10", "1000" })
+    int rows;
+
+    @Param({ "false", "true" })
+    boolean withTemporalProperty;
+
+    private ParameterConversion parameterConversion;
+
+    private Map<String, Object> parameters;
+
+    @Setup
+    public void createRows() {
+
+        parameterConversion = new TypeSystemBasedParameterConversion(TYPE_SYSTEM);
+
+        List<Map<String, Object>> rowList = new ArrayList<>(rows);
+        for (int i = 0; i < rows; ++i) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("name", "Person " + i);
+            props.put("age", (long) i);
+            props.put("score", i / 3.0);
+            props.put("active", i % 2 == 0);
+            props.put("nickname", null);
+            if (withTemporalProperty) {
+                props.put("born", LocalDate.of(1970, 1, 1).plusDays(i));
+            }
+
+            Map<String, Object> row = new HashMap<>();
+            row.put("nodeRef", (long) -i);
+            row.put("props", props);
+            rowList.add(row);
+        }
+        parameters = Collections.singletonMap("rows", rowList);
+    }
+
+    @Benchmark
+    public Map<String, Object> convertRows() {
+        return parameterConversion.convertParameters(parameters);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.neo4j.ogm.indexer.DomainIndexProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of the {@link DomainInfo} for a generated domain of related node entities, either by reading
+ * the domain index written by the {@link DomainIndexProcessor} or by scanning the class path. Every iteration uses a
+ * fresh class loader, so that loading the classes is part of the measurement as it is on a real startup.
+ * Requires a JDK to compile the domain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class DomainInfoStartupBenchmark {
+
+    private static final String DOMAIN_PACKAGE = "org.neo4j.ogm.benchmarks.domain";
+
+    @Param({ "500" })
+    int entities;
+
+    @Param({ "true", "false" })
+    boolean useIndex;
+
+    private Path domainClasses;
+
+    private URLClassLoader domainClassLoader;
+
+    @Setup(Level.Trial)
+    public void compileDomain() throws IOException {
+
+        Path sources = Files.createTempDirectory("ogm-domain-sources");
+        domainClasses = Files.createTempDirectory("ogm-domain-classes");
+
+        Path packageDirectory = Files.createDirectories(sources.resolve(DOMAIN_PACKAGE.replace('.', '/')));
+        List<File> sourceFiles = new ArrayList<>(entities);
+        for (int i = 0; i < entities; ++i) {
+            Path sourceFile = packageDirectory.resolve("Entity" + i + ".java");
+            Files.write(sourceFile, entitySource(i).getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(domainClasses.toFile()));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, null, null,
+                fileManager.getJavaFileObjects(sourceFiles.toArray(new File[0])));
+            task.setProcessors(Collections.singletonList(new DomainIndexProcessor()));
+            if (!task.call()) {
+                throw new IllegalStateException("Could not compile the benchmark domain");
+            }
+        }
+        deleteRecursively(sources);
+
+        if (!useIndex) {
+            Files.delete(domainClasses.resolve(DomainIndex.INDEX_LOCATION));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createClassLoader() throws IOException {
+        domainClassLoader = new URLClassLoader(new URL[] { domainClasses.toUri().toURL() },
+            DomainInfoStartupBenchmark.class.getClassLoader());
+    }
+
+    @Benchmark
+    public DomainInfo createDomainInfo() {
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(domainClassLoader);
+        try {
+            return DomainInfo.create(DOMAIN_PACKAGE);
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeClassLoader() throws IOException {
+        domainClassLoader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDomain() throws IOException {
+        deleteRecursively(domainClasses);
+    }
+
+    private String entitySource(int i) {
+
+        int next = (i + 1) % entities;
+        return "package " + DOMAIN_PACKAGE + ";\n"
+            + "import java.util.List;\n"
+            + "import org.neo4j.ogm.annotation.*;\n"
+            + "@NodeEntity(\"Label" + i + "\")\n"
+            + "public class Entity" + i + " {\n"
+            + "    @Id @GeneratedValue private Long id;\n"
+            + "    private String name;\n"
+            + "    @Property(\"created_at\") private long createdAt;\n"
+            + "    @Relationship(type = \"NEXT\") private Entity" + next + " next;\n"
+            + "    @Relationship(type = \"RELATED\", direction = Relationship.Direction.INCOMING)"
+            + " private List<Entity" + next + "> related;\n"
+            + "}\n";
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
@@ -25,9 +25,12 @@ import java.net.URL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 import org.neo4j.ogm.config.Configuration;
@@ -67,6 +70,82 @@ public class CypherModificationSPITest {
         }
     }
 
+    @Test
+    public void deterministicCypherModificationsShouldBeMemoized() {
+
+        Thread currentThread = Thread.currentThread();
+
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader,
+            "spi/cypher_modification1"));
+
+        AbstractConfigurableDriver driver = new TestDriver();
+        driver.configure(new Configuration.Builder()
+            .withCustomProperty("config1", 6)
+            .withCustomProperty("config2", 9)
+            .build());
+
+        try {
+            Function<String, String> cypherModification = driver.getCypherModification();
+            assertThat(cypherModification.apply("RETURN theAnswer")).isEqualTo("RETURN 42");
+            assertThat(cypherModification.apply("RETURN theAnswer")).isEqualTo("RETURN 42");
+            assertThat(cypherModification.apply("RETURN theAnswer + 1")).isEqualTo("RETURN 42 + 1");
+
+            assertThat(driver.getCypherModificationCacheHits()).isEqualTo(1L);
+            assertThat(driver.getCypherModificationCacheMisses()).isEqualTo(2L);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    @Test
+    public void nonDeterministicCypherModificationsShouldNotBeMemoized() {
+
+        Thread currentThread = Thread.currentThread();
+
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader,
+            "spi/cypher_modification3"));
+
+        AbstractConfigurableDriver driver = new TestDriver();
+        driver.configure(new Configuration.Builder().build());
+
+        try {
+            Function<String, String> cypherModification = driver.getCypherModification();
+            assertThat(cypherModification.apply("RETURN 1")).isEqualTo("RETURN 1 // 1");
+            assertThat(cypherModification.apply("RETURN 1")).isEqualTo("RETURN 1 // 2");
+
+            assertThat(driver.getCypherModificationCacheHits()).isEqualTo(0L);
+            assertThat(driver.getCypherModificationCacheMisses()).isEqualTo(0L);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    @Test
+    public void cypherModificationsShouldNotBeMemoizedByDefault() {
+
+        Thread currentThread = Thread.currentThread();
+
+        ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(new TestServiceLoaderClassLoader(originalClassLoader,
+            "spi/cypher_modification2"));
+
+        AbstractConfigurableDriver driver = new TestDriver();
+        driver.configure(new Configuration.Builder().build());
+
+        try {
+            Function<String, String> cypherModification = driver.getCypherModification();
+            assertThat(cypherModification.apply("RETURN 1")).isEqualTo("theAnswer");
+            assertThat(cypherModification.apply("RETURN 1")).isEqualTo("theAnswer");
+
+            assertThat(driver.getCypherModificationCacheHits()).isEqualTo(0L);
+            assertThat(driver.getCypherModificationCacheMisses()).isEqualTo(0L);
+        } finally {
+            currentThread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
     @Test
     public void driverShouldProvideNoopModificationWithoutAnyProvider() {
 
@@ -103,6 +182,11 @@ public class CypherModificationSPITest {
             Integer value2 = (Integer) configuration.get("config2");
             return modifiedCypher -> modifiedCypher.replaceAll("theAnswer", Integer.toString(value1 * value2, 13));
         }
+
+        @Override
+        public boolean isDeterministic() {
+            return true;
+        }
     }
 
     public static class CypherModificationProvider2 implements CypherModificationProvider {
@@ -118,6 +202,20 @@ public class CypherModificationSPITest {
         }
     }
 
+    public static class CypherModificationProvider3 implements CypherModificationProvider {
+
+        @Override
+        public Function<String, String> getCypherModification(Map<String, Object> configuration) {
+            AtomicInteger invocations = new AtomicInteger();
+            return originalCypher -> originalCypher + " // " + invocations.incrementAndGet();
+        }
+
+        @Override
+        public boolean isDeterministic() {
+            return false;
+        }
+    }
+
     private static class TestDriver extends AbstractConfigurableDriver {
 
         @Override
@@ -141,17 +239,25 @@ public class CypherModificationSPITest {
     }
 
     private static class TestServiceLoaderClassLoader extends ClassLoader {
+
+        private final List<String> providerResources;
+
         TestServiceLoaderClassLoader(ClassLoader originalClassLoader) {
+            this(originalClassLoader, "spi/cypher_modification1", "spi/cypher_modification2");
+        }
+
+        TestServiceLoaderClassLoader(ClassLoader originalClassLoader, String... providerResources) {
             super(originalClassLoader);
+            this.providerResources = Arrays.asList(providerResources);
         }
 
         @Override
         public Enumeration<URL> getResources(String name) throws IOException {
             // Don't think too long about that approach to push stuff into Javas SPI.
             if ("META-INF/services/org.neo4j.ogm.spi.CypherModificationProvider".equals(name)) {
-                return Collections.enumeration(Arrays.asList(
-                    super.getResource("spi/cypher_modification1"),
-                    super.getResource("spi/cypher_modification2")));
+                return Collections.enumeration(providerResources.stream()
+                    .map(super::getResource)
+                    .collect(Collectors.toList()));
             } else {
                 return super.getResources(name);
             }
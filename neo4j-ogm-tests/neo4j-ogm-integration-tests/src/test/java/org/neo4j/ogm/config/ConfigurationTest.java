@@ -46,6 +46,7 @@ public class ConfigurationTest {
         builder.trustStrategy("TRUST_SIGNED_CERTIFICATES");
         builder.trustCertFile("/tmp/cert");
         builder.connectionLivenessCheckTimeout(1000);
+        builder.fetchSize(500);
 
         Configuration configuration = builder.build();
 
@@ -60,6 +61,24 @@ public class ConfigurationTest {
         assertThat(configuration.getTrustStrategy()).isEqualTo("TRUST_SIGNED_CERTIFICATES");
         assertThat(configuration.getTrustCertFile()).isEqualTo("/tmp/cert");
         assertThat(configuration.getConnectionLivenessCheckTimeout().intValue()).isEqualTo(1000);
+        assertThat(configuration.getFetchSize().intValue()).isEqualTo(500);
+    }
+
+    @Test
+    public void shouldConfigureDiagnosticsThresholds() {
+        Properties properties = new Properties();
+        properties.setProperty("diagnostics.slow.statement.threshold", "250");
+        properties.setProperty("diagnostics.large.result.threshold", "10000");
+        properties.setProperty("diagnostics.large.parameters.threshold", "5000");
+        properties.setProperty("diagnostics.statements.per.save.threshold", "20");
+
+        Configuration configuration = new Configuration.Builder(() -> properties).build();
+
+        assertThat(configuration.getSlowStatementThreshold()).isEqualTo(250);
+        assertThat(configuration.getLargeResultThreshold()).isEqualTo(10000);
+        assertThat(configuration.getLargeParametersThreshold()).isEqualTo(5000);
+        assertThat(configuration.getStatementsPerSaveThreshold()).isEqualTo(20);
+        assertThat(new Configuration.Builder().build().getSlowStatementThreshold()).isNull();
     }
 
     @Test
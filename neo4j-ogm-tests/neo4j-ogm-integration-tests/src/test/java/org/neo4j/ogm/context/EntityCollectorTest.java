@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.ogm.annotation.Relationship.Direction;
+
+public class EntityCollectorTest {
+
+    @Test
+    public void shouldGroupBySourceTypeDirectionAndTargetType() {
+
+        EntityCollector collector = new EntityCollector();
+        collector.collectRelationship(1L, String.class, "KNOWS", Direction.OUTGOING, 2L, "a");
+        collector.collectRelationship(1L, String.class, "KNOWS", Direction.INCOMING, 3L, "b");
+        collector.collectRelationship(1L, Integer.class, "KNOWS", Direction.OUTGOING, 4L, 4);
+        collector.collectRelationship(1L, String.class, "LIKES", Direction.OUTGOING, 5L, "c");
+        collector.collectRelationship(2L, String.class, "KNOWS", Direction.OUTGOING, 6L, "d");
+        collector.collectRelationship(2L, String.class, "KNOWS", Direction.OUTGOING, 7L, "e");
+
+        Map<String, Collection<Object>> collected = collect(collector);
+        assertThat(collected).hasSize(5);
+        assertThat(collected.get("1-KNOWS-OUTGOING-String")).containsExactly("a");
+        assertThat(collected.get("1-KNOWS-INCOMING-String")).containsExactly("b");
+        assertThat(collected.get("1-KNOWS-OUTGOING-Integer")).containsExactly(4);
+        assertThat(collected.get("1-LIKES-OUTGOING-String")).containsExactly("c");
+        assertThat(collected.get("2-KNOWS-OUTGOING-String")).containsExactly("d", "e");
+    }
+
+    @Test
+    public void shouldIgnoreDuplicateTargetsOfSimpleRelationships() {
+
+        EntityCollector collector = new EntityCollector();
+        for (int i = 0; i < 3; ++i) {
+            for (long targetId = 0; targetId < 100; ++targetId) {
+                collector.collectRelationship(1L, Long.class, "KNOWS", Direction.OUTGOING, targetId, targetId);
+            }
+        }
+
+        assertThat(collect(collector).get("1-KNOWS-OUTGOING-Long")).hasSize(100);
+    }
+
+    @Test
+    public void shouldDistinguishRelationshipEntitiesToTheSameTarget() {
+
+        EntityCollector collector = new EntityCollector();
+        for (int i = 0; i < 2; ++i) {
+            for (long relationshipId = 0; relationshipId < 100; ++relationshipId) {
+                collector.collectRelationship(1L, Long.class, "RATED", Direction.OUTGOING, relationshipId, 42L,
+                    relationshipId);
+            }
+        }
+
+        assertThat(collect(collector).get("1-RATED-OUTGOING-Long")).hasSize(100);
+    }
+
+    @Test
+    public void shouldHandleManySources() {
+
+        EntityCollector collector = new EntityCollector();
+        for (long sourceId = -5000; sourceId < 5000; ++sourceId) {
+            collector.collectRelationship(sourceId, Long.class, "KNOWS", Direction.OUTGOING, sourceId + 1,
+                sourceId + 1);
+        }
+
+        List<Long> sources = new ArrayList<>();
+        collector.forCollectedEntities((sourceId, type, direction, targetType, entities) -> {
+            assertThat(entities).containsExactly(sourceId + 1);
+            sources.add(sourceId);
+        });
+        assertThat(sources).hasSize(10_000).doesNotHaveDuplicates();
+    }
+
+    private static Map<String, Collection<Object>> collect(EntityCollector collector) {
+
+        Map<String, Collection<Object>> collected = new HashMap<>();
+        collector.forCollectedEntities((sourceId, type, direction, targetType, entities) ->
+            collected.put(sourceId + "-" + type + "-" + direction + "-" + targetType.getSimpleName(), entities));
+        return collected;
+    }
+}
@@ -107,6 +107,26 @@ public class MappingContextTest {
             new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), null, Person.class, Policy.class))).isFalse();
     }
 
+    @Test
+    public void relationshipsAreIndexedByBothEnds() {
+
+        MappedRelationship influences = new MappedRelationship(1L, "INFLUENCES", 2L, null, Person.class, Policy.class);
+        MappedRelationship writes = new MappedRelationship(1L, "WRITES", 3L, null, Person.class, Policy.class);
+        mappingContext.addRelationship(influences);
+        mappingContext.addRelationship(writes);
+
+        assertThat(mappingContext.getRelationshipsOf(1L)).containsExactlyInAnyOrder(influences, writes);
+        assertThat(mappingContext.getRelationshipsOf(2L)).containsExactly(influences);
+        assertThat(mappingContext.getRelationshipsOf(4L)).isEmpty();
+
+        assertThat(mappingContext.removeRelationship(influences)).isTrue();
+        assertThat(mappingContext.removeRelationship(influences)).isFalse();
+
+        assertThat(mappingContext.getRelationshipsOf(1L)).containsExactly(writes);
+        assertThat(mappingContext.getRelationshipsOf(2L)).isEmpty();
+        assertThat(mappingContext.getRelationships()).containsExactly(writes);
+    }
+
     @Test // #96
     public void clearOneEqualToAnother() {
 
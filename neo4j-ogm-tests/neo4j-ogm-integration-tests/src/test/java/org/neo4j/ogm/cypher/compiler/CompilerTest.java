@@ -134,6 +134,98 @@ public class CompilerTest {
         );
     }
 
+    @Test
+    public void createSingleStatementForDifferentLabelsWhenCombiningNewNodeStatements() {
+        Franchise franchise = new Franchise();
+
+        Restaurant r1 = new Restaurant();
+        r1.setName("La Strada Tooting");
+        r1.labels = Arrays.asList("Delicious", "Foreign");
+
+        franchise.addBranch(new Branch(new Location(0.0, 0.0), franchise, r1));
+
+        Compiler compiler = mapAndCompile(franchise, -1);
+        compiler.combineNewNodeStatements(true);
+
+        List<Statement> statements = compiler.createNodesStatements();
+        assertThat(statements).extracting(Statement::getStatement).containsOnly(
+            "UNWIND $rows as row CREATE (n) "
+                + "FOREACH (ignored IN CASE WHEN row.labelSet = 0 THEN [1] ELSE [] END | SET n:`Delicious`:`Foreign`:`Restaurant`) "
+                + "FOREACH (ignored IN CASE WHEN row.labelSet = 1 THEN [1] ELSE [] END | SET n:`Franchise`) "
+                + "SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type"
+        );
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) statements.get(0).getParameters().get("rows");
+        assertThat(rows).extracting(row -> row.get("labelSet")).containsExactlyInAnyOrder(0, 1);
+    }
+
+    @Test
+    public void createNodesAndRelationshipsInOneStatementWhenCombiningNewRelationshipStatements() {
+        Franchise franchise = new Franchise();
+
+        Restaurant r1 = new Restaurant();
+        r1.setName("La Strada Tooting");
+        r1.labels = Arrays.asList("Delicious", "Foreign");
+
+        franchise.addBranch(new Branch(new Location(0.0, 0.0), franchise, r1));
+
+        Compiler compiler = mapAndCompile(franchise, -1);
+        assertThat(compiler.hasStatementsDependentOnNewNodes()).isTrue();
+        assertThat(compiler.createNodesAndRelationshipsStatement()).isEmpty();
+
+        compiler.combineNewRelationshipStatements(true);
+        Statement statement = compiler.createNodesAndRelationshipsStatement().get();
+        assertThat(statement.getStatement()).isEqualTo(
+            "UNWIND $nodeRows as row CREATE (n) "
+                + "FOREACH (ignored IN CASE WHEN row.labelSet = 0 THEN [1] ELSE [] END | SET n:`Delicious`:`Foreign`:`Restaurant`) "
+                + "FOREACH (ignored IN CASE WHEN row.labelSet = 1 THEN [1] ELSE [] END | SET n:`Franchise`) "
+                + "SET n=row.props WITH collect({ref: row.nodeRef, node: n}) as nodes, "
+                + "collect({ref: row.nodeRef, id: ID(n), type: 'node'}) as results "
+                + "UNWIND $relRows0 as row "
+                + "WITH nodes, results, row, "
+                + "head([x IN nodes WHERE x.ref = row.startRef | x.node]) as startNode, "
+                + "head([x IN nodes WHERE x.ref = row.endRef | x.node]) as endNode "
+                + "CREATE (startNode)-[rel:`BRANCHES`]->(endNode) SET rel += row.props "
+                + "WITH head(collect(nodes)) as nodes, head(collect(results)) + collect({ref: row.relRef, id: ID(rel), type: 'rel'}) as results "
+                + "UNWIND results as result RETURN result.ref as ref, result.id as id, result.type as type"
+        );
+
+        List<Map<String, Object>> nodeRows = (List<Map<String, Object>>) statement.getParameters().get("nodeRows");
+        Object franchiseRef = nodeRows.stream().filter(row -> ((Integer) row.get("labelSet")) == 1)
+            .findFirst().get().get("nodeRef");
+        Object restaurantRef = nodeRows.stream().filter(row -> ((Integer) row.get("labelSet")) == 0)
+            .findFirst().get().get("nodeRef");
+
+        // Start and end node are referenced by their node refs, not by their position in any list
+        List<Map<String, Object>> relRows = (List<Map<String, Object>>) statement.getParameters().get("relRows0");
+        assertThat(relRows).hasSize(1);
+        assertThat(relRows.get(0).get("startRef")).isEqualTo(franchiseRef);
+        assertThat(relRows.get(0).get("endRef")).isEqualTo(restaurantRef);
+    }
+
+    @Test
+    public void reuseCachedTemplatesForStatementsOfTheSameShape() {
+        StatementTemplateCache templates = new StatementTemplateCache();
+
+        Compiler compiler = mapAndCompile(new Student("Gary"), -1);
+        compiler.useStatementTemplateCache(templates);
+        Statement first = compiler.createNodesStatements().get(0);
+
+        compiler = mapAndCompile(new Student("Sheila"), -1);
+        compiler.useStatementTemplateCache(templates);
+        Statement second = compiler.createNodesStatements().get(0);
+
+        assertThat(second.getStatement()).isSameAs(first.getStatement());
+        assertThat(second.getParameters()).isNotEqualTo(first.getParameters());
+        assertThat(templates.size()).isEqualTo(1);
+
+        compiler = mapAndCompile(new Teacher("Miss Young"), -1);
+        compiler.useStatementTemplateCache(templates);
+        assertThat(compiler.createNodesStatements()).extracting(Statement::getStatement).containsOnly(
+            "UNWIND $rows as row CREATE (n:`Teacher`) SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, $type as type"
+        );
+        assertThat(templates.size()).isEqualTo(2);
+    }
+
     @Test
     public void updateSingleObjectPropertyAndLabel() {
 
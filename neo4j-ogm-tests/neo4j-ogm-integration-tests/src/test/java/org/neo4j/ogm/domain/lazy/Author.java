@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.domain.lazy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.ogm.annotation.GeneratedValue;
+import org.neo4j.ogm.annotation.Id;
+import org.neo4j.ogm.annotation.Relationship;
+
+public class Author {
+
+    @Id @GeneratedValue
+    private Long id;
+
+    private String name;
+
+    @Relationship(type = "WROTE", lazy = true)
+    private List<Book> books = new ArrayList<>();
+
+    @Relationship(type = "FOLLOWS", direction = Relationship.Direction.INCOMING, lazy = true)
+    private Set<Author> followers = new HashSet<>();
+
+    public Author() {
+    }
+
+    public Author(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Book> getBooks() {
+        return books;
+    }
+
+    public Set<Author> getFollowers() {
+        return followers;
+    }
+
+    @Override
+    public String toString() {
+        return "Author{" +
+            "name='" + name + '\'' +
+            ", books=" + books +
+            '}';
+    }
+}
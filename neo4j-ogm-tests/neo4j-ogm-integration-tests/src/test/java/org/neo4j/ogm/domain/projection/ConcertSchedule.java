@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.domain.projection;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+/**
+ * Class projection of a {@link Concert}. Its fields have converters of their own, which must not be applied to values
+ * already converted by the converters of the entity.
+ */
+public class ConcertSchedule {
+
+    private Genre genre;
+
+    private Date performedAt;
+
+    private Date announcedAt;
+
+    private LocalDate ticketSaleStartsOn;
+
+    public Genre getGenre() {
+        return genre;
+    }
+
+    public Date getPerformedAt() {
+        return performedAt;
+    }
+
+    public Date getAnnouncedAt() {
+        return announcedAt;
+    }
+
+    public LocalDate getTicketSaleStartsOn() {
+        return ticketSaleStartsOn;
+    }
+}
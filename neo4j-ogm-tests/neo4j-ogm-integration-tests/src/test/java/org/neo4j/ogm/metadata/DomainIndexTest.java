@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DomainIndexTest {
+
+    private static final String[] BIKE_DOMAIN = {
+        "org.neo4j.ogm.domain.bike.Bike",
+        "org.neo4j.ogm.domain.bike.Frame",
+        "org.neo4j.ogm.domain.bike.Saddle",
+        "org.neo4j.ogm.domain.bike.Wheel",
+        "org.neo4j.ogm.domain.bike.WheelWithUUID"
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private ClassLoader indexClassLoader;
+
+    private ClassLoader partialIndexClassLoader;
+
+    @Before
+    public void writeIndexes() throws IOException {
+
+        List<String> completeIndex = new ArrayList<>();
+        completeIndex.add("# The bike domain");
+        completeIndex.addAll(Arrays.asList(BIKE_DOMAIN));
+        indexClassLoader = classLoaderWithIndex(completeIndex);
+
+        partialIndexClassLoader = classLoaderWithIndex(Arrays.asList(
+            "# Only parts of the bike domain",
+            "org.neo4j.ogm.domain.bike.Bike",
+            "",
+            "org.neo4j.ogm.domain.bike.Wheel"
+        ));
+    }
+
+    private ClassLoader classLoaderWithIndex(List<String> lines) throws IOException {
+
+        File root = temporaryFolder.newFolder();
+        Path index = root.toPath().resolve(DomainIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, lines, StandardCharsets.UTF_8);
+
+        return new URLClassLoader(new URL[] { root.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    @Test
+    public void shouldFindClassesByPackageOrName() {
+
+        DomainIndex domainIndex = DomainIndex.load(partialIndexClassLoader);
+
+        assertThat(domainIndex.covers("org.neo4j.ogm.domain")).isTrue();
+        assertThat(domainIndex.covers("org.neo4j.ogm.domain.bike.Wheel")).isTrue();
+        assertThat(domainIndex.covers("org.neo4j.ogm.domain.bik")).isFalse();
+        assertThat(domainIndex.covers("")).isFalse();
+        assertThat(domainIndex.classesIn("org.neo4j.ogm.domain.bike"))
+            .containsExactly("org.neo4j.ogm.domain.bike.Bike", "org.neo4j.ogm.domain.bike.Wheel");
+        assertThat(domainIndex.classesIn("org.neo4j.ogm.domain.bike.Bike"))
+            .containsExactly("org.neo4j.ogm.domain.bike.Bike");
+    }
+
+    @Test
+    public void shouldCheckIndexAgainstClassFiles() {
+
+        DomainIndex partialIndex = DomainIndex.load(partialIndexClassLoader);
+        assertThat(partialIndex.isCompleteFor("org.neo4j.ogm.domain.bike", partialIndexClassLoader)).isFalse();
+        assertThat(partialIndex.isCompleteFor("org.neo4j.ogm.domain.bike.Bike", partialIndexClassLoader)).isTrue();
+
+        DomainIndex completeIndex = DomainIndex.load(indexClassLoader);
+        assertThat(completeIndex.isCompleteFor("org.neo4j.ogm.domain.bike", indexClassLoader)).isTrue();
+    }
+
+    @Test
+    public void shouldUseIndexInsteadOfScanning() {
+
+        DomainInfo domainInfo = withIndex(indexClassLoader, () -> DomainInfo.create("org.neo4j.ogm.domain.bike"));
+
+        assertThat(domainInfo.getClassInfoMap().keySet()).containsOnly(BIKE_DOMAIN);
+    }
+
+    @Test
+    public void shouldNotLoseClassesMissingInIndex() {
+
+        DomainInfo domainInfo = withIndex(partialIndexClassLoader,
+            () -> DomainInfo.create("org.neo4j.ogm.domain.bike"));
+
+        assertThat(domainInfo.getClassInfoMap().keySet()).containsOnly(BIKE_DOMAIN);
+    }
+
+    @Test
+    public void shouldScanPackagesNotCoveredByIndex() {
+
+        DomainInfo domainInfo = withIndex(indexClassLoader,
+            () -> DomainInfo.create("org.neo4j.ogm.domain.bike", "org.neo4j.ogm.domain.convertible.bytes"));
+
+        assertThat(domainInfo.getClassInfoMap().keySet())
+            .hasSize(BIKE_DOMAIN.length + 2)
+            .contains(BIKE_DOMAIN)
+            .contains("org.neo4j.ogm.domain.convertible.bytes.Photo",
+                "org.neo4j.ogm.domain.convertible.bytes.PhotoWrapper");
+    }
+
+    @Test
+    public void shouldIgnoreIndexWhenRequested() {
+
+        System.setProperty(DomainIndex.IGNORE_INDEX_PROPERTY, "true");
+        try {
+            DomainInfo domainInfo = withIndex(partialIndexClassLoader,
+                () -> DomainInfo.create("org.neo4j.ogm.domain.bike"));
+            assertThat(domainInfo.getClassInfoMap()).hasSize(5);
+        } finally {
+            System.clearProperty(DomainIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    private static <T> T withIndex(ClassLoader indexClassLoader, Supplier<T> action) {
+
+        Thread currentThread = Thread.currentThread();
+        ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+        currentThread.setContextClassLoader(indexClassLoader);
+        try {
+            return action.get();
+        } finally {
+            currentThread.setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -192,6 +192,26 @@ public class MetaDataTest {
             .isEqualTo("org.neo4j.ogm.domain.forum.SilverMembership");
     }
 
+    /**
+     * Resolved classes are cached per set of taxa, independent of the array handed in.
+     */
+    @Test
+    public void testResolvedTaxaAreCached() {
+        String[] taxa = { "Silver", "Pewter", "Tin" };
+        ClassInfo classInfo = metaData.resolve(taxa);
+        taxa[0] = "Bronze";
+        assertThat(metaData.resolve("Silver", "Pewter", "Tin")).isSameAs(classInfo);
+        assertThat(metaData.resolve(taxa).name()).isEqualTo("org.neo4j.ogm.domain.forum.BronzeMembership");
+
+        assertThat(metaData.resolve("Knight", "Baronet")).isNull();
+        assertThat(metaData.resolve("Knight", "Baronet")).isNull();
+
+        assertThatExceptionOfType(AmbiguousBaseClassException.class)
+            .isThrownBy(() -> metaData.resolve("Topic", "Member"));
+        assertThatExceptionOfType(AmbiguousBaseClassException.class)
+            .isThrownBy(() -> metaData.resolve("Topic", "Member"));
+    }
+
     @Test // GH-686 and others
     public void containsRootPackageShouldWork() {
         assertThat(MetaData.containsRootPackage(null)).isTrue();
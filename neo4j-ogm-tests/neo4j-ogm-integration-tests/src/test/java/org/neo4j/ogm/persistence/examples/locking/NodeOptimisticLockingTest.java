@@ -20,6 +20,7 @@ package org.neo4j.ogm.persistence.examples.locking;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
@@ -101,6 +102,42 @@ public class NodeOptimisticLockingTest extends TestContainersTestBase {
             .hasMessageContaining("id='" + frantisek.getId() + "' had incorrect version 0");
     }
 
+    @Test
+    public void shouldCheckVersionsOfAllStatementsSavedTogether() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        Location location = new Location("Prague");
+        session.save(Arrays.asList(frantisek, michael, location));
+
+        frantisek.setName("Frantisek Hartman");
+        michael.setName("Michael Simons");
+        location.setName("Praha");
+        session.save(Arrays.asList(frantisek, michael, location));
+
+        assertThat(frantisek.getVersion()).isEqualTo(1L);
+        assertThat(michael.getVersion()).isEqualTo(1L);
+        assertThat(location.getCustomVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldReportTheEntityWithWrongVersionWhenSavedTogetherWithOthers() {
+        User frantisek = new User("Frantisek");
+        User michael = new User("Michael");
+        Location location = new Location("Prague");
+        session.save(Arrays.asList(frantisek, michael, location));
+
+        User wrongVersion = new User("Frantisek Hartman");
+        wrongVersion.setId(frantisek.getId());
+        wrongVersion.setVersion(1L);
+        michael.setName("Michael Simons");
+        location.setName("Praha");
+
+        assertThatThrownBy(() -> session.save(Arrays.asList(michael, location, wrongVersion)))
+            .isInstanceOf(OptimisticLockingException.class)
+            .hasMessageContaining("Entity with type='[User]'")
+            .hasMessageContaining("id='" + frantisek.getId() + "' had incorrect version 1");
+    }
+
     @Test
     public void saveOnNonExistingEntityShouldFailWithOptimisticLockingException() {
         User frantisek = new User("Frantisek");
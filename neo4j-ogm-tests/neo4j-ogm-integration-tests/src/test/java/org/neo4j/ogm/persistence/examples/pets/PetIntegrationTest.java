@@ -21,16 +21,23 @@ package org.neo4j.ogm.persistence.examples.pets;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.neo4j.ogm.domain.pets.Animal;
 import org.neo4j.ogm.domain.pets.Dog;
 import org.neo4j.ogm.domain.pets.DomesticDog;
 import org.neo4j.ogm.domain.pets.Kid;
 import org.neo4j.ogm.domain.pets.Mammal;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.TestContainersTestBase;
@@ -135,4 +142,44 @@ public class PetIntegrationTest extends TestContainersTestBase {
         assertThat(snoopy).isNotNull();
         assertThat(snoopy.getName()).isEqualTo(dog.getName());
     }
+
+    @Test
+    public void shouldCreateAnimalsOfAllKindsInOneStatement() {
+
+        Neo4jSession combiningSession = (Neo4jSession) sessionFactory.openSession();
+        combiningSession.setCombineNewNodeStatements(true);
+        Kid kid = new Kid("Charlie");
+        Mammal mammal = new Mammal("Garfield");
+        Dog dog = new Dog("Snoopy");
+        DomesticDog domesticDog = new DomesticDog("Lassie");
+        kid.hasPet(mammal);
+        kid.hasPet(dog);
+        kid.hasPet(domesticDog);
+        combiningSession.save(kid);
+
+        Map<Long, Animal> animalsById = new HashMap<>();
+        for (Animal animal : Arrays.asList(mammal, dog, domesticDog)) {
+            assertThat(animal.getId()).isNotNull();
+            animalsById.put(animal.getId(), animal);
+        }
+        assertThat(animalsById).hasSize(3);
+
+        Iterable<Map<String, Object>> rows = session.query(
+            "MATCH (n:Animal) RETURN ID(n) AS id, n.name AS name, labels(n) AS labels", Collections.emptyMap());
+        Map<String, List<String>> labelsByName = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            Animal animal = animalsById.get(row.get("id"));
+            assertThat(animal).isNotNull();
+            assertThat(row.get("name")).isEqualTo(animal.getName());
+            labelsByName.put(animal.getName(), Arrays.asList((String[]) row.get("labels")));
+        }
+        assertThat(labelsByName.get("Garfield")).containsExactlyInAnyOrder("Animal", "Mammal");
+        assertThat(labelsByName.get("Snoopy")).containsExactlyInAnyOrder("Animal", "Mammal", "Dog");
+        assertThat(labelsByName.get("Lassie")).containsExactlyInAnyOrder("Animal", "Mammal", "Dog", "DomesticDog");
+
+        session.clear();
+        Kid charlie = session.loadAll(Kid.class).iterator().next();
+        assertThat(charlie.getPets()).extracting(pet -> pet.getClass().getSimpleName())
+            .containsExactlyInAnyOrder("Mammal", "Dog", "DomesticDog");
+    }
 }
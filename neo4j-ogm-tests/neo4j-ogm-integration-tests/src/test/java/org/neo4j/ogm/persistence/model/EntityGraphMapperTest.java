@@ -21,9 +21,12 @@ package org.neo4j.ogm.persistence.model;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
@@ -33,6 +36,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.neo4j.ogm.context.EntityGraphMapper;
 import org.neo4j.ogm.context.EntityMapper;
+import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.cypher.compiler.Compiler;
 import org.neo4j.ogm.domain.blog.Post;
@@ -49,6 +53,7 @@ import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.domain.types.EntityWithUnmanagedFieldType;
 import org.neo4j.ogm.exception.core.InvalidRelationshipTargetException;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.Statements;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -719,6 +724,62 @@ public class EntityGraphMapperTest extends TestContainersTestBase {
                 .hasSize(1);
     }
 
+    @Test
+    public void unlinkingManyRelationshipsOfOneNodeShouldNotBeQuadratic() {
+
+        int numberOfCourses = 10_000;
+
+        Teacher teacher = new Teacher("Mrs Busy");
+        teacher.setId(0L);
+        mappingContext.addNodeEntity(teacher);
+        for (long id = 1; id <= numberOfCourses; id++) {
+            Course course = new Course("Course " + id);
+            course.setId(id);
+            mappingContext.addNodeEntity(course);
+            mappingContext.addRelationship(new MappedRelationship(0L, "COURSES", id, null, Teacher.class, Course.class));
+        }
+        teacher.setCourses(new ArrayList<>());
+
+        long start = System.nanoTime();
+        Compiler compiler = this.mapper.map(teacher).getCompiler();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        compiler.useStatementFactory(new RowStatementFactory());
+        assertThat(compiler.deleteRelationshipStatements()).hasSize(1);
+        assertThat(compiler.context().getDeletedRelationships()).hasSize(numberOfCourses);
+        assertThat(mappingContext.getRelationships()).isEmpty();
+        assertThat(mappingContext.getNodeEntity(0L)).isNull();
+        assertThat(mappingContext.getNodeEntity((long) numberOfCourses)).isNull();
+        // Used to take minutes, as every deleted relationship caused a scan of all known relationships.
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void mappingDeepObjectGraphsShouldNotExhaustTheStack() {
+
+        int lengthOfChain = 50_000;
+
+        Individual first = new Individual();
+        first.setName("Individual 0");
+        Individual previous = first;
+        for (int i = 1; i < lengthOfChain; i++) {
+            Individual next = new Individual();
+            next.setName("Individual " + i);
+            previous.setFriends(singletonList(next));
+            previous = next;
+        }
+
+        Compiler compiler = this.mapper.map(first).getCompiler();
+
+        compiler.useStatementFactory(new RowStatementFactory());
+        List<Statement> nodeStatements = compiler.createNodesStatements();
+        assertThat(nodeStatements).hasSize(1);
+        assertThat((List) nodeStatements.get(0).getParameters().get("rows")).hasSize(lengthOfChain);
+        List<Statement> relationshipStatements = compiler.createRelationshipsStatements();
+        assertThat(relationshipStatements).hasSize(1);
+        assertThat((List) relationshipStatements.get(0).getParameters().get("rows")).hasSize(lengthOfChain - 1);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldThrowMeaningfulErrorMessageWhenLoadingUnscannedEntity() {
 
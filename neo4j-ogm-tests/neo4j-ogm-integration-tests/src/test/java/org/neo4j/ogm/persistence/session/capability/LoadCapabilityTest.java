@@ -21,16 +21,22 @@ package org.neo4j.ogm.persistence.session.capability;
 import static org.assertj.core.api.Assertions.*;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.ComparisonOperator;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.education.DomainObject;
@@ -43,6 +49,10 @@ import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.domain.projection.Concert;
+import org.neo4j.ogm.domain.projection.ConcertSchedule;
+import org.neo4j.ogm.domain.projection.Genre;
+import org.neo4j.ogm.exception.core.MappingException;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -762,4 +772,149 @@ public class LoadCapabilityTest extends TestContainersTestBase {
 
         assertThat(sessionForIdConverter.loadAll(EntityWithCustomIdConverter.class, Collections.singleton(id))).hasSize(1);
     }
+
+    @Test
+    public void shouldLoadOnlyRelationshipsOfFetchPlanWithFiltersAndPagination() {
+
+        Long slipperyWhenWetId = saveArtistsForFetchPlans();
+
+        FetchPlan fetchPlan = FetchPlan.of(Artist.class).with("albums.recording");
+        Collection<Artist> artists = session.loadAll(Artist.class,
+            new Filters(new Filter("name", ComparisonOperator.IN, new String[] { "Bon Jovi", "Led Zeppelin" })),
+            new SortOrder().add("name"), new Pagination(1, 1), fetchPlan);
+
+        assertThat(artists).hasSize(1);
+        Artist ledZeppelin = artists.iterator().next();
+        assertThat(ledZeppelin.getName()).isEqualTo("Led Zeppelin");
+        assertThat(ledZeppelin.getGuestAlbums()).isEmpty();
+        assertThat(ledZeppelin.getAlbums()).extracting(Album::getName)
+            .containsExactlyInAnyOrder("Led Zeppelin IV", "Physical Graffiti");
+        for (Album album : ledZeppelin.getAlbums()) {
+            assertThat(album.getArtist()).isSameAs(ledZeppelin);
+            assertThat(album.getGuestArtist()).isNull();
+            if (album.getName().equals("Led Zeppelin IV")) {
+                assertThat(album.getRecording().getStudio().getName()).isEqualTo("Island Studios");
+            } else {
+                assertThat(album.getRecording()).isNull();
+            }
+        }
+
+        // guest albums are not part of the plan
+        assertThat(((Neo4jSession) session).context().getNodeEntity(slipperyWhenWetId)).isNull();
+    }
+
+    @Test
+    public void shouldLoadOnlyRelationshipsOfFetchPlan() {
+
+        saveArtistsForFetchPlans();
+        Album ledZeppelinIV = session.loadAll(Album.class,
+            new Filters(new Filter("name", ComparisonOperator.EQUALS, "Led Zeppelin IV")), 0).iterator().next();
+        session.clear();
+
+        Album album = session.load(Album.class, ledZeppelinIV.getId(), FetchPlan.of(Album.class).with("artist"));
+        assertThat(album.getName()).isEqualTo("Led Zeppelin IV");
+        assertThat(album.getRecording()).isNull();
+        assertThat(album.getGuestArtist()).isNull();
+        assertThat(album.getArtist().getName()).isEqualTo("Led Zeppelin");
+        assertThat(album.getArtist().getAlbums()).containsExactly(album);
+        assertThat(album.getArtist().getGuestAlbums()).isEmpty();
+        session.clear();
+
+        Collection<Artist> artists = session.loadAll(Artist.class,
+            new Filters(new Filter("name", ComparisonOperator.EQUALS, "Led Zeppelin")), FetchPlan.of(Artist.class));
+        assertThat(artists).hasSize(1);
+        assertThat(artists.iterator().next().getAlbums()).isEmpty();
+        assertThat(artists.iterator().next().getGuestAlbums()).isEmpty();
+    }
+
+    private Long saveArtistsForFetchPlans() {
+
+        Artist ledZeppelin = new Artist("Led Zeppelin");
+        Album ledZeppelinIV = new Album("Led Zeppelin IV");
+        ledZeppelin.addAlbum(ledZeppelinIV);
+        ledZeppelinIV.setArtist(ledZeppelin);
+        ledZeppelinIV.setRecording(new Recording(ledZeppelinIV, new Studio("Island Studios"), 1971));
+        Album physicalGraffiti = new Album("Physical Graffiti");
+        ledZeppelin.addAlbum(physicalGraffiti);
+        physicalGraffiti.setArtist(ledZeppelin);
+
+        Artist bonJovi = new Artist("Bon Jovi");
+        Album slipperyWhenWet = new Album("Slippery When Wet");
+        bonJovi.addAlbum(slipperyWhenWet);
+        slipperyWhenWet.setArtist(bonJovi);
+        slipperyWhenWet.setRecording(new Recording(slipperyWhenWet, new Studio("Little Mountain Sound"), 1986));
+        ledZeppelin.getGuestAlbums().add(slipperyWhenWet);
+        slipperyWhenWet.setGuestArtist(ledZeppelin);
+
+        session.save(ledZeppelin);
+        session.save(bonJovi);
+        session.clear();
+        return slipperyWhenWet.getId();
+    }
+
+    @Test
+    public void shouldLoadProjectionsOfNodeEntities() {
+
+        session.save(new Artist("Bon Jovi"));
+        session.save(new Artist("Led Zeppelin"));
+        session.clear();
+
+        Collection<ArtistName> names = session.loadAll(Artist.class, ArtistName.class, new Filters(),
+            new SortOrder().add("name"), new Pagination(0, 2));
+        assertThat(names).extracting(ArtistName::getName).containsExactly("Bon Jovi", "Led Zeppelin");
+
+        names = session.loadAll(Artist.class, ArtistName.class,
+            new Filters(new Filter("name", ComparisonOperator.STARTING_WITH, "The")));
+        assertThat(names).hasSize(1);
+        ArtistName beatles = names.iterator().next();
+        assertThat(beatles.getId()).isEqualTo(beatlesId);
+        assertThat(beatles.getName()).isEqualTo("The Beatles");
+
+        // Projections are not entities and are not tracked by the session
+        assertThat(((Neo4jSession) session).context().getNodeEntity(beatlesId)).isNull();
+    }
+
+    @Test
+    public void shouldConvertPropertiesOfClassProjectionsOnce() {
+
+        Session sessionForProjections = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.projection").openSession();
+        sessionForProjections.purgeDatabase();
+        Date performedAt = new Date(1234567890123L);
+        Date announcedAt = new Date(1234000000000L);
+        sessionForProjections.save(new Concert("Montreux", Genre.JAZZ, performedAt, announcedAt,
+            LocalDate.of(2009, 1, 15)));
+        sessionForProjections.clear();
+
+        Collection<ConcertSchedule> schedules = sessionForProjections.loadAll(Concert.class, ConcertSchedule.class,
+            new Filters(new Filter("name", ComparisonOperator.EQUALS, "Montreux")));
+
+        assertThat(schedules).hasSize(1);
+        ConcertSchedule schedule = schedules.iterator().next();
+        assertThat(schedule.getGenre()).isEqualTo(Genre.JAZZ);
+        assertThat(schedule.getPerformedAt()).isEqualTo(performedAt);
+        assertThat(schedule.getAnnouncedAt()).isEqualTo(announcedAt);
+        assertThat(schedule.getTicketSaleStartsOn()).isEqualTo(LocalDate.of(2009, 1, 15));
+    }
+
+    @Test
+    public void shouldNotLoadProjectionsWithUnknownProperties() {
+
+        assertThatExceptionOfType(MappingException.class)
+            .isThrownBy(() -> session.loadAll(Artist.class, AlbumName.class, new Filters()))
+            .withMessageContaining("has no property named releasedAt");
+    }
+
+    interface ArtistName {
+
+        Long getId();
+
+        String getName();
+    }
+
+    interface AlbumName {
+
+        String getName();
+
+        String getReleasedAt();
+    }
 }
@@ -44,6 +44,7 @@ import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 import org.neo4j.ogm.testutil.TestContainersTestBase;
+import org.neo4j.ogm.transaction.Transaction;
 
 /**
  * @author Luanne Misquitta
@@ -51,6 +52,7 @@ import org.neo4j.ogm.testutil.TestContainersTestBase;
  */
 public class SaveCapabilityTest extends TestContainersTestBase {
 
+    private SessionFactory sessionFactory;
     private Session session;
     private Artist aerosmith;
     private Artist bonJovi;
@@ -58,7 +60,7 @@ public class SaveCapabilityTest extends TestContainersTestBase {
 
     @Before
     public void init() throws IOException {
-        SessionFactory sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.music",
+        sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.music",
             "org.neo4j.ogm.domain.gh787", "org.neo4j.ogm.domain.gh789");
         session = sessionFactory.openSession();
         session.purgeDatabase();
@@ -226,4 +228,153 @@ public class SaveCapabilityTest extends TestContainersTestBase {
         entity = session.load(Entity.class, entity.getKey());
         assertThat(entity.getSome()).isEqualTo("Some value");
     }
+
+    @Test
+    public void shouldBufferSavesUntilFlushInWriteBehindMode() {
+
+        Session writeBehindSession = openWriteBehindSession();
+        Album nineLives = new Album("Nine Lives");
+        aerosmith.addAlbum(nineLives);
+
+        writeBehindSession.save(aerosmith);
+        writeBehindSession.save(bonJovi);
+        writeBehindSession.save(aerosmith, 0);
+        assertThat(aerosmith.getId()).isNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(0);
+
+        writeBehindSession.flush();
+        assertThat(aerosmith.getId()).isNotNull();
+        assertThat(nineLives.getId()).isNotNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(2);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFlushBufferedSavesOnCommit() {
+
+        Session writeBehindSession = openWriteBehindSession();
+        try (Transaction transaction = writeBehindSession.beginTransaction()) {
+            writeBehindSession.save(aerosmith);
+            writeBehindSession.save(bonJovi);
+            transaction.commit();
+        }
+
+        assertThat(aerosmith.getId()).isNotNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldDiscardBufferedSavesOnRollback() {
+
+        Session writeBehindSession = openWriteBehindSession();
+        try (Transaction transaction = writeBehindSession.beginTransaction()) {
+            writeBehindSession.save(aerosmith);
+            transaction.rollback();
+        }
+        writeBehindSession.flush();
+
+        assertThat(aerosmith.getId()).isNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldKeepSavesBufferedBeforeTransactionOnRollback() {
+
+        Session writeBehindSession = openWriteBehindSession();
+        writeBehindSession.save(aerosmith);
+        try (Transaction transaction = writeBehindSession.beginTransaction()) {
+            writeBehindSession.save(bonJovi);
+            transaction.rollback();
+        }
+        writeBehindSession.flush();
+
+        assertThat(aerosmith.getId()).isNotNull();
+        assertThat(bonJovi.getId()).isNull();
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotFlushBufferedSavesForLoadsAndQueries() {
+
+        Session writeBehindSession = openWriteBehindSession();
+        writeBehindSession.save(aerosmith);
+
+        assertThat(writeBehindSession.loadAll(Artist.class)).isEmpty();
+        assertThat(writeBehindSession.countEntitiesOfType(Artist.class)).isEqualTo(0);
+        assertThat(writeBehindSession.queryForObject(Long.class,
+            "MATCH (a:`l'artiste`) RETURN count(a)", Collections.emptyMap())).isEqualTo(0L);
+        assertThat(writeBehindSession.query("MATCH (a:`l'artiste`) RETURN a", Collections.emptyMap(), false))
+            .isEmpty();
+        assertThat(aerosmith.getId()).isNull();
+
+        writeBehindSession.flush();
+        assertThat(aerosmith.getId()).isNotNull();
+        assertThat(writeBehindSession.loadAll(Artist.class)).containsExactly(aerosmith);
+    }
+
+    @Test
+    public void shouldCreateNewNodesAndRelationshipsInOneStatement() {
+
+        session.save(aerosmith);
+        Long aerosmithId = aerosmith.getId();
+
+        Neo4jSession combiningSession = (Neo4jSession) sessionFactory.openSession();
+        combiningSession.setCombineNewRelationshipStatements(true);
+        Artist existingArtist = combiningSession.load(Artist.class, aerosmithId);
+        Album nineLives = new Album("Nine Lives");
+        existingArtist.addAlbum(nineLives);
+        nineLives.setArtist(existingArtist);
+        bonJovi.getGuestAlbums().add(nineLives);
+        nineLives.setGuestArtist(bonJovi);
+        Studio studio = new Studio("Avatar Studios");
+        Recording recording = new Recording(nineLives, studio, 1997);
+        nineLives.setRecording(recording);
+        combiningSession.save(existingArtist);
+
+        assertThat(existingArtist.getId()).isEqualTo(aerosmithId);
+        assertThat(nineLives.getId()).isNotNull();
+        assertThat(bonJovi.getId()).isNotNull();
+        assertThat(studio.getId()).isNotNull();
+        assertThat(recording.getId()).isNotNull();
+
+        session.clear();
+        Album loadedAlbum = session.load(Album.class, nineLives.getId());
+        assertThat(loadedAlbum.getName()).isEqualTo("Nine Lives");
+        assertThat(loadedAlbum.getArtist().getId()).isEqualTo(aerosmithId);
+        assertThat(loadedAlbum.getGuestArtist().getId()).isEqualTo(bonJovi.getId());
+        assertThat(loadedAlbum.getGuestArtist().getName()).isEqualTo("Bon Jovi");
+        assertThat(loadedAlbum.getRecording().getId()).isEqualTo(recording.getId());
+        assertThat(loadedAlbum.getRecording().getYear()).isEqualTo(1997);
+        assertThat(loadedAlbum.getRecording().getStudio().getId()).isEqualTo(studio.getId());
+        assertThat(session.countEntitiesOfType(Artist.class)).isEqualTo(2);
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(1);
+        assertThat(session.countEntitiesOfType(Studio.class)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFailToCreateRelationshipsToDeletedNodesInOneStatement() {
+
+        session.save(aerosmith);
+
+        Neo4jSession combiningSession = (Neo4jSession) sessionFactory.openSession();
+        combiningSession.setCombineNewRelationshipStatements(true);
+        Artist existingArtist = combiningSession.load(Artist.class, aerosmith.getId());
+        session.purgeDatabase();
+
+        Album nineLives = new Album("Nine Lives");
+        existingArtist.addAlbum(nineLives);
+        nineLives.setArtist(existingArtist);
+        assertThatThrownBy(() -> combiningSession.save(existingArtist));
+
+        assertThat(session.countEntitiesOfType(Album.class)).isEqualTo(0);
+    }
+
+    private Session openWriteBehindSession() {
+        sessionFactory.setWriteBehind(true);
+        try {
+            return sessionFactory.openSession();
+        } finally {
+            sessionFactory.setWriteBehind(false);
+        }
+    }
 }
@@ -29,6 +29,7 @@ import org.neo4j.ogm.domain.filesystem.Folder;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.event.Event;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
 
 /**
  * @author vince
@@ -90,6 +91,48 @@ public class LifecycleTest extends EventTestBaseClass {
         assertThat(f2.getName()).isEqualTo("folder");
     }
 
+    @Test
+    public void shouldSaveChangesMadeByPreSaveEventHandlerToEntitiesAlreadyVisited() {
+
+        session.dispose(eventListener); // not interested in the default one for this suite
+        session.register(renameFolderEventListener);
+
+        // The folder itself is unchanged and is reached before its documents
+        a.setName("a changed");
+        session.save(folder);
+        assertThat(folder.getName()).isEqualTo("renamed by a changed");
+
+        session.clear();
+
+        Folder reloadedFolder = session.load(Folder.class, folder.getId());
+        assertThat(reloadedFolder.getName()).isEqualTo("renamed by a changed");
+    }
+
+    @Test
+    public void shouldFirePreSaveEventsBeyondSaveDepth() {
+
+        session.dispose(eventListener); // not interested in the default one for this suite
+        session.register(renameFolderEventListener);
+
+        a.setName("a changed");
+        session.save(folder, 0);
+
+        session.clear();
+
+        Folder reloadedFolder = session.load(Folder.class, folder.getId());
+        assertThat(reloadedFolder.getName()).isEqualTo("renamed by a changed");
+    }
+
+    private EventListener renameFolderEventListener = new EventListenerAdapter() {
+        @Override
+        public void onPreSave(Event event) {
+            if (event.getObject() instanceof Document) {
+                Document document = (Document) event.getObject();
+                document.getFolder().setName("renamed by " + document.getName());
+            }
+        }
+    };
+
     private EventListener uuidEventListener = new EventListener() {
         @Override
         public void onPreSave(Event event) {
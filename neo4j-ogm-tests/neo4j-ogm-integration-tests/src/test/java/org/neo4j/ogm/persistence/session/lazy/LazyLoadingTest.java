@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.lazy;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.context.LazyCollection;
+import org.neo4j.ogm.domain.lazy.Author;
+import org.neo4j.ogm.domain.lazy.Book;
+import org.neo4j.ogm.session.LoadStrategy;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.TestContainersTestBase;
+
+public class LazyLoadingTest extends TestContainersTestBase {
+
+    private static SessionFactory sessionFactory;
+
+    private Session session;
+    private Long authorId;
+    private Long bookId;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.lazy");
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+
+        Author author = new Author("Terry");
+        Book book = new Book("Mort", author);
+        new Book("Jingo", author);
+        Author follower = new Author("Neil");
+        author.getFollowers().add(follower);
+        session.save(author);
+        session.save(follower);
+        authorId = author.getId();
+        bookId = book.getId();
+
+        session.clear();
+    }
+
+    @Test
+    public void shouldLoadLazyRelationshipsOnFirstAccess() {
+
+        Author author = session.load(Author.class, authorId);
+
+        assertThat(LazyCollection.isInitialized(author.getBooks())).isFalse();
+        assertThat(LazyCollection.isInitialized(author.getFollowers())).isFalse();
+        assertThat(((Neo4jSession) session).context().getNodeEntity(bookId)).isNull();
+
+        // books loaded on their own don't fill the lazy field partially
+        Collection<Book> books = session.loadAll(Book.class);
+        assertThat(LazyCollection.isInitialized(author.getBooks())).isFalse();
+
+        assertThat(author.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("Mort", "Jingo");
+        assertThat(author.getBooks()).hasSameElementsAs(books);
+        assertThat(author.getBooks()).allSatisfy(book -> assertThat(book.getAuthor()).isSameAs(author));
+        assertThat(LazyCollection.isInitialized(author.getBooks())).isTrue();
+        assertThat(LazyCollection.isInitialized(author.getFollowers())).isFalse();
+
+        assertThat(author.getFollowers()).extracting(Author::getName).containsExactly("Neil");
+    }
+
+    @Test
+    public void shouldNotFillLazyRelationshipsFromPaths() {
+
+        session.setLoadStrategy(LoadStrategy.PATH_LOAD_STRATEGY);
+        Author author = session.load(Author.class, authorId);
+
+        // the path load strategy fetches the neighbours of lazy fields as well
+        assertThat(((Neo4jSession) session).context().getNodeEntity(bookId)).isNotNull();
+        assertThat(LazyCollection.isInitialized(author.getBooks())).isFalse();
+
+        assertThat(author.getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("Mort", "Jingo");
+    }
+
+    @Test
+    public void shouldKeepUnloadedLazyRelationshipsWhenSaving() {
+
+        Author author = session.load(Author.class, authorId);
+        author.setName("Terry Pratchett");
+        session.save(author);
+        session.clear();
+
+        Author reloaded = session.load(Author.class, authorId);
+        assertThat(reloaded.getName()).isEqualTo("Terry Pratchett");
+        assertThat(reloaded.getBooks()).hasSize(2);
+        assertThat(reloaded.getFollowers()).hasSize(1);
+    }
+
+    @Test
+    public void shouldSaveChangesOfLoadedLazyRelationships() {
+
+        Author author = session.load(Author.class, authorId);
+        author.getBooks().removeIf(book -> book.getTitle().equals("Mort"));
+        new Book("Thud!", author);
+        session.save(author);
+        session.clear();
+
+        Author reloaded = session.load(Author.class, authorId);
+        assertThat(reloaded.getBooks().stream().map(Book::getTitle).collect(Collectors.toList()))
+            .containsExactlyInAnyOrder("Jingo", "Thud!");
+    }
+
+    @Test
+    public void shouldNotLoadRelationshipsOfEntitiesNotPartOfTheSessionAnymore() {
+
+        Author author = session.load(Author.class, authorId);
+        session.clear();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> author.getBooks().size())
+            .withMessageContaining("books");
+    }
+}
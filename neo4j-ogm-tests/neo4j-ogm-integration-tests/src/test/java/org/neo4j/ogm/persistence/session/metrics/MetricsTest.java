@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.metrics.OgmMetrics;
+import org.neo4j.ogm.testutil.TestContainersTestBase;
+
+public class MetricsTest extends TestContainersTestBase {
+
+    private static SessionFactory sessionFactory;
+    private static RecordingMetrics metrics;
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.filesystem");
+        metrics = new RecordingMetrics();
+        sessionFactory.setMetrics(metrics);
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        metrics.clear();
+    }
+
+    @Test
+    public void shouldRecordSaves() {
+
+        Folder folder = new Folder();
+        folder.setName("folder");
+        Document document = new Document();
+        document.setName("document");
+        document.setFolder(folder);
+        folder.getDocuments().add(document);
+
+        session.save(folder);
+
+        assertThat(metrics.operations.get(OgmMetrics.Operation.SAVE)).isEqualTo(1);
+        assertThat(metrics.phases).containsKeys(OgmMetrics.Phase.CYPHER_GENERATION, OgmMetrics.Phase.EXECUTION);
+        assertThat(metrics.statementsPerSave).hasSize(1);
+        assertThat(metrics.statementsPerSave.get(0)).isGreaterThan(0);
+        assertThat(metrics.mappingContextSizes).containsExactly(2);
+    }
+
+    @Test
+    public void shouldRecordLoadsQueriesAndDeletes() {
+
+        Document document = new Document();
+        document.setName("document");
+        session.save(document);
+        session.clear();
+        metrics.clear();
+
+        session.loadAll(Document.class);
+        assertThat(metrics.operations.get(OgmMetrics.Operation.LOAD)).isEqualTo(1);
+        assertThat(metrics.phases).containsKeys(OgmMetrics.Phase.EXECUTION, OgmMetrics.Phase.RESPONSE_PARSING,
+            OgmMetrics.Phase.HYDRATION);
+        assertThat(metrics.rowsMapped).containsExactly(1L);
+        assertThat(metrics.mappingContextSizes).containsExactly(1);
+
+        session.query(Document.class, "MATCH (d:Document) RETURN d", Collections.emptyMap());
+        assertThat(metrics.operations.get(OgmMetrics.Operation.QUERY)).isEqualTo(1);
+
+        session.delete(document);
+        assertThat(metrics.operations.get(OgmMetrics.Operation.DELETE)).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotRecordAnythingWithoutMetrics() {
+
+        SessionFactory sessionFactoryWithoutMetrics = new SessionFactory(getDriver(),
+            "org.neo4j.ogm.domain.filesystem");
+        Session sessionWithoutMetrics = sessionFactoryWithoutMetrics.openSession();
+        sessionWithoutMetrics.loadAll(Document.class);
+
+        assertThat(metrics.operations).isEmpty();
+        assertThat(metrics.phases).isEmpty();
+    }
+
+    static class RecordingMetrics implements OgmMetrics {
+
+        final Map<Operation, Integer> operations = new EnumMap<>(Operation.class);
+        final Map<Phase, Integer> phases = new EnumMap<>(Phase.class);
+        final List<Integer> statementsPerSave = new ArrayList<>();
+        final List<Long> rowsMapped = new ArrayList<>();
+        final List<Integer> mappingContextSizes = new ArrayList<>();
+
+        @Override
+        public void recordOperation(Operation operation, long durationNanos) {
+            operations.merge(operation, 1, Integer::sum);
+        }
+
+        @Override
+        public void recordPhase(Phase phase, long durationNanos) {
+            phases.merge(phase, 1, Integer::sum);
+        }
+
+        @Override
+        public void recordStatementsPerSave(int numberOfStatements) {
+            statementsPerSave.add(numberOfStatements);
+        }
+
+        @Override
+        public void recordRowsMapped(long numberOfRows) {
+            rowsMapped.add(numberOfRows);
+        }
+
+        @Override
+        public void recordMappingContextSize(int numberOfEntities) {
+            mappingContextSizes.add(numberOfEntities);
+        }
+
+        void clear() {
+            operations.clear();
+            phases.clear();
+            statementsPerSave.clear();
+            rowsMapped.clear();
+            mappingContextSizes.clear();
+        }
+    }
+}
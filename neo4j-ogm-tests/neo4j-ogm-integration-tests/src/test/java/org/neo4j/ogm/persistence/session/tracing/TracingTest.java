@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.persistence.session.tracing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.tracing.InMemoryTracer;
+import org.neo4j.ogm.session.tracing.InMemoryTracer.RecordedSpan;
+import org.neo4j.ogm.session.tracing.OgmTracer;
+import org.neo4j.ogm.testutil.TestContainersTestBase;
+import org.neo4j.ogm.transaction.Transaction;
+
+public class TracingTest extends TestContainersTestBase {
+
+    private static SessionFactory sessionFactory;
+    private static InMemoryTracer tracer;
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        sessionFactory = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.filesystem");
+        tracer = new InMemoryTracer();
+        sessionFactory.setTracer(tracer);
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+        tracer.clear();
+    }
+
+    @Test
+    public void shouldTraceOperationsAndTheirRequests() {
+
+        Folder folder = new Folder();
+        folder.setName("folder");
+        Document document = new Document();
+        document.setName("document");
+        document.setFolder(folder);
+        folder.getDocuments().add(document);
+        try (Transaction transaction = session.beginTransaction()) {
+            session.save(folder);
+            transaction.commit();
+        }
+
+        RecordedSpan save = span("neo4j.ogm.save");
+        assertThat(save.getParent()).isEmpty();
+        assertThat(save.getDurationNanos()).isGreaterThanOrEqualTo(0L);
+        List<RecordedSpan> saveRequests = requestsOf(save);
+        assertThat(saveRequests).isNotEmpty();
+        assertThat(saveRequests.get(0).getAttributes())
+            .containsEntry(OgmTracer.TRANSACTION_TYPE_ATTRIBUTE, Transaction.Type.READ_WRITE.name());
+        assertThat((String) saveRequests.get(0).getAttributes().get(OgmTracer.STATEMENT_ATTRIBUTE)).contains("UNWIND");
+
+        session.clear();
+        tracer.clear();
+        session.loadAll(Document.class);
+
+        List<RecordedSpan> loadRequests = requestsOf(span("neo4j.ogm.load"));
+        assertThat(loadRequests).hasSize(1);
+        assertThat(loadRequests.get(0).getAttributes())
+            .containsEntry(OgmTracer.ROWS_ATTRIBUTE, 1L)
+            .containsKey(OgmTracer.TRANSACTION_TYPE_ATTRIBUTE);
+        assertThat((String) loadRequests.get(0).getAttributes().get(OgmTracer.STATEMENT_ATTRIBUTE))
+            .startsWith("MATCH (n:`Document`)");
+    }
+
+    @Test
+    public void shouldRecordFailures() {
+
+        assertThatExceptionOfType(CypherException.class)
+            .isThrownBy(() -> session.query("INVALID CYPHER", Collections.emptyMap()));
+
+        RecordedSpan query = span("neo4j.ogm.query");
+        assertThat(query.getException()).isPresent();
+    }
+
+    @Test
+    public void shouldNotTraceWithoutTracer() {
+
+        SessionFactory sessionFactoryWithoutTracer = new SessionFactory(getDriver(), "org.neo4j.ogm.domain.filesystem");
+        sessionFactoryWithoutTracer.openSession().loadAll(Document.class);
+
+        assertThat(tracer.getFinishedSpans()).isEmpty();
+    }
+
+    private static RecordedSpan span(String name) {
+        return tracer.getFinishedSpans().stream()
+            .filter(span -> span.getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No span " + name + " in " + tracer.getFinishedSpans()));
+    }
+
+    private static List<RecordedSpan> requestsOf(RecordedSpan parent) {
+        return tracer.getFinishedSpans().stream()
+            .filter(span -> span.getName().equals(OgmTracer.REQUEST_SPAN))
+            .filter(span -> span.getParent().filter(parent::equals).isPresent())
+            .collect(Collectors.toList());
+    }
+}
@@ -144,4 +144,40 @@ public class BookmarkTest {
         String lastBookmark = session.getLastBookmark();
         assertThat(lastBookmark).isEqualTo("bookmark-part1BSbookmark-part2");
     }
+
+    @Test
+    public void shouldReportBookmarksOfAutoCommitReads() {
+        when(nativeDriver.session(any(SessionConfig.class))).thenReturn(nativeSession);
+        when(nativeSession.lastBookmark()).thenReturn(Bookmark.from(Collections.singleton("last-bookmark")));
+
+        session.query("MATCH (n) RETURN n", Collections.emptyMap(), true);
+
+        ArgumentCaptor<SessionConfig> argumentCaptor = ArgumentCaptor.forClass(SessionConfig.class);
+        verify(nativeDriver).session(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().defaultAccessMode()).isEqualTo(AccessMode.READ);
+        verify(nativeSession).run(eq("MATCH (n) RETURN n"), anyMap());
+        verify(nativeSession, never()).beginTransaction();
+        verify(nativeSession).close();
+
+        assertThat(session.getLastBookmark()).isEqualTo("last-bookmark");
+    }
+
+    @Test
+    public void shouldPassLastBookmarkToAutoCommitReads() {
+        when(nativeDriver.session(any(SessionConfig.class))).thenReturn(nativeSession);
+        when(nativeSession.beginTransaction().isOpen()).thenReturn(true);
+        when(nativeSession.lastBookmark()).thenReturn(Bookmark.from(Collections.singleton("last-bookmark")));
+
+        Transaction transaction = session.beginTransaction(Transaction.Type.READ_WRITE);
+        transaction.commit();
+        transaction.close();
+
+        session.query("MATCH (n) RETURN n", Collections.emptyMap(), true);
+
+        ArgumentCaptor<SessionConfig> argumentCaptor = ArgumentCaptor.forClass(SessionConfig.class);
+        verify(nativeDriver, times(2)).session(argumentCaptor.capture());
+        SessionConfig sessionConfig = argumentCaptor.getAllValues().get(1);
+        assertThat(sessionConfig.defaultAccessMode()).isEqualTo(AccessMode.READ);
+        assertThat(sessionConfig.bookmarks()).containsExactly(Bookmark.from(Collections.singleton("last-bookmark")));
+    }
 }
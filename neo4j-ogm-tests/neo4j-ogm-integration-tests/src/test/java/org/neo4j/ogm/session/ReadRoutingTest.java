@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Bookmark;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.metadata.MetaData;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReadRoutingTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Driver nativeDriver;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private org.neo4j.driver.Session nativeSession;
+
+    private BoltDriver driver;
+    private Neo4jSession session;
+
+    @Before
+    public void setUp() {
+        driver = new BoltDriver(nativeDriver);
+        session = new Neo4jSession(new MetaData("org.neo4j.ogm.empty"), true, driver);
+        when(nativeDriver.session(any(SessionConfig.class))).thenReturn(nativeSession);
+    }
+
+    @Test
+    public void shouldRouteReadingQueriesToReaders() {
+        session.query(Long.class, "MATCH (n) RETURN count(n)", Collections.emptyMap());
+
+        assertThat(accessModeOfSession()).isEqualTo(AccessMode.READ);
+        assertThat(driver.getReadSessionCount()).isEqualTo(1L);
+        assertThat(driver.getWriteSessionCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void shouldRouteWritingQueriesToLeader() {
+        when(nativeSession.beginTransaction().isOpen()).thenReturn(true);
+
+        session.query(Long.class, "MATCH (n) SET n.visited = true RETURN count(n)", Collections.emptyMap());
+
+        assertThat(accessModeOfSession()).isEqualTo(AccessMode.WRITE);
+        assertThat(driver.getReadSessionCount()).isEqualTo(0L);
+        assertThat(driver.getWriteSessionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldRouteProcedureCallsToLeader() {
+        when(nativeSession.beginTransaction().isOpen()).thenReturn(true);
+
+        session.query(Long.class, "CALL custom.countNodes()", Collections.emptyMap());
+
+        assertThat(accessModeOfSession()).isEqualTo(AccessMode.WRITE);
+    }
+
+    @Test
+    public void shouldRouteReadingQueriesToLeaderWhenReadRoutingIsDisabled() {
+        when(nativeSession.beginTransaction().isOpen()).thenReturn(true);
+        session.setReadRouting(false);
+
+        session.query(Long.class, "MATCH (n) RETURN count(n)", Collections.emptyMap());
+
+        assertThat(accessModeOfSession()).isEqualTo(AccessMode.WRITE);
+        assertThat(driver.getWriteSessionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void shouldReadOwnWritesWhenRoutingReadsToReaders() {
+        when(nativeSession.beginTransaction().isOpen()).thenReturn(true);
+        when(nativeSession.lastBookmark()).thenReturn(Bookmark.from(Collections.singleton("write-bookmark")));
+
+        session.query(Long.class, "MATCH (n) SET n.visited = true RETURN count(n)", Collections.emptyMap());
+        session.query(Long.class, "MATCH (n) WHERE n.visited RETURN count(n)", Collections.emptyMap());
+
+        ArgumentCaptor<SessionConfig> argumentCaptor = ArgumentCaptor.forClass(SessionConfig.class);
+        verify(nativeDriver, times(2)).session(argumentCaptor.capture());
+        SessionConfig readSessionConfig = argumentCaptor.getAllValues().get(1);
+        assertThat(readSessionConfig.defaultAccessMode()).isEqualTo(AccessMode.READ);
+        assertThat(readSessionConfig.bookmarks())
+            .containsExactly(Bookmark.from(Collections.singleton("write-bookmark")));
+    }
+
+    private AccessMode accessModeOfSession() {
+        ArgumentCaptor<SessionConfig> argumentCaptor = ArgumentCaptor.forClass(SessionConfig.class);
+        verify(nativeDriver).session(argumentCaptor.capture());
+        return argumentCaptor.getValue().defaultAccessMode();
+    }
+}
@@ -20,6 +20,8 @@ package org.neo4j.ogm.session;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.function.UnaryOperator;
+
 import org.junit.Test;
 
 /**
@@ -45,4 +47,17 @@ public class UtilsTest {
         assertThat(Utils.coerceTypes(long.class, null)).isEqualTo(0L);
         assertThat(Utils.coerceTypes(short.class, null)).isEqualTo(0);
     }
+
+    @Test
+    public void coercionsShouldBeResolvedPerType() {
+        UnaryOperator<Object> toInt = Utils.coercionFor(int.class);
+        assertThat(toInt.apply(42L)).isEqualTo(42);
+        assertThat(toInt.apply(null)).isEqualTo(0);
+        assertThatIllegalArgumentException().isThrownBy(() -> toInt.apply(Long.MAX_VALUE));
+
+        assertThat(Utils.coercionFor(Float.class).apply(1.5d)).isEqualTo(1.5f);
+        assertThat(Utils.coercionFor(Double.class).apply(2)).isEqualTo(2.0d);
+        assertThat(Utils.coercionFor(char.class).apply("c")).isEqualTo('c');
+        assertThat(Utils.coercionFor(String.class).apply("42")).isEqualTo("42");
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.RestModel;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.DefaultRequest;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.request.GraphRowListModelRequest;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.request.RestModelRequest;
+import org.neo4j.ogm.request.RowModelRequest;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.response.model.DefaultRowModel;
+
+public class ObservedRequestTest {
+
+    private final RowModelRequest query = new DefaultRowModelRequest("MATCH (n) RETURN n", Collections.emptyMap());
+
+    @Test
+    public void shouldReturnRequestWithoutObservers() {
+
+        Request request = new RowsRequest(Collections.emptyList());
+
+        assertThat(ObservedRequest.observe(request, Collections.emptyList())).isSameAs(request);
+    }
+
+    @Test
+    public void shouldReportEachRequestOnceToAllObservers() {
+
+        RecordingObserver first = new RecordingObserver();
+        RecordingObserver second = new RecordingObserver();
+        Request request = ObservedRequest.observe(new RowsRequest(Arrays.asList(row(), row())),
+            Arrays.asList(first, second));
+
+        try (Response<RowModel> response = request.execute(query)) {
+            assertThat(response.toList()).hasSize(2);
+        }
+
+        for (RecordingObserver observer : Arrays.asList(first, second)) {
+            assertThat(observer.events).containsExactly("start MATCH (n) RETURN n", "executed", "closed 2");
+        }
+    }
+
+    @Test
+    public void shouldReportFailedExecutions() {
+
+        RecordingObserver observer = new RecordingObserver();
+        Request request = ObservedRequest.observe(new RowsRequest(null), Collections.singletonList(observer));
+
+        assertThatExceptionOfType(CypherException.class).isThrownBy(() -> request.execute(query));
+
+        assertThat(observer.events).containsExactly("start MATCH (n) RETURN n", "executed with CypherException");
+    }
+
+    private static RowModel row() {
+        return new DefaultRowModel(new Object[] { 1L }, new String[] { "n" });
+    }
+
+    private static class RecordingObserver implements RequestObserver {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public Observation start(List<? extends Statement> statements) {
+
+            events.add("start " + statements.get(0).getStatement());
+            return new Observation() {
+                @Override
+                public void executed(long executionNanos, RuntimeException failure) {
+                    events.add(failure == null ? "executed" : "executed with " + failure.getClass().getSimpleName());
+                }
+
+                @Override
+                public void closed(long executionNanos, long readingNanos, long numberOfRows) {
+                    events.add("closed " + numberOfRows);
+                }
+            };
+        }
+    }
+
+    /**
+     * Returns the given rows for row model requests and fails if there are none.
+     */
+    private static class RowsRequest implements Request {
+
+        private final List<RowModel> rows;
+
+        RowsRequest(List<RowModel> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Response<RowModel> execute(RowModelRequest request) {
+
+            if (rows == null) {
+                throw new CypherException("Neo.ClientError.Statement.SyntaxError", "Invalid input");
+            }
+            Iterator<RowModel> iterator = rows.iterator();
+            return new Response<RowModel>() {
+                @Override
+                public RowModel next() {
+                    return iterator.hasNext() ? iterator.next() : null;
+                }
+
+                @Override
+                public void close() {
+                }
+
+                @Override
+                public String[] columns() {
+                    return new String[] { "n" };
+                }
+            };
+        }
+
+        @Override
+        public Response<GraphModel> execute(GraphModelRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response<RowModel> execute(DefaultRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response<GraphRowListModel> execute(GraphRowListModelRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Response<RestModel> execute(RestModelRequest request) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
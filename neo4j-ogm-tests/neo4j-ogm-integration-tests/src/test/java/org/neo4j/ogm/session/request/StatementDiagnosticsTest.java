@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2002-2020 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.ogm.session.request;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.cypher.query.CypherQuery;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.testutil.LoggerRule;
+import org.neo4j.ogm.testutil.TestContainersTestBase;
+
+public class StatementDiagnosticsTest extends TestContainersTestBase {
+
+    private static SessionFactory sessionFactory;
+
+    @Rule
+    public final LoggerRule loggerRule = new LoggerRule();
+
+    private Session session;
+
+    @BeforeClass
+    public static void oneTimeSetUp() {
+        Configuration configuration = getBaseConfigurationBuilder()
+            .slowStatementThreshold(0)
+            .largeResultThreshold(1)
+            .largeParametersThreshold(2)
+            .statementsPerSaveThreshold(0)
+            .build();
+        sessionFactory = new SessionFactory(configuration, "org.neo4j.ogm.domain.filesystem");
+    }
+
+    @AfterClass
+    public static void oneTimeTearDown() {
+        sessionFactory.close();
+    }
+
+    @Before
+    public void init() {
+        session = sessionFactory.openSession();
+        session.purgeDatabase();
+    }
+
+    @Test
+    public void shouldWarnAboutSavesWithManyStatements() {
+
+        Folder folder = new Folder();
+        folder.setName("folder");
+        session.save(folder);
+
+        assertThat(warnings("Save with many statements")).anySatisfy(warning -> assertThat(warning)
+            .contains("threshold=0").contains("method=Session.save"));
+    }
+
+    @Test
+    public void shouldWarnAboutSlowStatementsAndLargeResults() {
+
+        Document document1 = new Document();
+        document1.setName("document1");
+        session.save(document1);
+        Document document2 = new Document();
+        document2.setName("document2");
+        session.save(document2);
+
+        session.loadAll(Document.class);
+
+        assertThat(warnings("Statement with large result")).anySatisfy(warning -> assertThat(warning)
+            .contains("rows=2").contains("threshold=1").contains("method=Session.loadAll")
+            .contains("statement=MATCH (n:`Document`)"));
+        assertThat(warnings("Slow statement")).anySatisfy(warning -> assertThat(warning)
+            .contains("method=Session.loadAll"));
+    }
+
+    @Test
+    public void shouldWarnAboutLargeParameters() {
+
+        session.query("RETURN $values", Collections.singletonMap("values", Arrays.asList(1, 2, 3)));
+
+        assertThat(warnings("Statement with large parameters")).anySatisfy(warning -> assertThat(warning)
+            .contains("values=3").contains("threshold=2").contains("method=Session.query")
+            .contains("statement=RETURN $values").contains("parameterSizes={values=3}"));
+    }
+
+    @Test
+    public void shouldReportAllStatementsOfSlowRequests() {
+
+        StatementDiagnostics diagnostics = StatementDiagnostics.of(new Configuration.Builder()
+            .slowStatementThreshold(0)
+            .largeResultThreshold(1)
+            .build());
+
+        CypherQuery createFolders = new CypherQuery("UNWIND $rows AS row CREATE (n:`Folder`)",
+            Collections.singletonMap("rows", Arrays.asList(1, 2)));
+        CypherQuery createDocuments = new CypherQuery("UNWIND $rows AS row CREATE (n:`Document`)",
+            Collections.singletonMap("rows", Collections.singletonList(3)));
+        diagnostics.checkResponse(Arrays.asList(createFolders, createDocuments), TimeUnit.MILLISECONDS.toNanos(5), 2);
+
+        assertThat(warnings("Slow statement")).isEmpty();
+        assertThat(warnings("Slow request")).anySatisfy(warning -> assertThat(warning)
+            .contains("duration=5ms")
+            .contains("statements=[UNWIND $rows AS row CREATE (n:`Folder`), UNWIND $rows AS row CREATE (n:`Document`)]")
+            .contains("parameterSizes=[{rows=2}, {rows=1}]"));
+        assertThat(warnings("Request with large result")).anySatisfy(warning -> assertThat(warning)
+            .contains("rows=2").contains("parameterSizes=[{rows=2}, {rows=1}]"));
+    }
+
+    @Test
+    public void shouldCountScalarParameterValues() {
+
+        assertThat(StatementDiagnostics.numberOfValues("value")).isEqualTo(1L);
+        assertThat(StatementDiagnostics.numberOfValues(Collections.emptyList())).isEqualTo(0L);
+        assertThat(StatementDiagnostics.numberOfValues(
+            Arrays.asList(Collections.singletonMap("name", "a"), Collections.singletonMap("ids", new long[] { 1, 2 }))))
+            .isEqualTo(3L);
+        assertThat(StatementDiagnostics.numberOfValues(new String[] { "a", "b" })).isEqualTo(2L);
+    }
+
+    private List<String> warnings(String prefix) {
+        return loggerRule.getFormattedMessages().stream()
+            .filter(message -> message.startsWith(prefix))
+            .collect(Collectors.toList());
+    }
+}
@@ -21,6 +21,8 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static org.assertj.core.api.Assertions.*;
 
 import org.junit.Test;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.domain.simple.Person;
 import org.neo4j.ogm.metadata.DomainInfo;
 import org.neo4j.ogm.metadata.schema.DomainInfoSchemaBuilder;
 import org.neo4j.ogm.metadata.schema.Schema;
@@ -108,6 +110,40 @@ public class SchemaNodeLoadClauseBuilderTest {
             " RETURN n,[ [ (n)-[r_c1:`COURCES`]-(c1:`Course`) | [ r_c1, c1, [ [ (c1)<-[r_t2:`TAKES`]-(p2:`Pupil`) | [ r_t2, p2, [ [ (p2)-[r_t3:`TAKES`]->(c3:`Course`) | [ r_t3, c3 ] ], [ (p2)<-[r_t3:`TAUGHT_BY`]-(t3:`Teacher`) | [ r_t3, t3 ] ], [ (p2)-[r_f3:`FRIENDS`]-(p3:`Pupil`) | [ r_f3, p3 ] ] ] ] ] ] ] ] ]");
     }
 
+    @Test
+    public void shouldOnlyExpandPathsOfFetchPlan() {
+        Schema schema = new DomainInfoSchemaBuilder(DomainInfo.create("org.neo4j.ogm.domain.simple")).build();
+        FetchPlan fetchPlan = FetchPlan.of(Person.class).with("location.residents");
+        SchemaNodeLoadClauseBuilder queryBuilder = new SchemaNodeLoadClauseBuilder(schema, fetchPlan);
+
+        String query = queryBuilder.build("n", "Person", 1);
+
+        assertThat(query).isEqualTo(" RETURN n,[ " +
+            "[ (n)-[r_l1:`LIVES_AT`]->(l1:`Location`) | [ r_l1, l1, " +
+            "[ [ (l1)<-[r_l2:`LIVES_AT`]-(p2:`Person`) | [ r_l2, p2 ] ] ] " +
+            "] ] " +
+            "]");
+    }
+
+    @Test
+    public void shouldNotExpandWithEmptyFetchPlan() {
+        Schema schema = new DomainInfoSchemaBuilder(DomainInfo.create("org.neo4j.ogm.domain.simple")).build();
+        SchemaNodeLoadClauseBuilder queryBuilder = new SchemaNodeLoadClauseBuilder(schema, FetchPlan.of(Person.class));
+
+        assertThat(queryBuilder.build("n", "Person", 2)).isEqualTo(" RETURN n");
+    }
+
+    @Test
+    public void shouldRejectUnknownPathsOfFetchPlan() {
+        Schema schema = new DomainInfoSchemaBuilder(DomainInfo.create("org.neo4j.ogm.domain.simple")).build();
+        FetchPlan fetchPlan = FetchPlan.of(Person.class).with("location.owner");
+        SchemaNodeLoadClauseBuilder queryBuilder = new SchemaNodeLoadClauseBuilder(schema, fetchPlan);
+
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> queryBuilder.build("n", "Person", 1))
+            .withMessageStartingWith("Path 'location.owner'");
+    }
+
     private SchemaNodeLoadClauseBuilder createQueryBuilder() {
         DomainInfo domainInfo = DomainInfo.create("org.neo4j.ogm.domain.simple");
         Schema schema = new DomainInfoSchemaBuilder(domainInfo).build();